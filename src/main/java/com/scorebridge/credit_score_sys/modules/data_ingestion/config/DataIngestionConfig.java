@@ -0,0 +1,341 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the data ingestion module.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "data-ingestion")
+public class DataIngestionConfig {
+
+    private Batch batch = new Batch();
+    private Purge purge = new Purge();
+    private Categorization categorization = new Categorization();
+    private Recurring recurring = new Recurring();
+    private Anomaly anomaly = new Anomaly();
+    private Columnar columnar = new Columnar();
+    private Archive archive = new Archive();
+    private Transfers transfers = new Transfers();
+    private Merchants merchants = new Merchants();
+    private Forecast forecast = new Forecast();
+    private Balances balances = new Balances();
+    private Migration migration = new Migration();
+
+    /**
+     * Settings shared by the parallel batches.
+     */
+    @Data
+    public static class Batch {
+
+        /**
+         * Number of connections of the database pool kept free for requests
+         * while a parallel batch runs. Every worker of a batch holds one
+         * connection, so the worker count is capped at the pool size minus
+         * this reserve.
+         */
+        private int reservedConnections = 2;
+    }
+
+    /**
+     * Settings for bulk deletion of accounts and user data.
+     */
+    @Data
+    public static class Purge {
+
+        /**
+         * Maximum number of rows removed by a single bulk DELETE statement.
+         * Each chunk is committed in its own transaction.
+         */
+        private int chunkSize = 1000;
+    }
+
+    /**
+     * Settings for the keyword-based transaction categorizer.
+     */
+    @Data
+    public static class Categorization {
+
+        /**
+         * Location of the merchant/keyword dictionary (any Spring resource
+         * location, e.g. classpath: or file:).
+         */
+        private String dictionaryLocation = "classpath:categorization/merchant-keywords.csv";
+
+        /**
+         * Interval between checks of the dictionary file for changes, in
+         * milliseconds. Only file-based dictionaries are hot-reloaded.
+         */
+        private long reloadIntervalMs = 60_000;
+
+        /**
+         * Number of transactions read and updated per backfill batch.
+         */
+        private int backfillBatchSize = 5_000;
+    }
+
+    /**
+     * Settings for recurring income and bill detection.
+     */
+    @Data
+    public static class Recurring {
+
+        /**
+         * Number of worker threads used by the batch detection over all users,
+         * capped by the database pool size.
+         */
+        private int batchParallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Settings for streaming spend anomaly detection.
+     */
+    @Data
+    public static class Anomaly {
+
+        /**
+         * Weight of the newest transaction in the EWMA mean and variance.
+         */
+        private double smoothingFactor = 0.1;
+
+        /**
+         * Number of standard deviations above the typical amount at which an
+         * expense is flagged.
+         */
+        private double deviationThreshold = 3.0;
+
+        /**
+         * Number of transactions a category needs before anything is flagged.
+         */
+        private int warmupCount = 5;
+
+        /**
+         * Lower bound for the standard deviation of the log amount, so that
+         * categories with near-identical amounts do not flag small changes.
+         */
+        private double minStdDev = 0.1;
+
+        /**
+         * Window in days counted as recent in anomaly summaries.
+         */
+        private int recentWindowDays = 90;
+    }
+
+    /**
+     * Settings for the in-memory columnar transaction cache.
+     */
+    @Data
+    public static class Columnar {
+
+        /**
+         * Heap budget for cached transaction columns, in megabytes. Least
+         * recently used users are evicted beyond it.
+         */
+        private long memoryBudgetMb = 64;
+
+        /**
+         * Maximum number of cached users. Least recently used users are
+         * evicted beyond it.
+         */
+        private int maxUsers = 10000;
+
+        /**
+         * Minutes after which cached columns are reloaded even if the user's
+         * data version has not changed.
+         */
+        private long ttlMinutes = 60;
+    }
+
+    /**
+     * Settings for moving cold transactions to the file archive.
+     */
+    @Data
+    public static class Archive {
+
+        /**
+         * Whether transactions are moved to the archive. Requires a directory.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Absolute path of the directory holding the per-user segment files.
+         * Must be durable storage shared by all instances, e.g. a network
+         * file system mount, since any instance may run the job or serve
+         * history reads.
+         */
+        private String directory = "";
+
+        /**
+         * Transactions older than this many months are moved to the archive.
+         */
+        private int retentionMonths = 24;
+
+        /**
+         * Number of transactions written per segment.
+         */
+        private int batchSize = 10_000;
+
+        /**
+         * Maximum number of archived rows removed from the database by a
+         * single bulk DELETE statement.
+         */
+        private int deleteChunkSize = 1000;
+
+        /**
+         * Longest time an archival run holds the job lease, in minutes. Other
+         * instances skip their runs until the lease ends.
+         */
+        private long leaseMinutes = 240;
+    }
+
+    /**
+     * Settings for matching transfers between a user's own accounts.
+     */
+    @Data
+    public static class Transfers {
+
+        /**
+         * Maximum number of days between the outgoing and incoming side of a
+         * transfer.
+         */
+        private int dateToleranceDays = 3;
+    }
+
+    /**
+     * Settings for the batch job that clusters descriptions into merchants.
+     */
+    @Data
+    public static class Merchants {
+
+        /**
+         * Number of distinct descriptions read per query.
+         */
+        private int pageSize = 10_000;
+
+        /**
+         * Upper bound on the number of normalized descriptions clustered in one
+         * run. Descriptions beyond it keep their normalized form as merchant.
+         */
+        private int maxDistinctDescriptions = 2_000_000;
+
+        /**
+         * Minimum Jaccard similarity of character trigrams for two
+         * descriptions to be merged into one merchant.
+         */
+        private double similarityThreshold = 0.6;
+
+        /**
+         * Number of transactions updated per batch when applying the
+         * dictionary to stored transactions.
+         */
+        private int backfillBatchSize = 5000;
+
+        /**
+         * Interval at which each instance checks for a newer dictionary
+         * version, in milliseconds.
+         */
+        private long reloadIntervalMs = 60_000;
+
+        /**
+         * Longest time a rebuild holds the job lease, in minutes. Other
+         * instances skip their runs until the lease ends.
+         */
+        private long leaseMinutes = 240;
+    }
+
+    /**
+     * Settings for the cash-flow forecasting batch.
+     */
+    @Data
+    public static class Forecast {
+
+        /**
+         * Number of past complete months used as history.
+         */
+        private int historyMonths = 36;
+
+        /**
+         * Smoothing factor of the level, between 0 and 1.
+         */
+        private double levelSmoothing = 0.3;
+
+        /**
+         * Smoothing factor of the trend, between 0 and 1.
+         */
+        private double trendSmoothing = 0.1;
+
+        /**
+         * Smoothing factor of the monthly seasonal components, between 0 and 1.
+         */
+        private double seasonalSmoothing = 0.2;
+
+        /**
+         * Per-month damping of the trend, between 0 and 1, so projections level
+         * off instead of extrapolating a trend indefinitely.
+         */
+        private double trendDamping = 0.9;
+
+        /**
+         * Number of accounts forecast per database round trip and transaction.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Number of worker threads of the nightly batch, capped by the
+         * database pool size.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Time window of the nightly batch in minutes. Accounts not reached
+         * within the window keep their previous forecast.
+         */
+        private int timeBudgetMinutes = 60;
+    }
+
+    /**
+     * Settings for the account balance history.
+     */
+    @Data
+    public static class Balances {
+
+        /**
+         * Snapshots younger than this many days are kept as recorded.
+         */
+        private int rawRetentionDays = 30;
+    }
+
+    /**
+     * Settings for startup data migrations.
+     */
+    @Data
+    public static class Migration {
+
+        /**
+         * Number of transaction IDs covered by one chunk of the encoding
+         * migration. Each chunk is committed in its own transaction.
+         */
+        private int chunkSize = 10_000;
+
+        /**
+         * Whether the encoding migration drops the legacy transaction_type and
+         * category columns once every row is encoded. Only enable this after
+         * every instance runs a version that no longer reads them.
+         */
+        private boolean dropLegacyColumns = false;
+
+        /**
+         * Lease held by the instance running the encoding migration, in
+         * minutes.
+         */
+        private int leaseMinutes = 60;
+    }
+}
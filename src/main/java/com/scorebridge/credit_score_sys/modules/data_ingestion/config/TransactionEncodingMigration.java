@@ -0,0 +1,185 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.config;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionType;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.JobLockService;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Migration of financial_transactions from the string columns
+ * transaction_type and category to the dictionary-encoded columns type_code
+ * and category_id.
+ * <p>
+ * Runs at startup after Hibernate has added the new columns, on the instance
+ * holding the migration's lease in {@link JobLockService}. The legacy string
+ * columns are first made nullable, since this version no longer writes them;
+ * startup fails if that is not possible. Distinct category names are then
+ * copied into transaction_categories and the code columns are filled in
+ * ID-range chunks of one transaction each. Rows written meanwhile by instances
+ * of an older version are encoded by the next run. The string columns are
+ * only dropped when data-ingestion.migration.drop-legacy-columns is set and
+ * every row is encoded, so a rolling deployment keeps working; on a database
+ * without the string columns the migration does nothing.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class TransactionEncodingMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionEncodingMigration.class);
+
+    private static final String TABLE = "financial_transactions";
+
+    private static final String JOB_NAME = "transaction-encoding-migration";
+
+    private static final List<String> LEGACY_COLUMNS = List.of("transaction_type", "category");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLockService jobLockService;
+    private final DataIngestionConfig config;
+
+    /**
+     * Migrates existing rows if the string columns are still present.
+     *
+     * @throws IllegalStateException if the string columns cannot be made
+     *                               nullable
+     */
+    @PostConstruct
+    public void migrate() {
+        if (column(TABLE, "transaction_type") == null || column(TABLE, "category") == null) {
+            return;
+        }
+        jobLockService.runExclusively(JOB_NAME, Duration.ofMinutes(config.getMigration().getLeaseMinutes()),
+                this::encode);
+
+        for (String name : LEGACY_COLUMNS) {
+            ColumnInfo info = column(TABLE, name);
+            if (info != null && !info.nullable()) {
+                throw new IllegalStateException("Column " + TABLE + "." + name + " is still NOT NULL; "
+                        + "transactions cannot be saved until the encoding migration has relaxed it");
+            }
+        }
+    }
+
+    private void encode() {
+        logger.info("Dictionary-encoding transaction types and categories");
+        for (String name : LEGACY_COLUMNS) {
+            relaxNotNull(name);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO transaction_categories (name) SELECT DISTINCT ft.category FROM " + TABLE + " ft " +
+                        "WHERE ft.category IS NOT NULL AND NOT EXISTS " +
+                        "(SELECT 1 FROM transaction_categories c WHERE c.name = ft.category)"));
+
+        StringBuilder typeCase = new StringBuilder("CASE transaction_type");
+        for (TransactionType type : TransactionType.values()) {
+            typeCase.append(" WHEN '").append(type.name()).append("' THEN ").append(type.getCode());
+        }
+        typeCase.append(" END");
+        String update = "UPDATE " + TABLE + " SET type_code = " + typeCase + ", category_id = " +
+                "(SELECT c.id FROM transaction_categories c WHERE c.name = " + TABLE + ".category) " +
+                "WHERE id >= ? AND id < ? AND (type_code IS NULL OR category_id IS NULL) " +
+                "AND transaction_type IS NOT NULL AND category IS NOT NULL";
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + TABLE, Long.class);
+        long chunkSize = config.getMigration().getChunkSize();
+        long encoded = 0;
+        for (long from = 0; maxId != null && from <= maxId; from += chunkSize) {
+            long lower = from;
+            Integer rows = transactionTemplate.execute(status -> jdbcTemplate.update(update, lower,
+                    lower + chunkSize));
+            encoded += rows == null ? 0 : rows;
+        }
+        logger.info("Encoded {} transactions", encoded);
+
+        if (!config.getMigration().isDropLegacyColumns()) {
+            return;
+        }
+        Long remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " WHERE type_code IS NULL OR category_id IS NULL", Long.class);
+        if (remaining != null && remaining > 0) {
+            logger.error("{} transactions could not be encoded; keeping the string columns", remaining);
+            return;
+        }
+        for (String name : LEGACY_COLUMNS) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP COLUMN " + name);
+        }
+        logger.info("Dropped the legacy string columns of {}", TABLE);
+    }
+
+    /**
+     * Makes a legacy column nullable, using the syntax of the connected
+     * database.
+     *
+     * @throws IllegalStateException if the database is not supported
+     */
+    private void relaxNotNull(String name) {
+        ColumnInfo info = column(TABLE, name);
+        if (info == null || info.nullable()) {
+            return;
+        }
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        String sql;
+        if ("MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product)) {
+            sql = "ALTER TABLE " + TABLE + " MODIFY COLUMN " + name + " VARCHAR(" + info.size() + ") NULL";
+        } else if ("H2".equalsIgnoreCase(product)) {
+            sql = "ALTER TABLE " + TABLE + " ALTER COLUMN " + name + " SET NULL";
+        } else if ("PostgreSQL".equalsIgnoreCase(product)) {
+            sql = "ALTER TABLE " + TABLE + " ALTER COLUMN " + name + " DROP NOT NULL";
+        } else {
+            throw new IllegalStateException("Cannot make " + TABLE + "." + name + " nullable on " + product
+                    + "; alter the column manually before starting this version");
+        }
+        jdbcTemplate.execute(sql);
+        logger.info("Made legacy column {}.{} nullable", TABLE, name);
+    }
+
+    /**
+     * Nullability and size of an existing column.
+     */
+    private record ColumnInfo(boolean nullable, int size) {
+    }
+
+    /**
+     * Looks up a column, regardless of the identifier case the database
+     * reports.
+     *
+     * @return the column's metadata, or null if it does not exist
+     */
+    private ColumnInfo column(String table, String column) {
+        return jdbcTemplate.execute((ConnectionCallback<ColumnInfo>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String[] names : new String[][] { { table, column },
+                    { table.toUpperCase(), column.toUpperCase() } }) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, names[0], names[1])) {
+                    if (columns.next()) {
+                        return new ColumnInfo(columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls,
+                                columns.getInt("COLUMN_SIZE"));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -1,7 +1,9 @@
 package com.scorebridge.credit_score_sys.modules.data_ingestion.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,14 +15,32 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.BalanceHistory;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.CashFlowForecastSummary;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialAccountDto;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialAccountResponse;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialProfileRequest;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialProfileResponse;
-import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
-import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.RecurringStreamSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.SpendingSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionAnomalySummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionSearchResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransferResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.BalanceHistoryService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.CashFlowForecastService;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.service.DataIngestionService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.MerchantDictionaryService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.RecurringStreamService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.SpendingAnalysisService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TransactionAnomalyService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TransactionArchiveService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TransferMatchingService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TransactionCategorizationService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TransactionSearchService;
 import com.scorebridge.credit_score_sys.modules.user.dto.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,6 +68,16 @@ import lombok.RequiredArgsConstructor;
 public class DataIngestionController {
 
     private final DataIngestionService dataIngestionService;
+    private final TransactionCategorizationService categorizationService;
+    private final MerchantDictionaryService merchantDictionaryService;
+    private final RecurringStreamService recurringStreamService;
+    private final TransactionAnomalyService anomalyService;
+    private final SpendingAnalysisService spendingAnalysisService;
+    private final TransactionArchiveService archiveService;
+    private final TransferMatchingService transferMatchingService;
+    private final TransactionSearchService searchService;
+    private final CashFlowForecastService forecastService;
+    private final BalanceHistoryService balanceHistoryService;
 
     /**
      * Saves a complete financial profile for a user.
@@ -81,11 +111,11 @@ public class DataIngestionController {
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get user accounts", description = "Retrieves all financial accounts for a specific user")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Accounts retrieved successfully", content = @Content(schema = @Schema(implementation = FinancialAccount.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Accounts retrieved successfully", content = @Content(schema = @Schema(implementation = FinancialAccountResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
-    public ResponseEntity<List<FinancialAccount>> getUserAccounts(@PathVariable Long userId) {
-        List<FinancialAccount> accounts = dataIngestionService.getUserAccounts(userId);
+    public ResponseEntity<List<FinancialAccountResponse>> getUserAccounts(@PathVariable Long userId) {
+        List<FinancialAccountResponse> accounts = dataIngestionService.getUserAccounts(userId);
         return ResponseEntity.ok(accounts);
     }
 
@@ -99,12 +129,12 @@ public class DataIngestionController {
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get account by ID", description = "Retrieves a specific financial account by its ID")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Account retrieved successfully", content = @Content(schema = @Schema(implementation = FinancialAccount.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Account retrieved successfully", content = @Content(schema = @Schema(implementation = FinancialAccountResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Account not found", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
-    public ResponseEntity<FinancialAccount> getAccountById(@PathVariable Long accountId) {
-        FinancialAccount account = dataIngestionService.getAccountById(accountId);
+    public ResponseEntity<FinancialAccountResponse> getAccountById(@PathVariable Long accountId) {
+        FinancialAccountResponse account = dataIngestionService.getAccountById(accountId);
         return ResponseEntity.ok(account);
     }
 
@@ -118,12 +148,12 @@ public class DataIngestionController {
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Get account transactions", description = "Retrieves all transactions for a specific financial account")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Transactions retrieved successfully", content = @Content(schema = @Schema(implementation = FinancialTransactions.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Transactions retrieved successfully", content = @Content(schema = @Schema(implementation = TransactionResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Account not found", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
-    public ResponseEntity<List<FinancialTransactions>> getAccountTransactions(@PathVariable Long accountId) {
-        List<FinancialTransactions> transactions = dataIngestionService.getAccountTransactions(accountId);
+    public ResponseEntity<List<TransactionResponse>> getAccountTransactions(@PathVariable Long accountId) {
+        List<TransactionResponse> transactions = dataIngestionService.getAccountTransactions(accountId);
         return ResponseEntity.ok(transactions);
     }
 
@@ -138,15 +168,15 @@ public class DataIngestionController {
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Update account", description = "Updates an existing financial account")
     @ApiResponses(value = {
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Account updated successfully", content = @Content(schema = @Schema(implementation = FinancialAccount.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Account updated successfully", content = @Content(schema = @Schema(implementation = FinancialAccountResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Account not found", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
-    public ResponseEntity<FinancialAccount> updateAccount(
+    public ResponseEntity<FinancialAccountResponse> updateAccount(
             @PathVariable Long accountId,
             @Valid @RequestBody FinancialAccountDto accountDto) {
-        FinancialAccount updatedAccount = dataIngestionService.updateAccount(accountId, accountDto);
+        FinancialAccountResponse updatedAccount = dataIngestionService.updateAccount(accountId, accountDto);
         return ResponseEntity.ok(updatedAccount);
     }
 
@@ -168,4 +198,349 @@ public class DataIngestionController {
         dataIngestionService.deleteAccount(accountId);
         return ResponseEntity.ok(ApiResponse.success("Account deleted successfully", null));
     }
+
+    /**
+     * Deletes all financial accounts, transactions and credit scores of a user.
+     * Only the user themselves or an administrator may purge the data.
+     *
+     * @param userId the ID of the user whose data should be purged
+     * @return success message with the number of deleted accounts
+     */
+    @DeleteMapping("/users/{userId}")
+    @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.id")
+    @Operation(summary = "Purge user data", description = "Deletes all financial accounts, transactions and credit scores of a user")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "User data purged successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "User not found", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - only the user or an ADMIN may purge this data", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Integer>> purgeUserData(@PathVariable Long userId) {
+        int deletedAccounts = dataIngestionService.purgeUserData(userId);
+        return ResponseEntity.ok(ApiResponse.success("User data purged successfully", deletedAccounts));
+    }
+
+    /**
+     * Reloads the merchant/keyword dictionary used for categorization.
+     *
+     * @return success message with the number of keywords loaded
+     */
+    @PostMapping("/categorization/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reload categorization dictionary", description = "Recompiles the merchant/keyword dictionary used to categorize transactions")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Dictionary reloaded successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Dictionary could not be loaded", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Integer>> reloadCategorization() {
+        int keywords = categorizationService.reload();
+        return ResponseEntity.ok(ApiResponse.success("Categorization dictionary reloaded", keywords));
+    }
+
+    /**
+     * Re-categorizes all stored transactions with the current dictionary.
+     *
+     * @return success message with the number of updated transactions
+     */
+    @PostMapping("/categorization/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Backfill transaction categories", description = "Applies the categorization dictionary to all stored transactions")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Backfill completed", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Long>> backfillCategories() {
+        long updated = categorizationService.backfill();
+        return ResponseEntity.ok(ApiResponse.success("Categorization backfill completed", updated));
+    }
+
+    /**
+     * Rebuilds the merchant dictionary and applies it to stored transactions.
+     *
+     * @return success message with the number of updated transactions
+     */
+    @PostMapping("/merchants/cluster")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cluster merchants", description = "Groups near-duplicate transaction descriptions into merchants and updates stored transactions")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Merchant dictionary rebuilt", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Long>> clusterMerchants() {
+        long updated = merchantDictionaryService.rebuildAndBackfill();
+        return ResponseEntity.ok(ApiResponse.success("Merchant dictionary rebuilt", updated));
+    }
+
+    /**
+     * Retrieves the recurring income and bill streams detected for a user.
+     *
+     * @param userId the ID of the user
+     * @return summary of the detected streams
+     */
+    @GetMapping("/users/{userId}/recurring-streams")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get recurring streams", description = "Retrieves recurring income and bill streams detected in a user's transactions")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Streams retrieved successfully", content = @Content(schema = @Schema(implementation = RecurringStreamSummary.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<RecurringStreamSummary> getRecurringStreams(@PathVariable Long userId) {
+        return ResponseEntity.ok(recurringStreamService.getSummary(userId));
+    }
+
+    /**
+     * Re-runs recurring stream detection for all users.
+     *
+     * @return success message with the number of users processed
+     */
+    @PostMapping("/recurring-streams/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Refresh recurring streams", description = "Re-detects recurring income and bill streams for all users in parallel")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Detection completed", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Integer>> refreshRecurringStreams() {
+        int users = recurringStreamService.refreshAllUsers();
+        return ResponseEntity.ok(ApiResponse.success("Recurring stream detection completed", users));
+    }
+
+    /**
+     * Retrieves the unusual expenses flagged for a user during ingestion.
+     *
+     * @param userId the ID of the user
+     * @return summary of the flagged expenses
+     */
+    @GetMapping("/users/{userId}/anomalies")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get transaction anomalies", description = "Retrieves expenses flagged as far outside the usual range for their account and category")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Anomalies retrieved successfully", content = @Content(schema = @Schema(implementation = TransactionAnomalySummary.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<TransactionAnomalySummary> getAnomalies(@PathVariable Long userId) {
+        return ResponseEntity.ok(anomalyService.getSummary(userId));
+    }
+
+    /**
+     * Summarizes a user's income and spending over the last months.
+     *
+     * @param userId the ID of the user
+     * @param months the number of months to analyze
+     * @return the spending summary
+     */
+    @GetMapping("/users/{userId}/spending-summary")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get spending summary", description = "Summarizes income, expenses, savings rate and expenses per category over recent months")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Summary retrieved successfully", content = @Content(schema = @Schema(implementation = SpendingSummary.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid number of months", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<SpendingSummary> getSpendingSummary(@PathVariable Long userId,
+            @RequestParam(defaultValue = "12") int months) {
+        return ResponseEntity.ok(spendingAnalysisService.getSummary(userId, months));
+    }
+
+    /**
+     * Retrieves a user's transactions within a date range, including those moved
+     * to the cold archive.
+     *
+     * @param userId    the ID of the user
+     * @param startDate the start date (inclusive)
+     * @param endDate   the end date (inclusive)
+     * @return list of transactions, newest first
+     */
+    @GetMapping("/users/{userId}/transactions")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get transaction history", description = "Retrieves a user's transactions within a date range from both the database and the archive")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Transactions retrieved successfully", content = @Content(schema = @Schema(implementation = TransactionResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<List<TransactionResponse>> getTransactionHistory(@PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(archiveService.getUserHistory(userId, startDate, endDate));
+    }
+
+    /**
+     * Searches a user's transactions by description and category terms.
+     *
+     * @param userId    the ID of the user
+     * @param q         the terms that must all occur; a trailing '*' marks a prefix
+     * @param startDate the start date (inclusive), optional
+     * @param endDate   the end date (inclusive), optional
+     * @param page      zero-based page number
+     * @param size      number of results per page
+     * @return one page of matching transactions, newest first
+     */
+    @GetMapping("/users/{userId}/transactions/search")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Search transactions", description = "Finds a user's transactions whose description or category contains all query terms, e.g. 'amazon prime' or 'amaz*'")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search completed successfully", content = @Content(schema = @Schema(implementation = TransactionSearchResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty query or invalid page", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<TransactionSearchResponse> searchTransactions(@PathVariable Long userId,
+            @RequestParam String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.search(userId, q, startDate, endDate, page, size));
+    }
+
+    /**
+     * Rebuilds the transaction search index from the database.
+     *
+     * @return success message with the number of indexed transactions
+     */
+    @PostMapping("/search/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild search index", description = "Re-indexes the description and category terms of all stored transactions")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Index rebuilt", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Long>> rebuildSearchIndex() {
+        long indexed = searchService.rebuildIndex();
+        return ResponseEntity.ok(ApiResponse.success("Search index rebuilt", indexed));
+    }
+
+    /**
+     * Moves transactions older than the retention window to the archive.
+     *
+     * @return success message with the number of archived transactions
+     */
+    @PostMapping("/archive/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Archive cold transactions", description = "Moves transactions older than the retention window from the database to the file archive")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Archival completed", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Long>> archiveTransactions() {
+        long archived = archiveService.archiveColdTransactions();
+        return ResponseEntity.ok(ApiResponse.success("Transaction archival completed", archived));
+    }
+
+    /**
+     * Retrieves the transfers between a user's own accounts.
+     *
+     * @param userId the ID of the user
+     * @return list of transfer links, most recent first
+     */
+    @GetMapping("/users/{userId}/transfers")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get internal transfers", description = "Retrieves matched transfers between a user's own accounts, which are excluded from income and spending analytics")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Transfers retrieved successfully", content = @Content(schema = @Schema(implementation = TransferResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<List<TransferResponse>> getTransfers(@PathVariable Long userId) {
+        return ResponseEntity.ok(transferMatchingService.getTransfers(userId));
+    }
+
+    /**
+     * Re-runs transfer matching for all users.
+     *
+     * @return success message with the number of new links
+     */
+    @PostMapping("/transfers/match")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Match internal transfers", description = "Matches transfers between accounts of the same user across all users")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Matching completed", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Integer>> matchTransfers() {
+        int linked = transferMatchingService.matchAllUsers();
+        return ResponseEntity.ok(ApiResponse.success("Transfer matching completed", linked));
+    }
+
+    /**
+     * Retrieves the projected 30, 60 and 90 day balances of a user's accounts.
+     *
+     * @param userId the ID of the user
+     * @return summary of the account forecasts
+     */
+    @GetMapping("/users/{userId}/forecasts")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get cash-flow forecasts", description = "Retrieves the projected 30, 60 and 90 day balances of a user's accounts")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Forecasts retrieved successfully", content = @Content(schema = @Schema(implementation = CashFlowForecastSummary.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<CashFlowForecastSummary> getForecasts(@PathVariable Long userId) {
+        return ResponseEntity.ok(forecastService.getSummary(userId));
+    }
+
+    /**
+     * Recomputes the cash-flow forecasts of all accounts.
+     *
+     * @return success message with the number of forecast accounts
+     */
+    @PostMapping("/forecasts/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Run forecast batch", description = "Recomputes the cash-flow forecasts of all accounts")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Forecasts computed", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<ApiResponse<Long>> runForecasts() {
+        long accounts = forecastService.forecastAllAccounts();
+        return ResponseEntity.ok(ApiResponse.success("Forecast batch completed", accounts));
+    }
+
+    /**
+     * Retrieves the daily balance history of an account.
+     *
+     * @param accountId the ID of the account
+     * @param months    the number of months to return
+     * @return the account's balance history
+     */
+    @GetMapping("/accounts/{accountId}/balance-history")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get account balance history", description = "Retrieves the balance at the end of each day on which an account's balance changed")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "History retrieved successfully", content = @Content(schema = @Schema(implementation = BalanceHistory.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid number of months", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Account not found", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<BalanceHistory> getAccountBalanceHistory(@PathVariable Long accountId,
+            @RequestParam(defaultValue = "12") int months) {
+        return ResponseEntity.ok(balanceHistoryService.getAccountHistory(accountId, months));
+    }
+
+    /**
+     * Retrieves the combined daily balance history of a user's accounts.
+     *
+     * @param userId the ID of the user
+     * @param months the number of months to return
+     * @return the user's balance history
+     */
+    @GetMapping("/users/{userId}/balance-history")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get user balance history", description = "Retrieves the combined balance of a user's accounts at the end of each day on which it changed")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "History retrieved successfully", content = @Content(schema = @Schema(implementation = BalanceHistory.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid number of months", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized - authentication required", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<BalanceHistory> getUserBalanceHistory(@PathVariable Long userId,
+            @RequestParam(defaultValue = "12") int months) {
+        return ResponseEntity.ok(balanceHistoryService.getUserHistory(userId, months));
+    }
 }
@@ -0,0 +1,27 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the current balance of an account together with
+ * its owner.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalance {
+
+    private Long accountId;
+
+    private Long userId;
+
+    private Double currentBalance;
+}
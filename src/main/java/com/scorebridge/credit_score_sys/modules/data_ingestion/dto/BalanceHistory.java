@@ -0,0 +1,50 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the balance history of an account, or of all
+ * accounts of a user combined.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceHistory {
+
+    /**
+     * ID of the user the history belongs to.
+     */
+    private Long userId;
+
+    /**
+     * ID of the account, or null for the combined history of all accounts.
+     */
+    private Long accountId;
+
+    /**
+     * First day of the requested range.
+     */
+    private LocalDate startDate;
+
+    /**
+     * Last day of the requested range.
+     */
+    private LocalDate endDate;
+
+    /**
+     * Balance at the end of each day on which it changed, oldest first. The
+     * first point carries the balance from before the range, if any.
+     */
+    private List<BalancePoint> points;
+}
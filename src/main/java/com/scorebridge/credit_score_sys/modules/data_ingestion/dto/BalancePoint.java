@@ -0,0 +1,26 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a balance at the end of a day.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalancePoint {
+
+    private LocalDate date;
+
+    private Double balance;
+}
@@ -0,0 +1,55 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.util.List;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.AccountForecast;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object summarizing the cash-flow forecasts of a user's
+ * accounts. Used as forward-looking features for scoring.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowForecastSummary {
+
+    /**
+     * ID of the user the forecasts belong to.
+     */
+    private Long userId;
+
+    /**
+     * Current balance across all forecast accounts.
+     */
+    private Double currentBalance;
+
+    /**
+     * Projected balance across all accounts in 30 days.
+     */
+    private Double projectedBalance30;
+
+    /**
+     * Projected balance across all accounts in 60 days.
+     */
+    private Double projectedBalance60;
+
+    /**
+     * Projected balance across all accounts in 90 days.
+     */
+    private Double projectedBalance90;
+
+    /**
+     * Per-account forecasts.
+     */
+    private List<AccountForecast> accounts;
+}
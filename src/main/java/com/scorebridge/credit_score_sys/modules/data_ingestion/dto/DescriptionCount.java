@@ -0,0 +1,31 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object pairing a distinct transaction description with the
+ * number of transactions that use it. Used by merchant clustering.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DescriptionCount {
+
+    /**
+     * The raw transaction description.
+     */
+    private String description;
+
+    /**
+     * Number of transactions with this description.
+     */
+    private Long transactionCount;
+}
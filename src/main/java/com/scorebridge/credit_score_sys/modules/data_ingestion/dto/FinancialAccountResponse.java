@@ -0,0 +1,74 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read model for a financial account returned by the ingestion APIs.
+ * Fetched with a single aggregate query so that serialization never touches
+ * the lazy user or transactions associations of the entity.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialAccountResponse {
+
+    /**
+     * ID of the account.
+     */
+    private Long id;
+
+    /**
+     * Name of the financial institution.
+     */
+    private String institutionName;
+
+    /**
+     * Type of account (checking, savings, credit_card, investment).
+     */
+    private String accountType;
+
+    /**
+     * Last 4 digits of the account number (optional).
+     */
+    private String accountNumberLast4;
+
+    /**
+     * Current balance in the account.
+     */
+    private Double currentBalance;
+
+    /**
+     * Number of transactions recorded for the account.
+     */
+    private Long transactionCount;
+
+    /**
+     * Sum of all INCOME transactions for the account.
+     */
+    private Double totalIncome;
+
+    /**
+     * Sum of all EXPENSE transactions for the account.
+     */
+    private Double totalExpenses;
+
+    /**
+     * Timestamp when the account was created.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the account was last updated.
+     */
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the net flow (income minus expenses) of one account
+ * in one calendar month.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyNetFlow {
+
+    private Long accountId;
+
+    private Integer year;
+
+    private Integer month;
+
+    /**
+     * Income minus expenses of the month.
+     */
+    private Double netAmount;
+}
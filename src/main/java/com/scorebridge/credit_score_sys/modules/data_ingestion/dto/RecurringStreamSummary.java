@@ -0,0 +1,55 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.util.List;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.RecurringStream;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object summarizing the recurring income and bill streams
+ * detected for a user. Used as observed features for scoring.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringStreamSummary {
+
+    /**
+     * ID of the user the streams belong to.
+     */
+    private Long userId;
+
+    /**
+     * Number of detected recurring income streams.
+     */
+    private Integer incomeStreamCount;
+
+    /**
+     * Number of detected recurring bill streams.
+     */
+    private Integer billStreamCount;
+
+    /**
+     * Sum of recurring income normalized to a monthly amount.
+     */
+    private Double monthlyRecurringIncome;
+
+    /**
+     * Sum of recurring bills normalized to a monthly amount.
+     */
+    private Double monthlyRecurringBills;
+
+    /**
+     * The detected streams.
+     */
+    private List<RecurringStream> streams;
+}
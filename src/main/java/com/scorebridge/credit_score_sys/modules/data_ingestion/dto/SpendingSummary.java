@@ -0,0 +1,68 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object summarizing a user's income and spending over a recent
+ * window of months. Used as observed features for scoring.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendingSummary {
+
+    /**
+     * ID of the user the summary belongs to.
+     */
+    private Long userId;
+
+    /**
+     * Length of the analyzed window in months.
+     */
+    private Integer months;
+
+    /**
+     * Total number of transactions on record for the user.
+     */
+    private Integer transactionCount;
+
+    /**
+     * Total income within the window.
+     */
+    private Double totalIncome;
+
+    /**
+     * Total expenses within the window.
+     */
+    private Double totalExpenses;
+
+    /**
+     * Average income per month within the window.
+     */
+    private Double averageMonthlyIncome;
+
+    /**
+     * Average expenses per month within the window.
+     */
+    private Double averageMonthlyExpenses;
+
+    /**
+     * Share of income not spent, (income - expenses) / income; 0 without income.
+     */
+    private Double savingsRate;
+
+    /**
+     * Expenses within the window per category.
+     */
+    private Map<String, Double> expensesByCategory;
+}
@@ -0,0 +1,50 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.util.List;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionAnomaly;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object summarizing the unusual expenses flagged for a user.
+ * Used as an observed feature for scoring.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionAnomalySummary {
+
+    /**
+     * ID of the user the anomalies belong to.
+     */
+    private Long userId;
+
+    /**
+     * Total number of flagged expenses.
+     */
+    private Long totalAnomalies;
+
+    /**
+     * Number of flagged expenses within the recent window.
+     */
+    private Long recentAnomalies;
+
+    /**
+     * Length of the recent window in days.
+     */
+    private Integer recentWindowDays;
+
+    /**
+     * The flagged expenses, most recent first.
+     */
+    private List<TransactionAnomaly> anomalies;
+}
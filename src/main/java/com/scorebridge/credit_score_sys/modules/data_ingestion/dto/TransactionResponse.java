@@ -0,0 +1,69 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read model for a single transaction returned by the ingestion APIs.
+ * Carries the owning account ID instead of the lazy account association.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionResponse {
+
+    /**
+     * ID of the transaction.
+     */
+    private Long id;
+
+    /**
+     * ID of the account the transaction belongs to.
+     */
+    private Long accountId;
+
+    /**
+     * Transaction amount.
+     */
+    private Double amount;
+
+    /**
+     * Transaction type: INCOME or EXPENSE.
+     */
+    private String transactionType;
+
+    /**
+     * Transaction category.
+     */
+    private String category;
+
+    /**
+     * Optional description of the transaction.
+     */
+    private String description;
+
+    /**
+     * Normalized merchant name derived from the description.
+     */
+    private String merchant;
+
+    /**
+     * Date when the transaction occurred.
+     */
+    private LocalDate transactionDate;
+
+    /**
+     * Timestamp when the transaction was recorded.
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a transaction matched by one search term, before
+ * the transaction itself is loaded.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSearchHit {
+
+    /**
+     * ID of the matched transaction.
+     */
+    private Long transactionId;
+
+    /**
+     * Date of the matched transaction.
+     */
+    private LocalDate transactionDate;
+}
@@ -0,0 +1,52 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one page of transaction search results.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSearchResponse {
+
+    /**
+     * ID of the user whose transactions were searched.
+     */
+    private Long userId;
+
+    /**
+     * The search query as given.
+     */
+    private String query;
+
+    /**
+     * Zero-based page number.
+     */
+    private Integer page;
+
+    /**
+     * Maximum number of results per page.
+     */
+    private Integer size;
+
+    /**
+     * Total number of matching transactions.
+     */
+    private Integer totalResults;
+
+    /**
+     * Matching transactions on this page, newest first.
+     */
+    private List<TransactionResponse> results;
+}
@@ -0,0 +1,69 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read model for a transfer between two accounts of the same user, as returned
+ * by the ingestion APIs.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferResponse {
+
+    /**
+     * ID of the transfer link.
+     */
+    private Long id;
+
+    /**
+     * ID of the EXPENSE transaction on the source account.
+     */
+    private Long outgoingTransactionId;
+
+    /**
+     * ID of the source account.
+     */
+    private Long outgoingAccountId;
+
+    /**
+     * ID of the INCOME transaction on the target account.
+     */
+    private Long incomingTransactionId;
+
+    /**
+     * ID of the target account.
+     */
+    private Long incomingAccountId;
+
+    /**
+     * Amount moved between the accounts.
+     */
+    private Double amount;
+
+    /**
+     * Date of the outgoing transaction.
+     */
+    private LocalDate outgoingDate;
+
+    /**
+     * Date of the incoming transaction.
+     */
+    private LocalDate incomingDate;
+
+    /**
+     * When the transfer was detected.
+     */
+    private LocalDateTime detectedAt;
+}
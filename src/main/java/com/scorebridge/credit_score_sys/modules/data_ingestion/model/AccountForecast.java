@@ -0,0 +1,79 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity holding the latest cash-flow forecast of an account: its balance
+ * projected 30, 60 and 90 days ahead from the monthly net flow of its
+ * transactions.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "account_forecasts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_forecast_account", columnNames = "account_id")
+}, indexes = {
+        @jakarta.persistence.Index(name = "idx_forecast_user", columnList = "user_id")
+})
+public class AccountForecast {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "account_id")
+    private Long accountId;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, name = "current_balance")
+    private Double currentBalance;
+
+    /**
+     * Expected net flow (income minus expenses) of the next month.
+     */
+    @Column(nullable = false, name = "expected_monthly_net")
+    private Double expectedMonthlyNet;
+
+    @Column(nullable = false, name = "projected_balance_30")
+    private Double projectedBalance30;
+
+    @Column(nullable = false, name = "projected_balance_60")
+    private Double projectedBalance60;
+
+    @Column(nullable = false, name = "projected_balance_90")
+    private Double projectedBalance90;
+
+    /**
+     * Number of months of history the forecast is based on.
+     */
+    @Column(nullable = false, name = "history_months")
+    private Integer historyMonths;
+
+    /**
+     * Forecasting method used: SEASONAL, TREND, AVERAGE or NONE.
+     */
+    @Column(nullable = false, name = "method", length = 10)
+    private String method;
+
+    @Column(nullable = false, name = "computed_at")
+    private LocalDateTime computedAt;
+}
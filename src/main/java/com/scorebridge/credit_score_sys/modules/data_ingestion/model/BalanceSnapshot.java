@@ -0,0 +1,63 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity recording the balance of an account at a point in time. Rows are only
+ * appended: one on ingest and one on every balance change. Rows older than the
+ * raw retention window are downsampled to the last snapshot of each day.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "account_balance_snapshots", indexes = {
+        @jakarta.persistence.Index(name = "idx_balance_account_date", columnList = "account_id, snapshot_date"),
+        @jakarta.persistence.Index(name = "idx_balance_user_date", columnList = "user_id, snapshot_date")
+})
+public class BalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "account_id")
+    private Long accountId;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, name = "balance")
+    private Double balance;
+
+    /**
+     * Day of the snapshot, used for range queries and downsampling.
+     */
+    @Column(nullable = false, name = "snapshot_date")
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false, name = "recorded_at")
+    private LocalDateTime recordedAt;
+
+    /**
+     * What caused the snapshot: INGEST or UPDATE.
+     */
+    @Column(nullable = false, name = "source", length = 10)
+    private String source;
+}
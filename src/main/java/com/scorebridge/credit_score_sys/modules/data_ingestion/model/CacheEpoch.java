@@ -0,0 +1,41 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity holding the global epoch of a cache shared by all instances.
+ * Incrementing the epoch invalidates every entry of the cache on every
+ * instance with a single row update.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "cache_epochs")
+public class CacheEpoch {
+
+    /**
+     * Name of the cache.
+     */
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    /**
+     * Current epoch of the cache.
+     */
+    @Column(nullable = false, name = "epoch")
+    private Long epoch;
+}
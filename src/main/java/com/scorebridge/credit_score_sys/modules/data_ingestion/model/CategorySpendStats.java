@@ -0,0 +1,72 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity holding the streaming spend statistics of one expense category for a
+ * user, across all of the user's accounts. The mean and variance are exponentially weighted moving averages
+ * of the log amount, so each new transaction is scored and folded in with a
+ * constant amount of work and no history scan.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_category_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_category_stats", columnNames = { "user_id", "category" })
+})
+public class CategorySpendStats {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, name = "category", length = 100)
+    private String category;
+
+    /**
+     * EWMA of the log amount.
+     */
+    @Column(nullable = false, name = "ewma_mean")
+    private Double ewmaMean;
+
+    /**
+     * EWMA variance of the log amount.
+     */
+    @Column(nullable = false, name = "ewma_variance")
+    private Double ewmaVariance;
+
+    /**
+     * Number of transactions folded into the statistics.
+     */
+    @Column(nullable = false, name = "observation_count")
+    private Long observationCount;
+
+    /**
+     * Number of transactions flagged as anomalous.
+     */
+    @Column(nullable = false, name = "anomaly_count")
+    private Long anomalyCount;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
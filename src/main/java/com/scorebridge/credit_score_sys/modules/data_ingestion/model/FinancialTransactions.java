@@ -7,6 +7,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
@@ -51,15 +52,22 @@ public class FinancialTransactions {
     @Column(nullable = false, name = "amount")
     private Double amount;
 
-    @Column(nullable = false, name = "transaction_type", length = 20)
+    // Dictionary-encoded; nullable only so the columns can be added to
+    // populated tables, see TransactionEncodingMigration
+    @Convert(converter = TransactionTypeConverter.class)
+    @Column(nullable = true, name = "type_code")
     private String transactionType;
 
-    @Column(nullable = false, name = "category", length = 100)
+    @Convert(converter = TransactionCategoryConverter.class)
+    @Column(nullable = true, name = "category_id")
     private String category;
 
     @Column(nullable = true, name = "description", length = 255)
     private String description;
 
+    @Column(nullable = true, name = "merchant", length = 100)
+    private String merchant;
+
     @Column(nullable = false, name = "transaction_date")
     private java.time.LocalDate transactionDate;
     /**
@@ -0,0 +1,48 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity holding the lease of a scheduled job that must run on one instance
+ * at a time. An instance owns the job while locked_until lies in the future.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_locks")
+public class JobLock {
+
+    /**
+     * Name of the job.
+     */
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    /**
+     * End of the current lease.
+     */
+    @Column(nullable = false, name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * Instance holding or last holding the lease.
+     */
+    @Column(nullable = false, name = "locked_by", length = 100)
+    private String lockedBy;
+}
@@ -0,0 +1,62 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity mapping a normalized transaction description to the canonical
+ * merchant of its cluster, e.g. "amzn mktp us" to "amazon". Only descriptions
+ * that differ from their merchant are stored; any other description is its own
+ * merchant. Every rebuild writes its aliases under a new
+ * {@link MerchantDictionaryVersion}.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "merchant_dictionary_aliases", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_merchant_alias_version_key", columnNames = { "dictionary_version",
+                "description_key" })
+})
+public class MerchantAlias {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the dictionary version the alias belongs to.
+     */
+    @Column(nullable = false, name = "dictionary_version")
+    private Long dictionaryVersion;
+
+    /**
+     * Normalized description.
+     */
+    @Column(nullable = false, name = "description_key", length = 100)
+    private String descriptionKey;
+
+    /**
+     * Canonical merchant name of the description's cluster.
+     */
+    @Column(nullable = false, name = "merchant_name", length = 100)
+    private String merchantName;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,51 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity recording one build of the merchant dictionary. Aliases are written
+ * under a version that is not yet completed; completing it in a single update
+ * makes the whole dictionary visible at once. The newest completed version is
+ * the active one.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "merchant_dictionary_versions")
+public class MerchantDictionaryVersion {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Whether all aliases of the version have been written.
+     */
+    @Column(nullable = false, name = "completed")
+    private Boolean completed;
+
+    /**
+     * Number of aliases in the version.
+     */
+    @Column(nullable = false, name = "alias_count")
+    private Integer aliasCount;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+}
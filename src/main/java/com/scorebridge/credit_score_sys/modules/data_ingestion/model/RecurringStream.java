@@ -0,0 +1,90 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing a recurring series of transactions detected on an
+ * account, such as salary deposits or monthly bills.
+ * Streams are derived data: they are recomputed from financial_transactions and
+ * replaced as a whole for a user on every detection run.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "recurring_streams", indexes = {
+        @jakarta.persistence.Index(name = "idx_recurring_user", columnList = "user_id")
+})
+public class RecurringStream {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, name = "account_id")
+    private Long accountId;
+
+    /**
+     * INCOME for recurring deposits, EXPENSE for recurring bills.
+     */
+    @Column(nullable = false, name = "transaction_type", length = 20)
+    private String transactionType;
+
+    /**
+     * Normalized description shared by the transactions in the stream.
+     */
+    @Column(nullable = false, name = "description_key", length = 100)
+    private String descriptionKey;
+
+    @Column(nullable = false, name = "category", length = 100)
+    private String category;
+
+    /**
+     * Detected period: WEEKLY, BIWEEKLY or MONTHLY.
+     */
+    @Column(nullable = false, name = "period", length = 20)
+    private String period;
+
+    @Column(nullable = false, name = "average_amount")
+    private Double averageAmount;
+
+    /**
+     * Average amount normalized to a monthly figure.
+     */
+    @Column(nullable = false, name = "monthly_amount")
+    private Double monthlyAmount;
+
+    @Column(nullable = false, name = "occurrences")
+    private Integer occurrences;
+
+    @Column(nullable = false, name = "first_date")
+    private LocalDate firstDate;
+
+    @Column(nullable = false, name = "last_date")
+    private LocalDate lastDate;
+
+    @Column(nullable = false, name = "next_expected_date")
+    private LocalDate nextExpectedDate;
+
+    @Column(nullable = false, name = "detected_at")
+    private LocalDateTime detectedAt;
+}
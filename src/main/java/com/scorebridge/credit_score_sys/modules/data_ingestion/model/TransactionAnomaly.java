@@ -0,0 +1,73 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing an expense flagged as unusual for its account and
+ * category at ingestion time.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "transaction_anomalies", indexes = {
+        @jakarta.persistence.Index(name = "idx_anomaly_user", columnList = "user_id"),
+        @jakarta.persistence.Index(name = "idx_anomaly_account", columnList = "account_id")
+})
+public class TransactionAnomaly {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, name = "account_id")
+    private Long accountId;
+
+    @Column(nullable = false, name = "transaction_id")
+    private Long transactionId;
+
+    @Column(nullable = false, name = "category", length = 100)
+    private String category;
+
+    @Column(nullable = false, name = "amount")
+    private Double amount;
+
+    /**
+     * Typical amount for the category when the transaction arrived (geometric
+     * EWMA mean).
+     */
+    @Column(nullable = false, name = "expected_amount")
+    private Double expectedAmount;
+
+    /**
+     * Deviation from the typical amount in standard deviations of the log
+     * amount.
+     */
+    @Column(nullable = false, name = "deviation")
+    private Double deviation;
+
+    @Column(nullable = false, name = "transaction_date")
+    private LocalDate transactionDate;
+
+    @Column(nullable = false, name = "detected_at")
+    private LocalDateTime detectedAt;
+}
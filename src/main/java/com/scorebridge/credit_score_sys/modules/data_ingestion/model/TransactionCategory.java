@@ -0,0 +1,38 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity for the category dictionary. Transactions store the ID of their
+ * category instead of repeating its name on every row.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "transaction_categories", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_transaction_category_name", columnNames = "name")
+})
+public class TransactionCategory {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Short id;
+
+    @Column(nullable = false, name = "name", length = 100)
+    private String name;
+}
@@ -0,0 +1,39 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TransactionCategoryRegistry;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a category name as the ID of its entry in the category dictionary.
+ * Conversion only reads the dictionary; categories are registered by the
+ * service layer before transactions using them are saved. The registry is
+ * resolved lazily because converters are created while the
+ * entity manager factory, which the registry itself depends on, is built.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Converter
+public class TransactionCategoryConverter implements AttributeConverter<String, Short> {
+
+    private final ObjectProvider<TransactionCategoryRegistry> registry;
+
+    public TransactionCategoryConverter(ObjectProvider<TransactionCategoryRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : registry.getObject().encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : registry.getObject().decode(dbData);
+    }
+}
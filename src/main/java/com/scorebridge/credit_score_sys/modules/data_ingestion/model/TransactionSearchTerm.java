@@ -0,0 +1,62 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity for one posting of the transaction search index: a term occurring in
+ * the description or category of a transaction. The index on
+ * (user_id, term, transaction_date) partitions postings by user, so term and
+ * prefix lookups with a date filter are range scans within one user's
+ * postings.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "transaction_search_terms", indexes = {
+        @jakarta.persistence.Index(name = "idx_search_user_term", columnList = "user_id, term, transaction_date"),
+        @jakarta.persistence.Index(name = "idx_search_transaction", columnList = "transaction_id"),
+        @jakarta.persistence.Index(name = "idx_search_account", columnList = "account_id")
+})
+public class TransactionSearchTerm {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, name = "account_id")
+    private Long accountId;
+
+    @Column(nullable = false, name = "transaction_id")
+    private Long transactionId;
+
+    /**
+     * Normalized term: lower case letters and digits.
+     */
+    @Column(nullable = false, name = "term", length = 40)
+    private String term;
+
+    /**
+     * Date of the transaction, copied here so date filters use the index.
+     */
+    @Column(nullable = false, name = "transaction_date")
+    private LocalDate transactionDate;
+}
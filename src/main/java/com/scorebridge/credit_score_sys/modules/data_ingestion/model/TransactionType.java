@@ -0,0 +1,46 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+/**
+ * Transaction types with the codes stored in financial_transactions.type_code.
+ * Codes are persisted and must never be reused or renumbered.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+public enum TransactionType {
+
+    INCOME((short) 1),
+    EXPENSE((short) 2);
+
+    private final short code;
+
+    TransactionType(short code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the stored code of this type.
+     *
+     * @return the code
+     */
+    public short getCode() {
+        return code;
+    }
+
+    /**
+     * Looks up a type by its stored code.
+     *
+     * @param code the stored code
+     * @return the type
+     * @throws IllegalArgumentException if no type has the code
+     */
+    public static TransactionType fromCode(short code) {
+        for (TransactionType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown transaction type code: " + code);
+    }
+}
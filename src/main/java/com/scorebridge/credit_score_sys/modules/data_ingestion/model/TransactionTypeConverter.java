@@ -0,0 +1,27 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores the transaction type name ("INCOME", "EXPENSE") as its
+ * {@link TransactionType} code in a SMALLINT column, while entities, DTOs and
+ * JPQL keep working with the name.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Converter
+public class TransactionTypeConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : TransactionType.valueOf(attribute).getCode();
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short dbData) {
+        return dbData == null ? null : TransactionType.fromCode(dbData).name();
+    }
+}
@@ -0,0 +1,70 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity linking the two sides of a transfer between accounts of the same
+ * user: an EXPENSE on the source account and the matching INCOME on the
+ * target account. Linked transactions are excluded from income and spending
+ * analytics.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "transfer_links", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_transfer_outgoing", columnNames = "outgoing_transaction_id"),
+        @UniqueConstraint(name = "uk_transfer_incoming", columnNames = "incoming_transaction_id")
+}, indexes = {
+        @jakarta.persistence.Index(name = "idx_transfer_user", columnList = "user_id")
+})
+public class TransferLink {
+
+    @Id
+    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, name = "outgoing_transaction_id")
+    private Long outgoingTransactionId;
+
+    @Column(nullable = false, name = "outgoing_account_id")
+    private Long outgoingAccountId;
+
+    @Column(nullable = false, name = "incoming_transaction_id")
+    private Long incomingTransactionId;
+
+    @Column(nullable = false, name = "incoming_account_id")
+    private Long incomingAccountId;
+
+    @Column(nullable = false, name = "amount")
+    private Double amount;
+
+    @Column(nullable = false, name = "outgoing_date")
+    private LocalDate outgoingDate;
+
+    @Column(nullable = false, name = "incoming_date")
+    private LocalDate incomingDate;
+
+    @Column(nullable = false, name = "detected_at")
+    private LocalDateTime detectedAt;
+}
@@ -0,0 +1,53 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.AccountForecast;
+
+/**
+ * Repository interface for performing database operations on AccountForecast
+ * entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface AccountForecastRepository extends JpaRepository<AccountForecast, Long> {
+
+    /**
+     * Finds the forecasts of all accounts of a user.
+     *
+     * @param userId the ID of the user
+     * @return list of forecasts ordered by account
+     */
+    @Query("SELECT f FROM AccountForecast f WHERE f.userId = :userId ORDER BY f.accountId")
+    List<AccountForecast> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Deletes the forecasts of the given accounts using bulk DML.
+     *
+     * @param accountIds the account IDs
+     * @return the number of deleted forecasts
+     */
+    @Modifying
+    @Query("DELETE FROM AccountForecast f WHERE f.accountId IN :accountIds")
+    int deleteByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Deletes the forecast of an account using bulk DML.
+     *
+     * @param accountId the ID of the account
+     * @return the number of deleted forecasts
+     */
+    @Modifying
+    @Query("DELETE FROM AccountForecast f WHERE f.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
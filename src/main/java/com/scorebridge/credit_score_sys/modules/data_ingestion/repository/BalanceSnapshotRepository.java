@@ -0,0 +1,94 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.BalanceSnapshot;
+
+/**
+ * Repository interface for performing database operations on BalanceSnapshot
+ * entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    /**
+     * Finds an account's snapshots from a date on.
+     *
+     * @param accountId the ID of the account
+     * @param from      the first day (inclusive)
+     * @return list of snapshots in recording order
+     */
+    @Query("SELECT s FROM BalanceSnapshot s WHERE s.accountId = :accountId AND s.snapshotDate >= :from " +
+            "ORDER BY s.id")
+    List<BalanceSnapshot> findByAccountIdFrom(@Param("accountId") Long accountId, @Param("from") LocalDate from);
+
+    /**
+     * Finds a user's snapshots from a date on, across all accounts.
+     *
+     * @param userId the ID of the user
+     * @param from   the first day (inclusive)
+     * @return list of snapshots in recording order
+     */
+    @Query("SELECT s FROM BalanceSnapshot s WHERE s.userId = :userId AND s.snapshotDate >= :from ORDER BY s.id")
+    List<BalanceSnapshot> findByUserIdFrom(@Param("userId") Long userId, @Param("from") LocalDate from);
+
+    /**
+     * Finds the last snapshot before a date of each of a user's accounts, i.e.
+     * the balances at the start of a range. Snapshots are append-only, so the
+     * highest ID is the latest.
+     *
+     * @param userId the ID of the user
+     * @param before the first day of the range
+     * @return one snapshot per account that has one before the date
+     */
+    @Query("SELECT s FROM BalanceSnapshot s WHERE s.id IN (" +
+            "SELECT MAX(s2.id) FROM BalanceSnapshot s2 WHERE s2.userId = :userId AND s2.snapshotDate < :before " +
+            "GROUP BY s2.accountId)")
+    List<BalanceSnapshot> findLatestByUserIdBefore(@Param("userId") Long userId, @Param("before") LocalDate before);
+
+    /**
+     * Finds the days before a date on which some account still has more than
+     * one snapshot.
+     *
+     * @param before the day after the last day to check (exclusive)
+     * @return the days that need downsampling, oldest first
+     */
+    @Query("SELECT DISTINCT s.snapshotDate FROM BalanceSnapshot s WHERE s.snapshotDate < :before " +
+            "GROUP BY s.accountId, s.snapshotDate HAVING COUNT(s) > 1 ORDER BY s.snapshotDate")
+    List<LocalDate> findDaysToDownsample(@Param("before") LocalDate before);
+
+    /**
+     * Downsamples snapshots within a range of days to the last snapshot of
+     * each account and day, using bulk DML.
+     *
+     * @param from   the first day (inclusive)
+     * @param before the day after the last day (exclusive)
+     * @return the number of deleted snapshots
+     */
+    @Modifying
+    @Query("DELETE FROM BalanceSnapshot s WHERE s.snapshotDate >= :from AND s.snapshotDate < :before " +
+            "AND s.id NOT IN (SELECT MAX(s2.id) FROM BalanceSnapshot s2 " +
+            "WHERE s2.snapshotDate >= :from AND s2.snapshotDate < :before GROUP BY s2.accountId, s2.snapshotDate)")
+    int downsample(@Param("from") LocalDate from, @Param("before") LocalDate before);
+
+    /**
+     * Deletes all snapshots of an account using bulk DML.
+     *
+     * @param accountId the ID of the account
+     * @return the number of deleted snapshots
+     */
+    @Modifying
+    @Query("DELETE FROM BalanceSnapshot s WHERE s.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
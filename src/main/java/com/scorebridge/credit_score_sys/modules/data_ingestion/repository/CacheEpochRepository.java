@@ -0,0 +1,43 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.CacheEpoch;
+
+/**
+ * Repository interface for performing database operations on CacheEpoch
+ * entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface CacheEpochRepository extends JpaRepository<CacheEpoch, String> {
+
+    /**
+     * Finds the current epoch of a cache.
+     *
+     * @param name the name of the cache
+     * @return an Optional containing the epoch, or empty if the cache has
+     *         never been invalidated
+     */
+    @Query("SELECT e.epoch FROM CacheEpoch e WHERE e.name = :name")
+    Optional<Long> findEpoch(@Param("name") String name);
+
+    /**
+     * Increments the epoch of a cache.
+     *
+     * @param name the name of the cache
+     * @return 1 if the epoch was incremented, 0 if the cache has no row yet
+     */
+    @Modifying
+    @Query("UPDATE CacheEpoch e SET e.epoch = e.epoch + 1 WHERE e.name = :name")
+    int increment(@Param("name") String name);
+}
@@ -0,0 +1,47 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.CategorySpendStats;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository interface for performing database operations on
+ * CategorySpendStats entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface CategorySpendStatsRepository extends JpaRepository<CategorySpendStats, Long> {
+
+    /**
+     * Loads and write-locks all category statistics of a user, so that
+     * concurrent ingestions for the same user update them one after the other.
+     *
+     * @param userId the ID of the user
+     * @return the user's category statistics
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CategorySpendStats s WHERE s.userId = :userId")
+    List<CategorySpendStats> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * Deletes all category statistics of a user.
+     *
+     * @param userId the ID of the user
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM CategorySpendStats s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,13 +1,18 @@
 package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.AccountBalance;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialAccountResponse;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
 
 /**
@@ -60,4 +65,100 @@ public interface FinancialAccountRepository extends JpaRepository<FinancialAccou
      */
     @Query("SELECT CASE WHEN COUNT(fa) > 0 THEN true ELSE false END FROM FinancialAccount fa WHERE fa.user.id = :userId")
     boolean existsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the IDs of all accounts for a user without loading the entities.
+     *
+     * @param userId the ID of the user
+     * @return list of account IDs
+     */
+    @Query("SELECT fa.id FROM FinancialAccount fa WHERE fa.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the IDs of all users that have at least one account.
+     *
+     * @return list of user IDs
+     */
+    @Query("SELECT DISTINCT fa.user.id FROM FinancialAccount fa")
+    List<Long> findDistinctUserIds();
+
+    /**
+     * Finds the ID of the user who owns an account.
+     *
+     * @param accountId the ID of the account
+     * @return the owner's user ID, if the account exists
+     */
+    @Query("SELECT fa.user.id FROM FinancialAccount fa WHERE fa.id = :accountId")
+    Optional<Long> findUserIdById(@Param("accountId") Long accountId);
+
+    /**
+     * Finds a page of account IDs greater than the given ID, for keyset
+     * iteration over all accounts.
+     *
+     * @param afterId  the last ID seen by the caller
+     * @param pageable the page limiting the number of IDs returned
+     * @return list of account IDs in ascending order
+     */
+    @Query("SELECT fa.id FROM FinancialAccount fa WHERE fa.id > :afterId ORDER BY fa.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Finds the owner and current balance of the given accounts.
+     *
+     * @param accountIds the account IDs
+     * @return list of account balances
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.AccountBalance(" +
+            "fa.id, fa.user.id, fa.currentBalance) FROM FinancialAccount fa WHERE fa.id IN :accountIds")
+    List<AccountBalance> findBalancesByIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Deletes an account row using bulk DML. The caller must remove the account's
+     * transactions first, since cascades are not applied.
+     *
+     * @param accountId the ID of the account
+     * @return the number of deleted accounts
+     */
+    @Modifying
+    @Query("DELETE FROM FinancialAccount fa WHERE fa.id = :accountId")
+    int deleteAccountById(@Param("accountId") Long accountId);
+
+    /**
+     * Projection used by the read APIs: account columns plus per-account
+     * transaction count and income/expense sums, aggregated in the database.
+     */
+    String ACCOUNT_SUMMARY_SELECT = "SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialAccountResponse(" +
+            "fa.id, fa.institutionName, fa.accountType, fa.accountNumberLast4, fa.currentBalance, " +
+            "COUNT(ft.id), " +
+            "COALESCE(SUM(CASE WHEN ft.transactionType = 'INCOME' THEN ft.amount ELSE 0.0 END), 0.0), " +
+            "COALESCE(SUM(CASE WHEN ft.transactionType = 'EXPENSE' THEN ft.amount ELSE 0.0 END), 0.0), " +
+            "fa.createdAt, fa.updatedAt) " +
+            "FROM FinancialAccount fa LEFT JOIN fa.transactions ft ";
+
+    /**
+     * Grouping clause matching {@link #ACCOUNT_SUMMARY_SELECT}.
+     */
+    String ACCOUNT_SUMMARY_GROUP_BY = " GROUP BY fa.id, fa.institutionName, fa.accountType, fa.accountNumberLast4, " +
+            "fa.currentBalance, fa.createdAt, fa.updatedAt";
+
+    /**
+     * Finds read models of all accounts for a user, including transaction counts
+     * and sums, in a single aggregate query.
+     *
+     * @param userId the ID of the user
+     * @return list of account summaries ordered by account ID
+     */
+    @Query(ACCOUNT_SUMMARY_SELECT + "WHERE fa.user.id = :userId" + ACCOUNT_SUMMARY_GROUP_BY + " ORDER BY fa.id")
+    List<FinancialAccountResponse> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the read model of a single account, including its transaction count
+     * and sums, in a single aggregate query.
+     *
+     * @param accountId the ID of the account
+     * @return optional containing the account summary if found
+     */
+    @Query(ACCOUNT_SUMMARY_SELECT + "WHERE fa.id = :accountId" + ACCOUNT_SUMMARY_GROUP_BY)
+    Optional<FinancialAccountResponse> findSummaryById(@Param("accountId") Long accountId);
 }
@@ -1,13 +1,19 @@
 package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.DescriptionCount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.MonthlyNetFlow;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
 
 /**
@@ -32,6 +38,164 @@ public interface FinancialTransactionRepository extends JpaRepository<FinancialT
     @Query("SELECT ft FROM FinancialTransactions ft WHERE ft.account.id = :accountId ORDER BY ft.transactionDate DESC")
     List<FinancialTransactions> findByAccountId(@Param("accountId") Long accountId);
 
+    /**
+     * Finds read models of all transactions for a specific account without
+     * materializing entities or touching the account association.
+     *
+     * @param accountId the ID of the account
+     * @return list of transaction read models, newest first
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse(" +
+            "ft.id, ft.account.id, ft.amount, ft.transactionType, ft.category, ft.description, ft.merchant, " +
+            "ft.transactionDate, ft.createdAt) " +
+            "FROM FinancialTransactions ft WHERE ft.account.id = :accountId ORDER BY ft.transactionDate DESC")
+    List<TransactionResponse> findResponsesByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * Finds read models of all transactions across a user's accounts.
+     *
+     * @param userId the ID of the user
+     * @return list of transaction read models
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse(" +
+            "ft.id, ft.account.id, ft.amount, ft.transactionType, ft.category, ft.description, ft.merchant, " +
+            "ft.transactionDate, ft.createdAt) " +
+            "FROM FinancialTransactions ft WHERE ft.account.user.id = :userId")
+    List<TransactionResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds read models of all transactions of the given accounts.
+     *
+     * @param accountIds the IDs of the accounts
+     * @return list of transaction read models
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse(" +
+            "ft.id, ft.account.id, ft.amount, ft.transactionType, ft.category, ft.description, ft.merchant, " +
+            "ft.transactionDate, ft.createdAt) " +
+            "FROM FinancialTransactions ft WHERE ft.account.id IN :accountIds")
+    List<TransactionResponse> findResponsesByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Finds read models of a user's transactions within a date range.
+     *
+     * @param userId    the ID of the user
+     * @param startDate the start date (inclusive)
+     * @param endDate   the end date (inclusive)
+     * @return list of transaction read models, newest first
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse(" +
+            "ft.id, ft.account.id, ft.amount, ft.transactionType, ft.category, ft.description, ft.merchant, " +
+            "ft.transactionDate, ft.createdAt) " +
+            "FROM FinancialTransactions ft WHERE ft.account.user.id = :userId " +
+            "AND ft.transactionDate BETWEEN :startDate AND :endDate ORDER BY ft.transactionDate DESC")
+    List<TransactionResponse> findResponsesByUserIdAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Finds a page of a user's transactions dated before a cutoff, for moving
+     * them to the cold archive.
+     *
+     * @param userId   the ID of the user
+     * @param cutoff   the first date that stays in the table
+     * @param pageable the page limiting the number of rows returned
+     * @return list of transaction read models in ascending ID order
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse(" +
+            "ft.id, ft.account.id, ft.amount, ft.transactionType, ft.category, ft.description, ft.merchant, " +
+            "ft.transactionDate, ft.createdAt) " +
+            "FROM FinancialTransactions ft WHERE ft.account.user.id = :userId " +
+            "AND ft.transactionDate < :cutoff ORDER BY ft.id")
+    List<TransactionResponse> findResponsesByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("cutoff") LocalDate cutoff,
+            Pageable pageable);
+
+    /**
+     * Finds read models of a user's transactions by ID.
+     *
+     * @param userId the ID of the user
+     * @param ids    the transaction IDs
+     * @return list of transaction read models, in no particular order
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse(" +
+            "ft.id, ft.account.id, ft.amount, ft.transactionType, ft.category, ft.description, ft.merchant, " +
+            "ft.transactionDate, ft.createdAt) " +
+            "FROM FinancialTransactions ft WHERE ft.account.user.id = :userId AND ft.id IN :ids")
+    List<TransactionResponse> findResponsesByUserIdAndIdIn(@Param("userId") Long userId,
+            @Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds a page of transaction read models with IDs greater than the given
+     * ID, for keyset iteration over the whole table.
+     *
+     * @param afterId  the last ID seen by the caller
+     * @param pageable the page limiting the number of rows returned
+     * @return list of transaction read models in ascending ID order
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse(" +
+            "ft.id, ft.account.id, ft.amount, ft.transactionType, ft.category, ft.description, ft.merchant, " +
+            "ft.transactionDate, ft.createdAt) " +
+            "FROM FinancialTransactions ft WHERE ft.id > :afterId ORDER BY ft.id")
+    List<TransactionResponse> findResponsesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Finds a page of distinct descriptions with their transaction counts,
+     * ordered by description, for keyset iteration over all descriptions.
+     *
+     * @param after    the last description seen by the caller ("" to start)
+     * @param pageable the page limiting the number of rows returned
+     * @return list of distinct descriptions with counts
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.DescriptionCount(" +
+            "ft.description, COUNT(ft)) FROM FinancialTransactions ft " +
+            "WHERE ft.description IS NOT NULL AND ft.description > :after " +
+            "GROUP BY ft.description ORDER BY ft.description")
+    List<DescriptionCount> findDescriptionCountsAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * Aggregates the net flow (income minus expenses) of the given accounts per
+     * calendar month within a date range.
+     *
+     * @param accountIds the account IDs
+     * @param since      the start date (inclusive)
+     * @param before     the end date (exclusive)
+     * @return one row per account and month with transactions
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.MonthlyNetFlow(" +
+            "ft.account.id, YEAR(ft.transactionDate), MONTH(ft.transactionDate), " +
+            "SUM(CASE WHEN ft.transactionType = 'INCOME' THEN ft.amount ELSE -ft.amount END)) " +
+            "FROM FinancialTransactions ft WHERE ft.account.id IN :accountIds " +
+            "AND ft.transactionDate >= :since AND ft.transactionDate < :before " +
+            "GROUP BY ft.account.id, YEAR(ft.transactionDate), MONTH(ft.transactionDate)")
+    List<MonthlyNetFlow> findMonthlyNetFlows(
+            @Param("accountIds") Collection<Long> accountIds,
+            @Param("since") LocalDate since,
+            @Param("before") LocalDate before);
+
+    /**
+     * Sets the merchant of the transactions with the given IDs using bulk DML.
+     *
+     * @param merchant the new merchant
+     * @param ids      the transaction IDs to update
+     * @return the number of updated transactions
+     */
+    @Modifying
+    @Query("UPDATE FinancialTransactions ft SET ft.merchant = :merchant WHERE ft.id IN :ids")
+    int updateMerchantByIdIn(@Param("merchant") String merchant, @Param("ids") List<Long> ids);
+
+    /**
+     * Sets the category of the transactions with the given IDs using bulk DML.
+     *
+     * @param category the new category
+     * @param ids      the transaction IDs to update
+     * @return the number of updated transactions
+     */
+    @Modifying
+    @Query("UPDATE FinancialTransactions ft SET ft.category = :category WHERE ft.id IN :ids")
+    int updateCategoryByIdIn(@Param("category") String category, @Param("ids") List<Long> ids);
+
     /**
      * Finds transactions for a specific account within a date range.
      *
@@ -87,10 +251,36 @@ public interface FinancialTransactionRepository extends JpaRepository<FinancialT
             @Param("transactionType") String transactionType);
 
     /**
-     * Deletes all transactions for a specific account.
+     * Deletes all transactions for a specific account in one statement.
+     * Prefer chunked deletion through {@link #findIdsByAccountId} and
+     * {@link #deleteByIdIn} for large accounts.
      *
      * @param accountId the ID of the account
+     * @return the number of deleted transactions
      */
+    @Modifying
     @Query("DELETE FROM FinancialTransactions ft WHERE ft.account.id = :accountId")
-    void deleteByAccountId(@Param("accountId") Long accountId);
+    int deleteByAccountId(@Param("accountId") Long accountId);
+
+    /**
+     * Finds a page of transaction IDs for an account, used to bound the size of
+     * bulk deletes.
+     *
+     * @param accountId the ID of the account
+     * @param pageable  the page limiting the number of IDs returned
+     * @return list of transaction IDs in ascending order
+     */
+    @Query("SELECT ft.id FROM FinancialTransactions ft WHERE ft.account.id = :accountId ORDER BY ft.id")
+    List<Long> findIdsByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    /**
+     * Deletes the transactions with the given IDs using bulk DML, bypassing the
+     * persistence context.
+     *
+     * @param ids the transaction IDs to delete
+     * @return the number of deleted transactions
+     */
+    @Modifying
+    @Query("DELETE FROM FinancialTransactions ft WHERE ft.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
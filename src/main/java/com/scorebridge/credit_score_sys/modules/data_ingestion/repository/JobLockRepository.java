@@ -0,0 +1,51 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.JobLock;
+
+/**
+ * Repository interface for performing database operations on JobLock
+ * entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * Takes over the lease of a job if it has expired.
+     *
+     * @param name  the name of the job
+     * @param owner the instance taking the lease
+     * @param now   the current time
+     * @param until the end of the new lease
+     * @return 1 if the lease was taken, 0 if another instance holds it or the
+     *         job has no row yet
+     */
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedBy = :owner, l.lockedUntil = :until "
+            + "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until);
+
+    /**
+     * Ends the lease of a job held by an instance.
+     *
+     * @param name  the name of the job
+     * @param owner the instance holding the lease
+     * @param now   the current time
+     * @return the number of released leases
+     */
+    @Modifying
+    @Query("UPDATE JobLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
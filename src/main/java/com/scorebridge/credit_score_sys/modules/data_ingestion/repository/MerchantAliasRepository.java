@@ -0,0 +1,57 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.MerchantAlias;
+
+/**
+ * Repository interface for performing database operations on MerchantAlias
+ * entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface MerchantAliasRepository extends JpaRepository<MerchantAlias, Long> {
+
+    /**
+     * Finds the aliases of a dictionary version with an ID greater than the
+     * given one, in ID order, for paging through the version by key.
+     *
+     * @param version  the dictionary version
+     * @param afterId  the last alias ID already read
+     * @param pageable the page size
+     * @return the next aliases
+     */
+    @Query("SELECT ma FROM MerchantAlias ma WHERE ma.dictionaryVersion = :version AND ma.id > :afterId ORDER BY ma.id")
+    List<MerchantAlias> findByVersionAfterId(@Param("version") Long version, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * Finds IDs of aliases belonging to any version other than the given one.
+     *
+     * @param version  the dictionary version to keep
+     * @param pageable the chunk size
+     * @return alias IDs
+     */
+    @Query("SELECT ma.id FROM MerchantAlias ma WHERE ma.dictionaryVersion <> :version")
+    List<Long> findIdsNotInVersion(@Param("version") Long version, Pageable pageable);
+
+    /**
+     * Deletes aliases by ID using bulk DML.
+     *
+     * @param ids the alias IDs
+     * @return the number of deleted aliases
+     */
+    @Modifying
+    @Query("DELETE FROM MerchantAlias ma WHERE ma.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+}
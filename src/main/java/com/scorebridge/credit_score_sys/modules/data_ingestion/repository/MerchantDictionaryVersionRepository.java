@@ -0,0 +1,53 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.MerchantDictionaryVersion;
+
+/**
+ * Repository interface for performing database operations on
+ * MerchantDictionaryVersion entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface MerchantDictionaryVersionRepository extends JpaRepository<MerchantDictionaryVersion, Long> {
+
+    /**
+     * Finds the active dictionary version, the newest completed one.
+     *
+     * @return an Optional containing the version ID, or empty if no
+     *         dictionary has been built yet
+     */
+    @Query("SELECT MAX(v.id) FROM MerchantDictionaryVersion v WHERE v.completed = true")
+    Optional<Long> findActiveVersion();
+
+    /**
+     * Marks a version as completed, which makes it the active one.
+     *
+     * @param id         the version ID
+     * @param aliasCount the number of aliases written
+     * @return the number of updated versions
+     */
+    @Modifying
+    @Query("UPDATE MerchantDictionaryVersion v SET v.completed = true, v.aliasCount = :aliasCount WHERE v.id = :id")
+    int complete(@Param("id") Long id, @Param("aliasCount") int aliasCount);
+
+    /**
+     * Deletes all versions except one.
+     *
+     * @param id the ID of the version to keep
+     * @return the number of deleted versions
+     */
+    @Modifying
+    @Query("DELETE FROM MerchantDictionaryVersion v WHERE v.id <> :id")
+    int deleteAllExcept(@Param("id") Long id);
+}
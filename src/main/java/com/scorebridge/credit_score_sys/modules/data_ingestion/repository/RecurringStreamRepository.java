@@ -0,0 +1,55 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.RecurringStream;
+
+/**
+ * Repository interface for performing database operations on RecurringStream
+ * entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface RecurringStreamRepository extends JpaRepository<RecurringStream, Long> {
+
+    /**
+     * Finds all detected streams for a user.
+     *
+     * @param userId the ID of the user
+     * @return list of recurring streams, largest monthly amount first
+     */
+    @Query("SELECT rs FROM RecurringStream rs WHERE rs.userId = :userId ORDER BY rs.monthlyAmount DESC")
+    List<RecurringStream> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Deletes all detected streams for a user.
+     *
+     * @param userId the ID of the user
+     * @return the number of deleted streams
+     */
+    @Modifying
+    @Query("DELETE FROM RecurringStream rs WHERE rs.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Deletes the detected streams of some of a user's accounts.
+     *
+     * @param userId     the ID of the user
+     * @param accountIds the IDs of the accounts
+     * @return the number of deleted streams
+     */
+    @Modifying
+    @Query("DELETE FROM RecurringStream rs WHERE rs.userId = :userId AND rs.accountId IN :accountIds")
+    int deleteByUserIdAndAccountIdIn(@Param("userId") Long userId,
+            @Param("accountIds") Collection<Long> accountIds);
+}
@@ -0,0 +1,53 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionAnomaly;
+
+/**
+ * Repository interface for performing database operations on
+ * TransactionAnomaly entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface TransactionAnomalyRepository extends JpaRepository<TransactionAnomaly, Long> {
+
+    /**
+     * Finds all anomalies flagged for a user.
+     *
+     * @param userId the ID of the user
+     * @return list of anomalies, most recent transaction first
+     */
+    @Query("SELECT a FROM TransactionAnomaly a WHERE a.userId = :userId ORDER BY a.transactionDate DESC, a.id DESC")
+    List<TransactionAnomaly> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Counts a user's anomalies on or after a date.
+     *
+     * @param userId the ID of the user
+     * @param since  the earliest transaction date to count
+     * @return the number of anomalies
+     */
+    @Query("SELECT COUNT(a) FROM TransactionAnomaly a WHERE a.userId = :userId AND a.transactionDate >= :since")
+    long countByUserIdSince(@Param("userId") Long userId, @Param("since") LocalDate since);
+
+    /**
+     * Deletes all anomalies of an account.
+     *
+     * @param accountId the ID of the account
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM TransactionAnomaly a WHERE a.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
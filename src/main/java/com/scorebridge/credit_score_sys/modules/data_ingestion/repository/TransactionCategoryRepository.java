@@ -0,0 +1,28 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionCategory;
+
+/**
+ * Repository interface for performing database operations on
+ * TransactionCategory entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface TransactionCategoryRepository extends JpaRepository<TransactionCategory, Short> {
+
+    /**
+     * Finds a category by name.
+     *
+     * @param name the category name
+     * @return optional containing the category if it exists
+     */
+    Optional<TransactionCategory> findByName(String name);
+}
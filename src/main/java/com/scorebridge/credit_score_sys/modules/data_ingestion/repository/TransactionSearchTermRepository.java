@@ -0,0 +1,108 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionSearchHit;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionSearchTerm;
+
+/**
+ * Repository interface for performing database operations on
+ * TransactionSearchTerm entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface TransactionSearchTermRepository extends JpaRepository<TransactionSearchTerm, Long> {
+
+    /**
+     * Finds a user's transactions containing a term within a date range.
+     *
+     * @param userId    the ID of the user
+     * @param term      the normalized term
+     * @param startDate the start date (inclusive)
+     * @param endDate   the end date (inclusive)
+     * @return matched transaction IDs with their dates
+     */
+    @Query("SELECT DISTINCT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionSearchHit(" +
+            "t.transactionId, t.transactionDate) FROM TransactionSearchTerm t " +
+            "WHERE t.userId = :userId AND t.term = :term " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    List<TransactionSearchHit> findHitsByTerm(
+            @Param("userId") Long userId,
+            @Param("term") String term,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Finds a user's transactions containing a term in a term range, used for
+     * prefix queries: all terms starting with "abc" lie in ["abc", "abd").
+     *
+     * @param userId    the ID of the user
+     * @param fromTerm  the lowest term (inclusive)
+     * @param toTerm    the highest term (exclusive)
+     * @param startDate the start date (inclusive)
+     * @param endDate   the end date (inclusive)
+     * @return matched transaction IDs with their dates
+     */
+    @Query("SELECT DISTINCT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionSearchHit(" +
+            "t.transactionId, t.transactionDate) FROM TransactionSearchTerm t " +
+            "WHERE t.userId = :userId AND t.term >= :fromTerm AND t.term < :toTerm " +
+            "AND t.transactionDate BETWEEN :startDate AND :endDate")
+    List<TransactionSearchHit> findHitsByTermRange(
+            @Param("userId") Long userId,
+            @Param("fromTerm") String fromTerm,
+            @Param("toTerm") String toTerm,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Deletes the postings of the given transactions using bulk DML.
+     *
+     * @param transactionIds the transaction IDs
+     * @return the number of deleted postings
+     */
+    @Modifying
+    @Query("DELETE FROM TransactionSearchTerm t WHERE t.transactionId IN :transactionIds")
+    int deleteByTransactionIdIn(@Param("transactionIds") List<Long> transactionIds);
+
+    /**
+     * Finds a page of posting IDs for an account, for chunked deletion.
+     *
+     * @param accountId the ID of the account
+     * @param pageable  the page limiting the number of IDs returned
+     * @return list of posting IDs
+     */
+    @Query("SELECT t.id FROM TransactionSearchTerm t WHERE t.accountId = :accountId")
+    List<Long> findIdsByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    /**
+     * Deletes postings by ID using bulk DML.
+     *
+     * @param ids the posting IDs
+     * @return the number of deleted postings
+     */
+    @Modifying
+    @Query("DELETE FROM TransactionSearchTerm t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Deletes postings whose transaction no longer exists in the hot table,
+     * such as those of rows archived before postings were removed on archival.
+     *
+     * @return the number of deleted postings
+     */
+    @Modifying
+    @Query("DELETE FROM TransactionSearchTerm t WHERE NOT EXISTS " +
+            "(SELECT 1 FROM FinancialTransactions f WHERE f.id = t.transactionId)")
+    int deleteOrphaned();
+}
@@ -0,0 +1,104 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransferResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransferLink;
+
+/**
+ * Repository interface for performing database operations on TransferLink
+ * entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Repository
+public interface TransferLinkRepository extends JpaRepository<TransferLink, Long> {
+
+    /**
+     * Finds all transfer links of a user.
+     *
+     * @param userId the ID of the user
+     * @return list of transfer links, most recent first
+     */
+    @Query("SELECT l FROM TransferLink l WHERE l.userId = :userId ORDER BY l.outgoingDate DESC, l.id DESC")
+    List<TransferLink> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the read models of all transfer links of a user.
+     *
+     * @param userId the ID of the user
+     * @return list of transfer read models, most recent first
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransferResponse(" +
+            "l.id, l.outgoingTransactionId, l.outgoingAccountId, l.incomingTransactionId, l.incomingAccountId, " +
+            "l.amount, l.outgoingDate, l.incomingDate, l.detectedAt) " +
+            "FROM TransferLink l WHERE l.userId = :userId ORDER BY l.outgoingDate DESC, l.id DESC")
+    List<TransferResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Collects the IDs of a user's transactions that are either side of a
+     * transfer.
+     *
+     * @param userId the ID of the user
+     * @return set of linked transaction IDs
+     */
+    default Set<Long> findLinkedTransactionIds(Long userId) {
+        Set<Long> ids = new HashSet<>();
+        for (TransferLink link : findByUserId(userId)) {
+            ids.add(link.getOutgoingTransactionId());
+            ids.add(link.getIncomingTransactionId());
+        }
+        return ids;
+    }
+
+    /**
+     * Finds the transfer links of a user touching any of the given accounts on
+     * either side.
+     *
+     * @param userId     the ID of the user
+     * @param accountIds the IDs of the accounts
+     * @return list of transfer links
+     */
+    @Query("SELECT l FROM TransferLink l WHERE l.userId = :userId " +
+            "AND (l.outgoingAccountId IN :accountIds OR l.incomingAccountId IN :accountIds)")
+    List<TransferLink> findByUserIdAndAccountIdIn(@Param("userId") Long userId,
+            @Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Collects the IDs of transactions of the given accounts that are either
+     * side of a transfer.
+     *
+     * @param userId     the ID of the user
+     * @param accountIds the IDs of the accounts
+     * @return set of linked transaction IDs
+     */
+    default Set<Long> findLinkedTransactionIds(Long userId, Collection<Long> accountIds) {
+        Set<Long> ids = new HashSet<>();
+        for (TransferLink link : findByUserIdAndAccountIdIn(userId, accountIds)) {
+            ids.add(link.getOutgoingTransactionId());
+            ids.add(link.getIncomingTransactionId());
+        }
+        return ids;
+    }
+
+    /**
+     * Deletes all transfer links touching an account on either side.
+     *
+     * @param accountId the ID of the account
+     * @return the number of deleted links
+     */
+    @Modifying
+    @Query("DELETE FROM TransferLink l WHERE l.outgoingAccountId = :accountId OR l.incomingAccountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,202 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.BalanceHistory;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.BalancePoint;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.AccountNotFoundException;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataValidationException;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.BalanceSnapshot;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.BalanceSnapshotRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for the balance history of accounts.
+ * <p>
+ * A snapshot is appended whenever an account is ingested or its balance
+ * changes. A nightly job downsamples snapshots older than the raw retention
+ * window to one per account and day, so a year of history is at most 365 rows
+ * per account and a range query is a single index scan on
+ * (account_id, snapshot_date) or (user_id, snapshot_date).
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceHistoryService.class);
+
+    /**
+     * Snapshot source for balances received on ingest.
+     */
+    public static final String SOURCE_INGEST = "INGEST";
+
+    /**
+     * Snapshot source for balance changes through an account update.
+     */
+    public static final String SOURCE_UPDATE = "UPDATE";
+
+    private final BalanceSnapshotRepository snapshotRepository;
+    private final FinancialAccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataIngestionConfig config;
+
+    /**
+     * Appends a snapshot of an account's current balance. Joins the caller's
+     * transaction, so the snapshot commits with the balance change.
+     *
+     * @param account the saved account
+     * @param source  what caused the snapshot
+     */
+    @Transactional
+    public void recordBalance(FinancialAccount account, String source) {
+        LocalDateTime now = LocalDateTime.now();
+        snapshotRepository.save(BalanceSnapshot.builder()
+                .accountId(account.getId())
+                .userId(account.getUser().getId())
+                .balance(account.getCurrentBalance())
+                .snapshotDate(now.toLocalDate())
+                .recordedAt(now)
+                .source(source)
+                .build());
+    }
+
+    /**
+     * Returns the daily balance history of an account.
+     *
+     * @param accountId the ID of the account
+     * @param months    the number of months to return, counted back from today
+     * @return the account's balance history
+     * @throws AccountNotFoundException if the account does not exist
+     * @throws DataValidationException  if months is not positive
+     */
+    @Transactional(readOnly = true)
+    public BalanceHistory getAccountHistory(Long accountId, int months) {
+        Long userId = accountRepository.findUserIdById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
+        LocalDate from = startDate(months);
+
+        List<BalanceSnapshot> snapshots = new ArrayList<>();
+        for (BalanceSnapshot opening : snapshotRepository.findLatestByUserIdBefore(userId, from)) {
+            if (opening.getAccountId().equals(accountId)) {
+                snapshots.add(opening);
+            }
+        }
+        snapshots.addAll(snapshotRepository.findByAccountIdFrom(accountId, from));
+
+        return BalanceHistory.builder()
+                .userId(userId)
+                .accountId(accountId)
+                .startDate(from)
+                .endDate(LocalDate.now())
+                .points(dailyTotals(snapshots, from))
+                .build();
+    }
+
+    /**
+     * Returns the daily combined balance history of all of a user's accounts.
+     *
+     * @param userId the ID of the user
+     * @param months the number of months to return, counted back from today
+     * @return the user's balance history
+     * @throws DataValidationException if months is not positive
+     */
+    @Transactional(readOnly = true)
+    public BalanceHistory getUserHistory(Long userId, int months) {
+        LocalDate from = startDate(months);
+
+        List<BalanceSnapshot> snapshots = new ArrayList<>(snapshotRepository.findLatestByUserIdBefore(userId, from));
+        snapshots.addAll(snapshotRepository.findByUserIdFrom(userId, from));
+
+        return BalanceHistory.builder()
+                .userId(userId)
+                .startDate(from)
+                .endDate(LocalDate.now())
+                .points(dailyTotals(snapshots, from))
+                .build();
+    }
+
+    /**
+     * Scheduled downsampling of old snapshots.
+     */
+    @Scheduled(cron = "${data-ingestion.balances.downsample-cron:0 15 1 * * ?}")
+    public void scheduledDownsample() {
+        downsample();
+    }
+
+    /**
+     * Reduces the snapshots of every day older than the raw retention window
+     * that still has more than one snapshot of an account to the last one per
+     * account. Days missed by earlier runs are caught up this way. Each day is
+     * handled in its own transaction.
+     *
+     * @return the number of deleted snapshots
+     */
+    public long downsample() {
+        LocalDate cutoff = LocalDate.now().minusDays(config.getBalances().getRawRetentionDays());
+        long deleted = 0;
+        for (LocalDate day : snapshotRepository.findDaysToDownsample(cutoff)) {
+            Integer count = transactionTemplate.execute(status -> snapshotRepository.downsample(day,
+                    day.plusDays(1)));
+            deleted += count == null ? 0 : count;
+        }
+        logger.info("Balance snapshot downsampling finished: {} snapshots removed", deleted);
+        return deleted;
+    }
+
+    /**
+     * Folds snapshots in recording order into the combined balance at the end
+     * of each day, carrying every account's last balance forward. Snapshots
+     * from before the range are reported on its first day.
+     *
+     * @param snapshots opening snapshots followed by the range's snapshots
+     * @param from      the first day of the range
+     * @return one point per day with a change, oldest first
+     */
+    private static List<BalancePoint> dailyTotals(List<BalanceSnapshot> snapshots, LocalDate from) {
+        Map<Long, Double> balances = new HashMap<>();
+        List<BalancePoint> points = new ArrayList<>();
+        double total = 0;
+        LocalDate currentDay = null;
+
+        for (BalanceSnapshot snapshot : snapshots) {
+            LocalDate day = snapshot.getSnapshotDate().isBefore(from) ? from : snapshot.getSnapshotDate();
+            if (currentDay != null && !day.equals(currentDay)) {
+                points.add(new BalancePoint(currentDay, total));
+            }
+            currentDay = day;
+            Double previous = balances.put(snapshot.getAccountId(), snapshot.getBalance());
+            total += snapshot.getBalance() - (previous == null ? 0 : previous);
+        }
+        if (currentDay != null) {
+            points.add(new BalancePoint(currentDay, total));
+        }
+        return points;
+    }
+
+    private static LocalDate startDate(int months) {
+        if (months <= 0) {
+            throw new DataValidationException("Months must be a positive number");
+        }
+        return LocalDate.now().minusMonths(months);
+    }
+}
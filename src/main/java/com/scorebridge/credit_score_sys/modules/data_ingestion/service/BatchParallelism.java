@@ -0,0 +1,65 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sizes the worker pools of parallel batches whose workers each hold a
+ * database connection. A batch never gets more workers than the connection
+ * pool can serve while still leaving the configured reserve free for
+ * requests.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchParallelism {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchParallelism.class);
+
+    private final DataSource dataSource;
+    private final DataIngestionConfig config;
+
+    /**
+     * Caps a configured parallelism by the size of the connection pool.
+     *
+     * @param configured the configured number of workers
+     * @return the number of workers to use, at least 1
+     */
+    public int cap(int configured) {
+        int parallelism = configured;
+        Integer poolSize = maximumPoolSize();
+        if (poolSize != null) {
+            parallelism = Math.min(parallelism, poolSize - config.getBatch().getReservedConnections());
+        }
+        return Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns the maximum size of the Hikari connection pool.
+     *
+     * @return the pool size, or null if the data source is not a Hikari pool
+     */
+    private Integer maximumPoolSize() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not determine the connection pool size: {}", e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,288 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.AccountBalance;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.CashFlowForecastSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.MonthlyNetFlow;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.AccountForecast;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.AccountForecastRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for projecting account balances 30, 60 and 90 days ahead.
+ * <p>
+ * Accounts are processed in chunks: per chunk, one aggregate query returns the
+ * monthly net flow of every account, {@link CashFlowForecaster} projects the
+ * next three months, and the chunk's forecasts are replaced in one short
+ * transaction. The nightly batch splits the full range of account IDs into
+ * chunks with a fork/join task and stops taking new chunks once its time
+ * window has passed; accounts not reached keep their previous forecast.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class CashFlowForecastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CashFlowForecastService.class);
+
+    /**
+     * Number of months projected: 30, 60 and 90 days.
+     */
+    private static final int HORIZON_MONTHS = 3;
+
+    /**
+     * Number of account IDs read per query when listing all accounts.
+     */
+    private static final int ID_PAGE_SIZE = 10_000;
+
+    private final CashFlowForecaster forecaster;
+    private final AccountForecastRepository forecastRepository;
+    private final FinancialAccountRepository accountRepository;
+    private final FinancialTransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchParallelism batchParallelism;
+    private final DataIngestionConfig config;
+
+    /**
+     * Scheduled forecast of all accounts.
+     */
+    @Scheduled(cron = "${data-ingestion.forecast.batch-cron:0 0 1 * * ?}")
+    public void scheduledForecast() {
+        forecastAllAccounts();
+    }
+
+    /**
+     * Forecasts every account in parallel within the configured time window.
+     * Each worker holds a database connection while it forecasts a chunk, so
+     * the number of workers is capped below the connection pool size.
+     *
+     * @return the number of accounts forecast
+     */
+    public long forecastAllAccounts() {
+        DataIngestionConfig.Forecast settings = config.getForecast();
+        long[] accountIds = loadAccountIds();
+        long deadline = System.nanoTime() + settings.getTimeBudgetMinutes() * 60_000_000_000L;
+        AtomicLong forecast = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+
+        ForkJoinPool pool = new ForkJoinPool(batchParallelism.cap(settings.getParallelism()));
+        try {
+            pool.invoke(new ForecastTask(accountIds, 0, accountIds.length, Math.max(1, settings.getChunkSize()),
+                    deadline, forecast, skipped));
+        } finally {
+            pool.shutdown();
+        }
+
+        if (skipped.get() > 0) {
+            logger.warn("Forecast batch exceeded its {} minute window; {} accounts kept their previous forecast",
+                    settings.getTimeBudgetMinutes(), skipped.get());
+        }
+        logger.info("Forecast batch finished: {} of {} accounts forecast", forecast.get(), accountIds.length);
+        return forecast.get();
+    }
+
+    /**
+     * Forecasts the accounts of one user.
+     *
+     * @param userId the ID of the user
+     * @return the number of accounts forecast
+     */
+    public int forecastUser(Long userId) {
+        List<Long> accountIds = accountRepository.findIdsByUserId(userId);
+        Integer count = transactionTemplate.execute(status -> forecastAccounts(accountIds));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Summarizes the stored forecasts of a user's accounts. Forecasts are
+     * computed on the spot for users the batch has not reached yet.
+     *
+     * @param userId the ID of the user
+     * @return summary of the user's forecasts
+     */
+    public CashFlowForecastSummary getSummary(Long userId) {
+        List<AccountForecast> forecasts = forecastRepository.findByUserId(userId);
+        if (forecasts.isEmpty() && forecastUser(userId) > 0) {
+            forecasts = forecastRepository.findByUserId(userId);
+        }
+
+        double current = 0;
+        double projected30 = 0;
+        double projected60 = 0;
+        double projected90 = 0;
+        for (AccountForecast forecast : forecasts) {
+            current += forecast.getCurrentBalance();
+            projected30 += forecast.getProjectedBalance30();
+            projected60 += forecast.getProjectedBalance60();
+            projected90 += forecast.getProjectedBalance90();
+        }
+
+        return CashFlowForecastSummary.builder()
+                .userId(userId)
+                .currentBalance(current)
+                .projectedBalance30(projected30)
+                .projectedBalance60(projected60)
+                .projectedBalance90(projected90)
+                .accounts(forecasts)
+                .build();
+    }
+
+    /**
+     * Forecasts a chunk of accounts and replaces their stored forecasts.
+     * Joins the caller's transaction.
+     *
+     * @param accountIds the account IDs
+     * @return the number of accounts forecast
+     */
+    @Transactional
+    public int forecastAccounts(List<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return 0;
+        }
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth firstMonth = currentMonth.minusMonths(config.getForecast().getHistoryMonths());
+        int months = config.getForecast().getHistoryMonths();
+
+        // Net flow per account per complete month; the current month is partial
+        Map<Long, double[]> flows = new HashMap<>();
+        Map<Long, Integer> firstActive = new HashMap<>();
+        for (MonthlyNetFlow row : transactionRepository.findMonthlyNetFlows(accountIds,
+                firstMonth.atDay(1), currentMonth.atDay(1))) {
+            int index = (int) ChronoUnit.MONTHS.between(firstMonth, YearMonth.of(row.getYear(), row.getMonth()));
+            flows.computeIfAbsent(row.getAccountId(), id -> new double[months])[index] += row.getNetAmount();
+            firstActive.merge(row.getAccountId(), index, Math::min);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AccountForecast> forecasts = new ArrayList<>(accountIds.size());
+        for (AccountBalance account : accountRepository.findBalancesByIdIn(accountIds)) {
+            double[] series = flows.get(account.getAccountId());
+            series = series == null ? new double[0]
+                    : Arrays.copyOfRange(series, firstActive.get(account.getAccountId()), months);
+            CashFlowForecaster.Forecast forecast = forecaster.forecast(series, HORIZON_MONTHS);
+            double[] values = forecast.values();
+            double balance = account.getCurrentBalance() == null ? 0 : account.getCurrentBalance();
+
+            forecasts.add(AccountForecast.builder()
+                    .accountId(account.getAccountId())
+                    .userId(account.getUserId())
+                    .currentBalance(balance)
+                    .expectedMonthlyNet(values[0])
+                    .projectedBalance30(balance + values[0])
+                    .projectedBalance60(balance + values[0] + values[1])
+                    .projectedBalance90(balance + values[0] + values[1] + values[2])
+                    .historyMonths(series.length)
+                    .method(forecast.method())
+                    .computedAt(now)
+                    .build());
+        }
+
+        forecastRepository.deleteByAccountIdIn(accountIds);
+        forecastRepository.saveAll(forecasts);
+        return forecasts.size();
+    }
+
+    /**
+     * Lists all account IDs into a primitive array using keyset pagination.
+     *
+     * @return account IDs in ascending order
+     */
+    private long[] loadAccountIds() {
+        long[] ids = new long[ID_PAGE_SIZE];
+        int count = 0;
+        long lastId = 0;
+        while (true) {
+            List<Long> page = accountRepository.findIdsAfter(lastId, PageRequest.of(0, ID_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            if (count + page.size() > ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(ids.length * 2, count + page.size()));
+            }
+            for (Long id : page) {
+                ids[count++] = id;
+            }
+            lastId = page.get(page.size() - 1);
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * Fork/join task over a range of account IDs. Ranges are halved until they
+     * fit in one chunk, which is then forecast in its own transaction unless
+     * the deadline has passed.
+     */
+    private final class ForecastTask extends RecursiveAction {
+
+        private final long[] accountIds;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final long deadline;
+        private final AtomicLong forecast;
+        private final AtomicLong skipped;
+
+        ForecastTask(long[] accountIds, int from, int to, int chunkSize, long deadline, AtomicLong forecast,
+                AtomicLong skipped) {
+            this.accountIds = accountIds;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.deadline = deadline;
+            this.forecast = forecast;
+            this.skipped = skipped;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunkSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ForecastTask(accountIds, from, middle, chunkSize, deadline, forecast, skipped),
+                        new ForecastTask(accountIds, middle, to, chunkSize, deadline, forecast, skipped));
+                return;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                skipped.addAndGet(to - from);
+                return;
+            }
+
+            List<Long> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(accountIds[i]);
+            }
+            try {
+                Integer count = transactionTemplate.execute(status -> forecastAccounts(chunk));
+                forecast.addAndGet(count == null ? 0 : count);
+            } catch (RuntimeException e) {
+                logger.error("Forecast failed for accounts {} to {}", chunk.get(0), chunk.get(chunk.size() - 1), e);
+            }
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialAccountDto;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialAccountResponse;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialProfileRequest;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialProfileResponse;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionDto;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.AccountNotFoundException;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataIngestionException;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataValidationException;
@@ -20,6 +26,7 @@ import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAc
 import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
 import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.validation.FinancialDataValidator;
 import com.scorebridge.credit_score_sys.modules.user.model.User;
 import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
 
@@ -42,6 +49,17 @@ public class DataIngestionService {
     private final FinancialAccountRepository accountRepository;
     private final FinancialTransactionRepository transactionRepository;
     private final UserRepository userRepository;
+    private final DataPurgeService dataPurgeService;
+    private final TransactionCategorizationService categorizationService;
+    private final MerchantDictionaryService merchantDictionaryService;
+    private final RecurringStreamService recurringStreamService;
+    private final TransactionAnomalyService anomalyService;
+    private final TransactionColumnCache columnCache;
+    private final TransactionArchiveService archiveService;
+    private final TransferMatchingService transferMatchingService;
+    private final TransactionSearchService searchService;
+    private final BalanceHistoryService balanceHistoryService;
+    private final FinancialDataValidator validator;
 
     /**
      * Saves a complete financial profile for a user.
@@ -58,20 +76,25 @@ public class DataIngestionService {
 
         try {
             // Validate the request
-            validateProfileRequest(request);
+            validator.validateAndThrow(request);
 
-            // Get the user
-            User user = userRepository.findById(request.getUserId())
+            // Lock the user before inserting anything, so concurrent uploads of
+            // the same user run one after the other
+            User user = userRepository.findByIdForUpdate(request.getUserId())
                     .orElseThrow(() -> new DataValidationException("User not found with ID: " + request.getUserId()));
 
             List<Long> accountIds = new ArrayList<>();
+            List<Long> ingestedAccountIds = new ArrayList<>();
             int totalTransactions = 0;
             double totalBalance = 0.0;
+            LocalDate earliestDate = null;
+            LocalDate latestDate = null;
 
             // Process each account
             for (FinancialAccountDto accountDto : request.getAccounts()) {
                 FinancialAccount account = createAccount(accountDto, user);
                 FinancialAccount savedAccount = accountRepository.save(account);
+                balanceHistoryService.recordBalance(savedAccount, BalanceHistoryService.SOURCE_INGEST);
                 accountIds.add(savedAccount.getId());
                 totalBalance += savedAccount.getCurrentBalance();
 
@@ -79,11 +102,25 @@ public class DataIngestionService {
                 if (accountDto.getTransactions() != null && !accountDto.getTransactions().isEmpty()) {
                     List<FinancialTransactions> transactions = createTransactions(accountDto.getTransactions(),
                             savedAccount);
-                    transactionRepository.saveAll(transactions);
+                    List<FinancialTransactions> savedTransactions = transactionRepository.saveAll(transactions);
+                    anomalyService.scoreTransactions(savedAccount, savedTransactions);
+                    columnCache.recordIngest(user.getId(), savedTransactions);
+                    searchService.indexTransactions(user.getId(), savedTransactions);
                     totalTransactions += transactions.size();
+                    ingestedAccountIds.add(savedAccount.getId());
+
+                    for (FinancialTransactions transaction : savedTransactions) {
+                        LocalDate date = transaction.getTransactionDate();
+                        earliestDate = earliestDate == null || date.isBefore(earliestDate) ? date : earliestDate;
+                        latestDate = latestDate == null || date.isAfter(latestDate) ? date : latestDate;
+                    }
                 }
             }
 
+            if (totalTransactions > 0) {
+                deriveAfterCommit(user.getId(), earliestDate, latestDate, ingestedAccountIds);
+            }
+
             logger.info("Successfully saved financial profile: {} accounts, {} transactions", accountIds.size(),
                     totalTransactions);
 
@@ -106,132 +143,155 @@ public class DataIngestionService {
         }
     }
 
+    /**
+     * Links transfers and re-detects recurring streams once the upload has
+     * committed, each in a transaction of its own, so neither can roll back
+     * the upload. Failures are logged; the nightly batches catch up.
+     *
+     * @param userId     the ID of the user
+     * @param startDate  the earliest date of the ingested transactions
+     * @param endDate    the latest date of the ingested transactions
+     * @param accountIds the IDs of the accounts that received transactions
+     */
+    private void deriveAfterCommit(Long userId, LocalDate startDate, LocalDate endDate, List<Long> accountIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Link transfers between the user's accounts before deriving streams
+                try {
+                    transferMatchingService.matchOnIngest(userId, startDate, endDate);
+                } catch (RuntimeException e) {
+                    logger.error("Transfer matching after ingestion failed for user ID: {}", userId, e);
+                }
+
+                // Re-detect recurring income and bills in the accounts that
+                // received transactions
+                try {
+                    recurringStreamService.refreshAccounts(userId, accountIds);
+                } catch (RuntimeException e) {
+                    logger.error("Recurring stream refresh after ingestion failed for user ID: {}", userId, e);
+                }
+            }
+        });
+    }
+
     /**
      * Retrieves all financial accounts for a specific user.
+     * Transaction counts and sums are aggregated in a single query.
      *
      * @param userId the ID of the user
-     * @return list of financial accounts
+     * @return list of financial account read models
      */
     @Transactional(readOnly = true)
-    public List<FinancialAccount> getUserAccounts(Long userId) {
+    public List<FinancialAccountResponse> getUserAccounts(Long userId) {
         logger.info("Retrieving accounts for user ID: {}", userId);
-        return accountRepository.findByUserId(userId);
+        return accountRepository.findSummariesByUserId(userId);
     }
 
     /**
      * Retrieves a specific financial account by ID.
      *
      * @param accountId the ID of the account
-     * @return the financial account
+     * @return the financial account read model
      * @throws AccountNotFoundException if the account is not found
      */
     @Transactional(readOnly = true)
-    public FinancialAccount getAccountById(Long accountId) {
+    public FinancialAccountResponse getAccountById(Long accountId) {
         logger.info("Retrieving account with ID: {}", accountId);
-        return accountRepository.findById(accountId)
+        return accountRepository.findSummaryById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
     }
 
     /**
-     * Retrieves all transactions for a specific account.
+     * Retrieves all transactions for a specific account, including those moved
+     * to the cold archive.
      *
      * @param accountId the ID of the account
-     * @return list of transactions
+     * @return list of transaction read models
      */
     @Transactional(readOnly = true)
-    public List<FinancialTransactions> getAccountTransactions(Long accountId) {
+    public List<TransactionResponse> getAccountTransactions(Long accountId) {
         logger.info("Retrieving transactions for account ID: {}", accountId);
 
         // Verify account exists
-        if (!accountRepository.existsById(accountId)) {
-            throw new AccountNotFoundException("Account not found with ID: " + accountId);
-        }
+        Long userId = accountRepository.findUserIdById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
 
-        return transactionRepository.findByAccountId(accountId);
+        return archiveService.getAccountHistory(userId, accountId);
     }
 
     /**
      * Deletes a financial account and all its transactions.
+     * Transactions are removed in bounded chunks with bulk DML rather than
+     * through entity cascades, so this method is intentionally not wrapped in a
+     * single transaction.
      *
      * @param accountId the ID of the account to delete
      * @throws AccountNotFoundException if the account is not found
      */
-    @Transactional
     public void deleteAccount(Long accountId) {
         logger.info("Deleting account with ID: {}", accountId);
 
-        FinancialAccount account = accountRepository.findById(accountId)
+        Long userId = accountRepository.findUserIdById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
 
-        accountRepository.delete(account);
+        dataPurgeService.deleteAccount(accountId);
+        archiveService.removeAccount(userId, accountId);
+        columnCache.evict(userId);
         logger.info("Successfully deleted account with ID: {}", accountId);
     }
 
     /**
-     * Updates an existing financial account.
+     * Purges all accounts, transactions (hot and archived) and credit scores for
+     * a user.
+     *
+     * @param userId the ID of the user
+     * @return the number of accounts deleted
+     * @throws DataValidationException if the user does not exist
+     */
+    public int purgeUserData(Long userId) {
+        logger.info("Purging financial data for user ID: {}", userId);
+
+        if (!userRepository.existsById(userId)) {
+            throw new DataValidationException("User not found with ID: " + userId);
+        }
+
+        int deletedAccounts = dataPurgeService.purgeUserData(userId);
+        archiveService.removeUser(userId);
+        columnCache.evict(userId);
+        return deletedAccounts;
+    }
+
+    /**
+     * Updates an existing financial account. A balance change is recorded in
+     * the account's balance history.
      *
      * @param accountId  the ID of the account to update
      * @param accountDto the updated account data
-     * @return the updated account
+     * @return the updated account read model
      * @throws AccountNotFoundException if the account is not found
      */
     @Transactional
-    public FinancialAccount updateAccount(Long accountId, FinancialAccountDto accountDto) {
+    public FinancialAccountResponse updateAccount(Long accountId, FinancialAccountDto accountDto) {
         logger.info("Updating account with ID: {}", accountId);
 
         FinancialAccount account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
 
+        boolean balanceChanged = !Objects.equals(account.getCurrentBalance(), accountDto.getCurrentBalance());
         account.setInstitutionName(accountDto.getInstitutionName());
         account.setAccountType(accountDto.getAccountType());
         account.setAccountNumberLast4(accountDto.getAccountNumberLast4());
         account.setCurrentBalance(accountDto.getCurrentBalance());
 
-        FinancialAccount updatedAccount = accountRepository.save(account);
-        logger.info("Successfully updated account with ID: {}", accountId);
-
-        return updatedAccount;
-    }
-
-    /**
-     * Validates a financial profile request.
-     *
-     * @param request the request to validate
-     * @throws DataValidationException if validation fails
-     */
-    private void validateProfileRequest(FinancialProfileRequest request) {
-        if (request.getUserId() == null) {
-            throw new DataValidationException("User ID is required");
-        }
-
-        if (request.getAccounts() == null || request.getAccounts().isEmpty()) {
-            throw new DataValidationException("At least one financial account is required");
-        }
-
-        // Validate each account
-        for (FinancialAccountDto accountDto : request.getAccounts()) {
-            validateAccountDto(accountDto);
-        }
-    }
-
-    /**
-     * Validates a financial account DTO.
-     *
-     * @param accountDto the account to validate
-     * @throws DataValidationException if validation fails
-     */
-    private void validateAccountDto(FinancialAccountDto accountDto) {
-        if (accountDto.getInstitutionName() == null || accountDto.getInstitutionName().isBlank()) {
-            throw new DataValidationException("Institution name is required");
-        }
-
-        if (accountDto.getAccountType() == null || accountDto.getAccountType().isBlank()) {
-            throw new DataValidationException("Account type is required");
+        accountRepository.save(account);
+        if (balanceChanged) {
+            balanceHistoryService.recordBalance(account, BalanceHistoryService.SOURCE_UPDATE);
         }
+        logger.info("Successfully updated account with ID: {}", accountId);
 
-        if (accountDto.getCurrentBalance() == null || accountDto.getCurrentBalance() < 0) {
-            throw new DataValidationException("Current balance must be a positive number");
-        }
+        return accountRepository.findSummaryById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
     }
 
     /**
@@ -253,6 +313,9 @@ public class DataIngestionService {
 
     /**
      * Creates a list of FinancialTransactions entities from DTOs.
+     * A standard category sent by the client is kept; a missing or unknown one
+     * is replaced from the keyword dictionary by description. The merchant is
+     * resolved from the description through the merchant dictionary.
      *
      * @param transactionDtos the list of transaction DTOs
      * @param account         the account that owns these transactions
@@ -267,8 +330,10 @@ public class DataIngestionService {
             transaction.setAccount(account);
             transaction.setAmount(dto.getAmount());
             transaction.setTransactionType(dto.getTransactionType());
-            transaction.setCategory(dto.getCategory());
+            transaction.setCategory(categorizationService.categorize(dto.getDescription(),
+                    dto.getTransactionType(), dto.getCategory()));
             transaction.setDescription(dto.getDescription());
+            transaction.setMerchant(merchantDictionaryService.resolve(dto.getDescription()));
             transaction.setTransactionDate(dto.getTransactionDate());
             transactions.add(transaction);
         }
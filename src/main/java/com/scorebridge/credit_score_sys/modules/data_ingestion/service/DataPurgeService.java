@@ -0,0 +1,145 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.AccountForecastRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.BalanceSnapshotRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.CategorySpendStatsRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.RecurringStreamRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransactionAnomalyRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransactionSearchTermRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransferLinkRepository;
+import com.scorebridge.credit_score_sys.modules.scoring.repository.CreditScoreRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for bulk deletion of financial data.
+ * Removes transactions and scores in bounded chunks using bulk DML, each chunk
+ * in its own short transaction, so that large accounts never have to be loaded
+ * into the persistence context.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class DataPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataPurgeService.class);
+
+    private final FinancialAccountRepository accountRepository;
+    private final FinancialTransactionRepository transactionRepository;
+    private final CreditScoreRepository creditScoreRepository;
+    private final CategorySpendStatsRepository statsRepository;
+    private final TransactionAnomalyRepository anomalyRepository;
+    private final TransferLinkRepository transferLinkRepository;
+    private final TransactionSearchTermRepository searchTermRepository;
+    private final AccountForecastRepository forecastRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final RecurringStreamRepository streamRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataIngestionConfig config;
+
+    /**
+     * Deletes an account and all of its transactions.
+     * Transactions and their search postings are removed chunk by chunk before
+     * the account row itself, together with the account's anomaly flags,
+     * transfer links, recurring streams, forecast and balance history. The
+     * user's category
+     * statistics are kept, as they describe the user rather than the account.
+     *
+     * @param accountId the ID of the account to delete
+     * @return the number of transactions deleted
+     */
+    public long deleteAccount(Long accountId) {
+        long deletedTransactions = deleteInChunks(
+                () -> transactionRepository.findIdsByAccountId(accountId, firstChunk()),
+                transactionRepository::deleteByIdIn);
+        deleteInChunks(
+                () -> searchTermRepository.findIdsByAccountId(accountId, firstChunk()),
+                searchTermRepository::deleteByIdIn);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            anomalyRepository.deleteByAccountId(accountId);
+            transferLinkRepository.deleteByAccountId(accountId);
+            accountRepository.findUserIdById(accountId).ifPresent(
+                    userId -> streamRepository.deleteByUserIdAndAccountIdIn(userId, List.of(accountId)));
+            forecastRepository.deleteByAccountId(accountId);
+            balanceSnapshotRepository.deleteByAccountId(accountId);
+            accountRepository.deleteAccountById(accountId);
+        });
+        logger.info("Deleted account {} with {} transactions", accountId, deletedTransactions);
+        return deletedTransactions;
+    }
+
+    /**
+     * Purges all financial data for a user: every account with its transactions,
+     * the user's category statistics and recurring streams, and every
+     * calculated credit score. The user record itself is kept.
+     *
+     * @param userId the ID of the user
+     * @return the number of accounts deleted
+     */
+    public int purgeUserData(Long userId) {
+        List<Long> accountIds = accountRepository.findIdsByUserId(userId);
+        for (Long accountId : accountIds) {
+            deleteAccount(accountId);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            statsRepository.deleteByUserId(userId);
+            streamRepository.deleteByUserId(userId);
+        });
+
+        long deletedScores = deleteInChunks(
+                () -> creditScoreRepository.findIdsByUserId(userId, firstChunk()),
+                creditScoreRepository::deleteByIdIn);
+
+        logger.info("Purged data for user {}: {} accounts, {} scores", userId, accountIds.size(), deletedScores);
+        return accountIds.size();
+    }
+
+    /**
+     * Repeatedly selects a chunk of IDs and deletes them in a new transaction
+     * until no IDs remain.
+     *
+     * @param nextChunk supplier of the next chunk of IDs to delete
+     * @param deleter   bulk delete for a chunk of IDs
+     * @return the total number of rows deleted
+     */
+    private long deleteInChunks(Supplier<List<Long>> nextChunk, Function<List<Long>, Integer> deleter) {
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = nextChunk.get();
+                return ids.isEmpty() ? 0 : deleter.apply(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+        }
+    }
+
+    /**
+     * Returns the page used to select the next chunk of IDs. Deleted rows drop
+     * out of the result, so the first page is always the next chunk.
+     *
+     * @return page request sized to the configured chunk size
+     */
+    private PageRequest firstChunk() {
+        return PageRequest.of(0, config.getPurge().getChunkSize());
+    }
+}
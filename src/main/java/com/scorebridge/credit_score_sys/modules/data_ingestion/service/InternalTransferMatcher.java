@@ -0,0 +1,138 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransferLink;
+
+/**
+ * Pairs the two sides of transfers between a user's own accounts.
+ * <p>
+ * A transfer shows up as an EXPENSE on one account and an INCOME of the same
+ * amount on another account a few days apart. Instead of comparing every pair,
+ * candidates are sorted by (amount, date) and swept once: within a run of equal
+ * amounts, each expense is matched to the closest unmatched income on a
+ * different account inside the date tolerance, with a moving lower bound so
+ * incomes that are too old for the current expense are never revisited.
+ * Matching runs in O(n log n) for n transactions.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+public class InternalTransferMatcher {
+
+    /**
+     * Matches transfers among a user's transactions.
+     *
+     * @param userId        the ID of the user the transactions belong to
+     * @param transactions  the user's transactions, in any order
+     * @param linkedIds     IDs of transactions that are already linked
+     * @param toleranceDays maximum number of days between the two sides
+     * @return new links (not yet persisted)
+     */
+    public List<TransferLink> match(Long userId, List<TransactionResponse> transactions, Set<Long> linkedIds,
+            int toleranceDays) {
+        List<Candidate> candidates = new ArrayList<>(transactions.size());
+        for (TransactionResponse transaction : transactions) {
+            if (transaction.getAmount() > 0 && !linkedIds.contains(transaction.getId())) {
+                candidates.add(new Candidate(transaction));
+            }
+        }
+        candidates.sort(Comparator.comparingLong((Candidate c) -> c.cents)
+                .thenComparingLong(c -> c.epochDay)
+                .thenComparingLong(c -> c.transaction.getId()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TransferLink> links = new ArrayList<>();
+        List<Candidate> expenses = new ArrayList<>();
+        List<Candidate> incomes = new ArrayList<>();
+
+        int runStart = 0;
+        while (runStart < candidates.size()) {
+            long cents = candidates.get(runStart).cents;
+            int runEnd = runStart;
+            expenses.clear();
+            incomes.clear();
+            while (runEnd < candidates.size() && candidates.get(runEnd).cents == cents) {
+                Candidate candidate = candidates.get(runEnd++);
+                (candidate.income ? incomes : expenses).add(candidate);
+            }
+            if (!expenses.isEmpty() && !incomes.isEmpty()) {
+                matchRun(userId, expenses, incomes, toleranceDays, now, links);
+            }
+            runStart = runEnd;
+        }
+        return links;
+    }
+
+    /**
+     * Matches expenses to incomes of the same amount; both lists are date
+     * ordered.
+     */
+    private void matchRun(Long userId, List<Candidate> expenses, List<Candidate> incomes, int toleranceDays,
+            LocalDateTime now, List<TransferLink> links) {
+        int lowerBound = 0;
+        for (Candidate expense : expenses) {
+            while (lowerBound < incomes.size() && incomes.get(lowerBound).epochDay < expense.epochDay - toleranceDays) {
+                lowerBound++;
+            }
+
+            Candidate best = null;
+            long bestDistance = Long.MAX_VALUE;
+            for (int i = lowerBound; i < incomes.size() && incomes.get(i).epochDay <= expense.epochDay + toleranceDays;
+                    i++) {
+                Candidate income = incomes.get(i);
+                if (income.matched || income.transaction.getAccountId().equals(expense.transaction.getAccountId())) {
+                    continue;
+                }
+                long distance = Math.abs(income.epochDay - expense.epochDay);
+                if (distance < bestDistance) {
+                    best = income;
+                    bestDistance = distance;
+                }
+            }
+
+            if (best != null) {
+                best.matched = true;
+                links.add(TransferLink.builder()
+                        .userId(userId)
+                        .outgoingTransactionId(expense.transaction.getId())
+                        .outgoingAccountId(expense.transaction.getAccountId())
+                        .incomingTransactionId(best.transaction.getId())
+                        .incomingAccountId(best.transaction.getAccountId())
+                        .amount(expense.transaction.getAmount())
+                        .outgoingDate(expense.transaction.getTransactionDate())
+                        .incomingDate(best.transaction.getTransactionDate())
+                        .detectedAt(now)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Transaction with its sort keys precomputed.
+     */
+    private static final class Candidate {
+
+        private final TransactionResponse transaction;
+        private final long cents;
+        private final long epochDay;
+        private final boolean income;
+        private boolean matched;
+
+        private Candidate(TransactionResponse transaction) {
+            this.transaction = transaction;
+            this.cents = Math.round(transaction.getAmount() * 100);
+            this.epochDay = transaction.getTransactionDate().toEpochDay();
+            this.income = "INCOME".equals(transaction.getTransactionType());
+        }
+    }
+}
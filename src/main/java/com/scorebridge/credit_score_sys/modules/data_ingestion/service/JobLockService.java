@@ -0,0 +1,100 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.JobLock;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.JobLockRepository;
+
+/**
+ * Service for running scheduled jobs on one instance at a time.
+ * <p>
+ * Each job has a row in job_locks holding a lease. An instance takes the lease
+ * with a conditional update that only succeeds once the previous lease has
+ * ended, so exactly one of the instances triggered by the same cron wins; the
+ * others skip the run. The lease is ended when the job finishes and expires
+ * on its own if the instance dies, so it should be longer than a run takes.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+public class JobLockService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLockService.class);
+
+    private final JobLockRepository lockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public JobLockService(JobLockRepository lockRepository, PlatformTransactionManager transactionManager) {
+        this.lockRepository = lockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Runs a job if no other instance holds its lease.
+     *
+     * @param name  the name of the job
+     * @param lease the longest time the job may hold the lease
+     * @param job   the job to run
+     * @return true if the job ran, false if another instance holds the lease
+     */
+    public boolean runExclusively(String name, Duration lease, Runnable job) {
+        if (!tryAcquire(name, lease)) {
+            logger.info("Skipping job {}: another instance holds its lease", name);
+            return false;
+        }
+        try {
+            job.run();
+        } finally {
+            transactionTemplate.executeWithoutResult(
+                    status -> lockRepository.release(name, owner, LocalDateTime.now()));
+        }
+        return true;
+    }
+
+    /**
+     * Takes the lease of a job, creating its row on first use.
+     *
+     * @param name  the name of the job
+     * @param lease the length of the lease
+     * @return true if this instance now holds the lease
+     */
+    private boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer taken = transactionTemplate.execute(
+                status -> lockRepository.acquire(name, owner, now, now.plus(lease)));
+        if (taken != null && taken > 0) {
+            return true;
+        }
+        try {
+            Boolean created = transactionTemplate.execute(status -> {
+                if (lockRepository.existsById(name)) {
+                    return false;
+                }
+                lockRepository.saveAndFlush(JobLock.builder()
+                        .name(name)
+                        .lockedUntil(now.plus(lease))
+                        .lockedBy(owner)
+                        .build());
+                return true;
+            });
+            return Boolean.TRUE.equals(created);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the row first and holds the lease
+            return false;
+        }
+    }
+}
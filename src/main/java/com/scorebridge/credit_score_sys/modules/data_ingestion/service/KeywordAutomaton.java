@@ -0,0 +1,271 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable Aho-Corasick automaton over a keyword dictionary.
+ * Input is folded into a small alphabet (letters, digits and a single
+ * separator class) and the failure links are compiled into a dense transition
+ * table, so matching is one array lookup per character and allocates nothing.
+ * Keywords only match whole words: both the keywords and the text are framed
+ * by a separator at each end, so "dental" does not match "accidental" and
+ * "uber" does not match "tuber". When several keywords occur in a text, the
+ * longest one wins; ties go to the keyword that was added first.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+public final class KeywordAutomaton {
+
+    /**
+     * Alphabet: 0 is the separator class, 1-26 are letters, 27-36 are digits.
+     */
+    private static final int ALPHABET_SIZE = 37;
+
+    private static final byte[] CHAR_CLASS = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHAR_CLASS[c] = (byte) (c - 'a' + 1);
+            CHAR_CLASS[Character.toUpperCase(c)] = (byte) (c - 'a' + 1);
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHAR_CLASS[c] = (byte) (c - '0' + 27);
+        }
+    }
+
+    private final int[] transitions;
+    private final int[] output;
+    private final int[] keywordLengths;
+    private final String[] values;
+
+    private KeywordAutomaton(int[] transitions, int[] output, int[] keywordLengths, String[] values) {
+        this.transitions = transitions;
+        this.output = output;
+        this.keywordLengths = keywordLengths;
+        this.values = values;
+    }
+
+    /**
+     * Returns the value of the longest keyword found in the text.
+     *
+     * @param text the text to scan, may be null
+     * @return the matched keyword's value, or null if no keyword occurs
+     */
+    public String findBest(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+
+        // The text starts with an implicit separator
+        int state = transitions[0];
+        int best = -1;
+        int bestLength = 0;
+        boolean previousSeparator = true;
+
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            // ... and ends with one
+            int c = i < n ? charClass(text.charAt(i)) : 0;
+            if (c == 0) {
+                if (previousSeparator) {
+                    continue;
+                }
+                previousSeparator = true;
+            } else {
+                previousSeparator = false;
+            }
+
+            state = transitions[state * ALPHABET_SIZE + c];
+            int keyword = output[state];
+            if (keyword >= 0 && keywordLengths[keyword] > bestLength) {
+                best = keyword;
+                bestLength = keywordLengths[keyword];
+            }
+        }
+
+        return best < 0 ? null : values[best];
+    }
+
+    /**
+     * Returns the number of states in the automaton.
+     *
+     * @return state count
+     */
+    public int stateCount() {
+        return output.length;
+    }
+
+    /**
+     * Returns the number of keywords compiled into the automaton.
+     *
+     * @return keyword count
+     */
+    public int keywordCount() {
+        return values.length;
+    }
+
+    private static int charClass(char ch) {
+        return ch < 128 ? CHAR_CLASS[ch] : 0;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return an empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Collects keywords and compiles them into a {@link KeywordAutomaton}.
+     */
+    public static final class Builder {
+
+        private final List<String> keywords = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a keyword. Case and punctuation are ignored when matching, runs of
+         * separators are treated as a single space, and the keyword only matches
+         * at word boundaries.
+         *
+         * @param keyword the keyword to match
+         * @param value   the value returned when the keyword is the best match
+         * @return this builder
+         */
+        public Builder add(String keyword, String value) {
+            keywords.add(keyword);
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * Compiles the collected keywords.
+         *
+         * @return the automaton
+         */
+        public KeywordAutomaton build() {
+            List<int[]> children = new ArrayList<>();
+            children.add(newNode());
+            int[] terminal = new int[16];
+            Arrays.fill(terminal, -1);
+            int[] lengths = new int[keywords.size()];
+
+            for (int k = 0; k < keywords.size(); k++) {
+                int[] symbols = normalize(keywords.get(k));
+                if (symbols.length == 0) {
+                    continue;
+                }
+                int state = 0;
+                for (int c : symbols) {
+                    int next = children.get(state)[c];
+                    if (next < 0) {
+                        next = children.size();
+                        children.add(newNode());
+                        children.get(state)[c] = next;
+                    }
+                    state = next;
+                }
+                if (state >= terminal.length) {
+                    int oldLength = terminal.length;
+                    terminal = Arrays.copyOf(terminal, Math.max(state + 1, oldLength * 2));
+                    Arrays.fill(terminal, oldLength, terminal.length, -1);
+                }
+                if (terminal[state] < 0) {
+                    terminal[state] = k;
+                }
+                lengths[k] = symbols.length;
+            }
+
+            int stateCount = children.size();
+            int[] transitions = new int[stateCount * ALPHABET_SIZE];
+            int[] fail = new int[stateCount];
+            int[] output = new int[stateCount];
+            Arrays.fill(output, -1);
+
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            int[] root = children.get(0);
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                if (root[c] > 0) {
+                    transitions[c] = root[c];
+                    fail[root[c]] = 0;
+                    queue.add(root[c]);
+                } else {
+                    transitions[c] = 0;
+                }
+            }
+            output[0] = terminalOf(terminal, 0);
+
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                int own = terminalOf(terminal, state);
+                output[state] = own >= 0 ? own : output[fail[state]];
+
+                int[] node = children.get(state);
+                for (int c = 0; c < ALPHABET_SIZE; c++) {
+                    int child = node[c];
+                    if (child >= 0) {
+                        fail[child] = transitions[fail[state] * ALPHABET_SIZE + c];
+                        transitions[state * ALPHABET_SIZE + c] = child;
+                        queue.add(child);
+                    } else {
+                        transitions[state * ALPHABET_SIZE + c] = transitions[fail[state] * ALPHABET_SIZE + c];
+                    }
+                }
+            }
+
+            return new KeywordAutomaton(transitions, output, lengths, values.toArray(new String[0]));
+        }
+
+        /**
+         * Folds a keyword into alphabet symbols, collapsing runs of separators and
+         * framing the keyword with exactly one separator at each end.
+         *
+         * @param keyword the keyword to normalize
+         * @return the keyword's symbols, or an empty array if the keyword has no
+         *         letters or digits
+         */
+        private static int[] normalize(String keyword) {
+            int[] symbols = new int[keyword.length() + 2];
+            int length = 1;
+            boolean previousSeparator = true;
+            for (int i = 0; i < keyword.length(); i++) {
+                int c = charClass(keyword.charAt(i));
+                if (c == 0) {
+                    if (previousSeparator) {
+                        continue;
+                    }
+                    previousSeparator = true;
+                } else {
+                    previousSeparator = false;
+                }
+                symbols[length++] = c;
+            }
+            if (length == 1) {
+                return new int[0];
+            }
+            if (symbols[length - 1] != 0) {
+                length++;
+            }
+            return Arrays.copyOf(symbols, length);
+        }
+
+        private static int terminalOf(int[] terminal, int state) {
+            return state < terminal.length ? terminal[state] : -1;
+        }
+
+        private static int[] newNode() {
+            int[] node = new int[ALPHABET_SIZE];
+            Arrays.fill(node, -1);
+            return node;
+        }
+    }
+}
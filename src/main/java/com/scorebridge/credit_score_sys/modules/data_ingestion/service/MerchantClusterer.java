@@ -0,0 +1,272 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Groups near-duplicate normalized descriptions into merchants.
+ * <p>
+ * Each description is reduced to its set of character trigrams and summarized
+ * by a MinHash signature of {@link #BANDS} x {@link #ROWS} hashes. Locality
+ * sensitive hashing then buckets descriptions per band, so only descriptions
+ * sharing a band are compared: with 8 bands of 4 rows, pairs above a Jaccard
+ * similarity of about 0.6 are very likely to meet in some band, and pairs well
+ * below it rarely do. Candidates are confirmed with the exact trigram
+ * similarity before they are merged with a union-find.
+ * <p>
+ * Bands are processed one at a time and neither trigram sets nor signatures
+ * are stored; they are recomputed from the key when needed. The working memory
+ * is one primitive open-addressing table and the union-find array, a few dozen
+ * bytes per distinct description.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+public class MerchantClusterer {
+
+    /**
+     * Number of LSH bands.
+     */
+    static final int BANDS = 8;
+
+    /**
+     * MinHash values per band.
+     */
+    static final int ROWS = 4;
+
+    /**
+     * Maximum number of tokens kept in a normalized description.
+     */
+    private static final int KEY_TOKENS = 4;
+
+    /**
+     * Maximum length of a normalized description.
+     */
+    private static final int KEY_LENGTH = 100;
+
+    /**
+     * Tokens that carry no merchant information: payment rails, card networks,
+     * web and legal suffixes.
+     */
+    private static final Set<String> NOISE_TOKENS = Set.of(
+            "pos", "purchase", "debit", "credit", "card", "visa", "mastercard", "ach", "payment",
+            "www", "com", "net", "org", "inc", "llc", "ltd", "co", "sq", "tst", "pp", "the");
+
+    private static final long[] SEEDS = new long[BANDS * ROWS];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SEEDS.length; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    /**
+     * Normalizes a free-text description into a merchant key: lower case,
+     * split on anything that is not a letter or digit, with tokens containing
+     * digits (store numbers, references, dates) and noise tokens dropped.
+     * "AMZN Mktp US*2K3" becomes "amzn mktp us".
+     *
+     * @param description the description, may be null
+     * @return the normalized key, empty if nothing is left
+     */
+    public static String normalize(String description) {
+        if (description == null) {
+            return "";
+        }
+
+        StringBuilder key = new StringBuilder(Math.min(description.length(), KEY_LENGTH));
+        StringBuilder token = new StringBuilder();
+        int tokens = 0;
+        boolean hasDigit = false;
+
+        for (int i = 0; i <= description.length() && tokens < KEY_TOKENS; i++) {
+            char c = i < description.length() ? description.charAt(i) : ' ';
+            if (c < 128 && Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+                hasDigit |= Character.isDigit(c);
+                continue;
+            }
+            if (token.length() > 0 && !hasDigit && !NOISE_TOKENS.contains(token.toString())) {
+                if (key.length() > 0) {
+                    key.append(' ');
+                }
+                key.append(token);
+                tokens++;
+            }
+            token.setLength(0);
+            hasDigit = false;
+        }
+        return key.length() > KEY_LENGTH ? key.substring(0, KEY_LENGTH).trim() : key.toString();
+    }
+
+    /**
+     * Clusters normalized descriptions and picks a canonical member for each
+     * cluster: the description with the most transactions.
+     *
+     * @param keys      distinct normalized descriptions
+     * @param counts    number of transactions per description, same order
+     * @param threshold minimum trigram Jaccard similarity for a merge
+     * @return for each description, the index of its cluster's canonical member
+     */
+    public int[] cluster(List<String> keys, long[] counts, double threshold) {
+        int n = keys.size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        if (n < 2) {
+            return parent;
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(n, 2) * 2 - 1) << 1;
+        long[] bucketHashes = new long[capacity];
+        int[] bucketOwners = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int band = 0; band < BANDS; band++) {
+            Arrays.fill(bucketOwners, -1);
+            for (int i = 0; i < n; i++) {
+                int[] shingles = shingles(keys.get(i));
+                long hash = bandHash(shingles, band);
+                int slot = (int) mix(hash) & mask;
+                while (bucketOwners[slot] >= 0 && bucketHashes[slot] != hash) {
+                    slot = (slot + 1) & mask;
+                }
+                if (bucketOwners[slot] < 0) {
+                    bucketHashes[slot] = hash;
+                    bucketOwners[slot] = i;
+                    continue;
+                }
+                int owner = bucketOwners[slot];
+                if (find(parent, owner) != find(parent, i)
+                        && jaccard(shingles(keys.get(owner)), shingles) >= threshold) {
+                    union(parent, counts, owner, i);
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            parent[i] = find(parent, i);
+        }
+        return parent;
+    }
+
+    /**
+     * Computes the sorted, distinct trigram hashes of a key. The key is padded
+     * with a space on both sides so short keys still produce trigrams.
+     *
+     * @param key the normalized description
+     * @return sorted trigram hashes
+     */
+    static int[] shingles(String key) {
+        String padded = " " + key + " ";
+        int count = Math.max(1, padded.length() - 2);
+        int[] hashes = new int[count];
+        for (int i = 0; i < count; i++) {
+            int h = 0;
+            for (int j = i; j < Math.min(i + 3, padded.length()); j++) {
+                h = h * 31 + padded.charAt(j);
+            }
+            hashes[i] = h;
+        }
+        Arrays.sort(hashes);
+
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || hashes[i] != hashes[i - 1]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        return distinct == count ? hashes : Arrays.copyOf(hashes, distinct);
+    }
+
+    /**
+     * Computes the MinHash values of one band and combines them into a single
+     * bucket hash.
+     *
+     * @param shingles the key's trigram hashes
+     * @param band     the band index
+     * @return the band's bucket hash
+     */
+    static long bandHash(int[] shingles, int band) {
+        long combined = band;
+        for (int row = 0; row < ROWS; row++) {
+            long seed = SEEDS[band * ROWS + row];
+            long min = Long.MAX_VALUE;
+            for (int shingle : shingles) {
+                long h = mix(shingle ^ seed);
+                if (h < min) {
+                    min = h;
+                }
+            }
+            combined = mix(combined * 31 + min);
+        }
+        return combined;
+    }
+
+    /**
+     * Computes the Jaccard similarity of two sorted, distinct hash sets.
+     *
+     * @param a first set
+     * @param b second set
+     * @return the size of the intersection divided by the size of the union
+     */
+    static double jaccard(int[] a, int[] b) {
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    /**
+     * Merges two clusters, keeping the root with the most transactions so the
+     * root is always the cluster's canonical member. Ties go to the lower index.
+     */
+    private static void union(int[] parent, long[] counts, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA == rootB) {
+            return;
+        }
+        if (counts[rootA] > counts[rootB] || (counts[rootA] == counts[rootB] && rootA < rootB)) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootA] = rootB;
+        }
+    }
+
+    /**
+     * 64-bit finalizer from SplitMix64.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,309 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.DescriptionCount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.MerchantAlias;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.MerchantDictionaryVersion;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.MerchantAliasRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.MerchantDictionaryVersionRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for resolving transaction descriptions to merchants.
+ * <p>
+ * A batch job normalizes all distinct descriptions, clusters near-duplicates
+ * with {@link MerchantClusterer} and stores the result as a new dictionary
+ * version. The dictionary is held in memory as a hash map, so ingestion
+ * resolves a description with one normalization pass and one lookup.
+ * <p>
+ * A rebuild writes its aliases under a version that is not yet completed, in
+ * chunks, and then completes the version in one update; readers keep using the
+ * previous version until then, so they never see an empty or partial
+ * dictionary. Older versions are deleted afterwards. The rebuild runs on the
+ * instance holding the job's lease in {@link JobLockService}; every instance
+ * polls the active version and reloads when it changes.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class MerchantDictionaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MerchantDictionaryService.class);
+
+    private static final String JOB_NAME = "merchant-dictionary";
+
+    private final MerchantClusterer clusterer;
+    private final MerchantAliasRepository aliasRepository;
+    private final MerchantDictionaryVersionRepository versionRepository;
+    private final FinancialTransactionRepository transactionRepository;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final DataIngestionConfig config;
+
+    private volatile Map<String, String> aliases = Map.of();
+    private volatile long loadedVersion;
+
+    /**
+     * Loads the stored dictionary at startup.
+     */
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * Reloads the dictionary if another instance completed a newer version.
+     */
+    @Scheduled(fixedDelayString = "${data-ingestion.merchants.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        long active = versionRepository.findActiveVersion().orElse(0L);
+        if (active != loadedVersion) {
+            reload();
+        }
+    }
+
+    /**
+     * Reloads the active dictionary version from the database and swaps it in.
+     *
+     * @return the number of aliases loaded
+     */
+    public synchronized int reload() {
+        long version = versionRepository.findActiveVersion().orElse(0L);
+        Map<String, String> loaded = new HashMap<>();
+        PageRequest page = PageRequest.of(0, config.getMerchants().getPageSize());
+        long lastId = 0;
+        while (true) {
+            List<MerchantAlias> batch = aliasRepository.findByVersionAfterId(version, lastId, page);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (MerchantAlias alias : batch) {
+                loaded.put(alias.getDescriptionKey(), alias.getMerchantName());
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        aliases = loaded;
+        loadedVersion = version;
+        logger.info("Loaded merchant dictionary version {}: {} aliases", version, loaded.size());
+        return loaded.size();
+    }
+
+    /**
+     * Resolves a description to its merchant.
+     *
+     * @param description the transaction description, may be null
+     * @return the merchant, or null if the description has no merchant text
+     */
+    public String resolve(String description) {
+        String key = MerchantClusterer.normalize(description);
+        if (key.isEmpty()) {
+            return null;
+        }
+        return aliases.getOrDefault(key, key);
+    }
+
+    /**
+     * Scheduled rebuild of the merchant dictionary.
+     */
+    @Scheduled(cron = "${data-ingestion.merchants.batch-cron:0 0 2 * * SUN}")
+    public void scheduledRebuild() {
+        rebuildAndBackfill();
+    }
+
+    /**
+     * Rebuilds the merchant dictionary and applies it to stored transactions,
+     * unless another instance is already doing so.
+     *
+     * @return the number of transactions whose merchant changed
+     */
+    public long rebuildAndBackfill() {
+        long[] updated = { 0 };
+        jobLockService.runExclusively(JOB_NAME, Duration.ofMinutes(config.getMerchants().getLeaseMinutes()), () -> {
+            rebuild();
+            updated[0] = backfill();
+        });
+        return updated[0];
+    }
+
+    /**
+     * Rebuilds the merchant dictionary from all stored descriptions.
+     * Distinct descriptions are read in keyset-ordered pages and folded into
+     * their normalized keys, so memory grows with the number of normalized
+     * keys rather than raw descriptions, up to the configured maximum.
+     *
+     * @return the number of aliases stored
+     */
+    private int rebuild() {
+        DataIngestionConfig.Merchants settings = config.getMerchants();
+        Map<String, Integer> index = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        long[] counts = new long[1024];
+        long skipped = 0;
+
+        String after = "";
+        while (true) {
+            List<DescriptionCount> page = transactionRepository.findDescriptionCountsAfter(after,
+                    PageRequest.of(0, settings.getPageSize()));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (DescriptionCount row : page) {
+                String key = MerchantClusterer.normalize(row.getDescription());
+                if (key.isEmpty()) {
+                    continue;
+                }
+                Integer position = index.get(key);
+                if (position == null) {
+                    if (keys.size() >= settings.getMaxDistinctDescriptions()) {
+                        skipped++;
+                        continue;
+                    }
+                    position = keys.size();
+                    index.put(key, position);
+                    keys.add(key);
+                    if (position == counts.length) {
+                        counts = Arrays.copyOf(counts, counts.length * 2);
+                    }
+                }
+                counts[position] += row.getTransactionCount();
+            }
+            after = page.get(page.size() - 1).getDescription();
+        }
+
+        int[] canonical = clusterer.cluster(keys, counts, settings.getSimilarityThreshold());
+        Map<String, String> rebuilt = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (canonical[i] != i) {
+                rebuilt.put(keys.get(i), keys.get(canonical[i]));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Long version = transactionTemplate.execute(status -> versionRepository.save(MerchantDictionaryVersion.builder()
+                .completed(false)
+                .aliasCount(0)
+                .createdAt(now)
+                .build()).getId());
+        List<MerchantAlias> chunk = new ArrayList<>(settings.getPageSize());
+        for (Map.Entry<String, String> entry : rebuilt.entrySet()) {
+            chunk.add(MerchantAlias.builder()
+                    .dictionaryVersion(version)
+                    .descriptionKey(entry.getKey())
+                    .merchantName(entry.getValue())
+                    .createdAt(now)
+                    .build());
+            if (chunk.size() == settings.getPageSize()) {
+                saveChunk(chunk);
+                chunk = new ArrayList<>(settings.getPageSize());
+            }
+        }
+        saveChunk(chunk);
+
+        // Swap the new version in for all instances at once
+        transactionTemplate.executeWithoutResult(status -> versionRepository.complete(version, rebuilt.size()));
+        aliases = rebuilt;
+        loadedVersion = version;
+        deleteOtherVersions(version);
+        if (skipped > 0) {
+            logger.warn("Merchant clustering reached its limit of {} descriptions; {} were not clustered",
+                    settings.getMaxDistinctDescriptions(), skipped);
+        }
+        logger.info("Merchant dictionary rebuilt: {} descriptions, {} aliases", keys.size(), rebuilt.size());
+        return rebuilt.size();
+    }
+
+    /**
+     * Applies the current dictionary to all stored transactions.
+     * Rows are read in keyset-ordered batches and only rows whose merchant
+     * changes are updated, with one bulk UPDATE per merchant per batch.
+     *
+     * @return the number of transactions whose merchant changed
+     */
+    private long backfill() {
+        int batchSize = config.getMerchants().getBackfillBatchSize();
+        long lastId = 0;
+        long updated = 0;
+
+        while (true) {
+            List<TransactionResponse> batch = transactionRepository.findResponsesAfterId(lastId,
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<String, List<Long>> changes = new HashMap<>();
+            for (TransactionResponse transaction : batch) {
+                String merchant = resolve(transaction.getDescription());
+                if (merchant != null && !Objects.equals(merchant, transaction.getMerchant())) {
+                    changes.computeIfAbsent(merchant, key -> new ArrayList<>()).add(transaction.getId());
+                }
+            }
+
+            if (!changes.isEmpty()) {
+                Integer changed = transactionTemplate.execute(status -> {
+                    int count = 0;
+                    for (Map.Entry<String, List<Long>> entry : changes.entrySet()) {
+                        count += transactionRepository.updateMerchantByIdIn(entry.getKey(), entry.getValue());
+                    }
+                    return count;
+                });
+                updated += changed == null ? 0 : changed;
+            }
+
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        logger.info("Merchant backfill finished: {} transactions updated", updated);
+        return updated;
+    }
+
+    /**
+     * Deletes the aliases of all versions but the given one in chunks, then
+     * the versions themselves.
+     *
+     * @param version the version to keep
+     */
+    private void deleteOtherVersions(Long version) {
+        PageRequest chunk = PageRequest.of(0, config.getMerchants().getPageSize());
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = aliasRepository.findIdsNotInVersion(version, chunk);
+                return ids.isEmpty() ? 0 : aliasRepository.deleteByIdIn(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> versionRepository.deleteAllExcept(version));
+    }
+
+    private void saveChunk(List<MerchantAlias> chunk) {
+        if (!chunk.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> aliasRepository.saveAll(chunk));
+        }
+    }
+}
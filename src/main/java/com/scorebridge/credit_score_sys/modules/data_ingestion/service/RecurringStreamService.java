@@ -0,0 +1,183 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.RecurringStreamSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataIngestionException;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.RecurringStream;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.RecurringStreamRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransferLinkRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for maintaining the recurring income and bill streams of users.
+ * Streams never span accounts, so ingestion only recomputes the streams of the
+ * accounts that received transactions. All streams are recomputed by a
+ * nightly parallel batch, which also picks up transfers linked later, and
+ * summarized as features for scoring.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class RecurringStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringStreamService.class);
+
+    private final RecurringTransactionDetector detector;
+    private final RecurringStreamRepository streamRepository;
+    private final FinancialTransactionRepository transactionRepository;
+    private final FinancialAccountRepository accountRepository;
+    private final TransferLinkRepository transferLinkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchParallelism batchParallelism;
+    private final DataIngestionConfig config;
+
+    /**
+     * Recomputes the recurring streams of some of a user's accounts and
+     * replaces their stored streams. The work is proportional to the history
+     * of those accounts only. Transfers between the user's own accounts are
+     * ignored. Always runs in a transaction of its own, so it can be called
+     * after the ingesting transaction has committed.
+     *
+     * @param userId     the ID of the user
+     * @param accountIds the IDs of the accounts that received transactions
+     * @return the number of detected streams
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int refreshAccounts(Long userId, Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> transferIds = transferLinkRepository.findLinkedTransactionIds(userId, accountIds);
+        List<TransactionResponse> transactions = new ArrayList<>();
+        for (TransactionResponse transaction : transactionRepository.findResponsesByAccountIdIn(accountIds)) {
+            if (!transferIds.contains(transaction.getId())) {
+                transactions.add(transaction);
+            }
+        }
+
+        List<RecurringStream> streams = detector.detect(userId, transactions);
+        streamRepository.deleteByUserIdAndAccountIdIn(userId, accountIds);
+        streamRepository.saveAll(streams);
+        logger.debug("Detected {} recurring streams in {} accounts of user ID: {}", streams.size(),
+                accountIds.size(), userId);
+        return streams.size();
+    }
+
+    /**
+     * Recomputes the recurring streams of one user and replaces the stored ones.
+     * Transfers between the user's own accounts are ignored. Joins the caller's
+     * transaction when there is one, so ingestion and detection commit together.
+     *
+     * @param userId the ID of the user
+     * @return the number of detected streams
+     */
+    @Transactional
+    public int refreshUser(Long userId) {
+        Set<Long> transferIds = transferLinkRepository.findLinkedTransactionIds(userId);
+        List<TransactionResponse> transactions = new ArrayList<>();
+        for (TransactionResponse transaction : transactionRepository.findResponsesByUserId(userId)) {
+            if (!transferIds.contains(transaction.getId())) {
+                transactions.add(transaction);
+            }
+        }
+
+        List<RecurringStream> streams = detector.detect(userId, transactions);
+        streamRepository.deleteByUserId(userId);
+        streamRepository.saveAll(streams);
+        logger.debug("Detected {} recurring streams for user ID: {}", streams.size(), userId);
+        return streams.size();
+    }
+
+    /**
+     * Recomputes the recurring streams of every user with accounts.
+     * Users are processed in parallel on a dedicated fork/join pool, each in its
+     * own transaction. The pool is smaller than the database connection pool,
+     * so the batch cannot starve requests of connections.
+     *
+     * @return the number of users processed
+     */
+    @Scheduled(cron = "${data-ingestion.recurring.batch-cron:0 30 3 * * ?}")
+    public int refreshAllUsers() {
+        List<Long> userIds = accountRepository.findDistinctUserIds();
+        AtomicInteger streamCount = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(batchParallelism.cap(config.getRecurring().getBatchParallelism()));
+
+        try {
+            pool.submit(() -> userIds.parallelStream().forEach(userId -> {
+                try {
+                    Integer detected = transactionTemplate.execute(status -> refreshUser(userId));
+                    streamCount.addAndGet(detected == null ? 0 : detected);
+                } catch (RuntimeException e) {
+                    logger.error("Recurring stream detection failed for user ID: {}", userId, e);
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataIngestionException("Recurring stream batch was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new DataIngestionException("Recurring stream batch failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        logger.info("Recurring stream batch finished: {} users, {} streams", userIds.size(), streamCount.get());
+        return userIds.size();
+    }
+
+    /**
+     * Summarizes the stored recurring streams of a user.
+     *
+     * @param userId the ID of the user
+     * @return summary of recurring income and bills
+     */
+    @Transactional(readOnly = true)
+    public RecurringStreamSummary getSummary(Long userId) {
+        List<RecurringStream> streams = streamRepository.findByUserId(userId);
+
+        int incomeStreams = 0;
+        int billStreams = 0;
+        double monthlyIncome = 0;
+        double monthlyBills = 0;
+        for (RecurringStream stream : streams) {
+            if ("INCOME".equals(stream.getTransactionType())) {
+                incomeStreams++;
+                monthlyIncome += stream.getMonthlyAmount();
+            } else {
+                billStreams++;
+                monthlyBills += stream.getMonthlyAmount();
+            }
+        }
+
+        return RecurringStreamSummary.builder()
+                .userId(userId)
+                .incomeStreamCount(incomeStreams)
+                .billStreamCount(billStreams)
+                .monthlyRecurringIncome(monthlyIncome)
+                .monthlyRecurringBills(monthlyBills)
+                .streams(streams)
+                .build();
+    }
+}
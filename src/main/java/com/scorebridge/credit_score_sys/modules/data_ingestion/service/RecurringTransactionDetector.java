@@ -0,0 +1,264 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.RecurringStream;
+
+/**
+ * Detects periodic series of transactions (weekly, biweekly, monthly) in a
+ * user's transaction history.
+ * <p>
+ * Transactions are grouped by account, type and normalized description, split
+ * into clusters of similar amounts by a sweep over the amount-sorted group, and
+ * each cluster is then checked for a regular interval between its date-sorted
+ * occurrences. Every step is a hash grouping or a sort, so detection runs in
+ * O(n log n) for n transactions.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+public class RecurringTransactionDetector {
+
+    /**
+     * Minimum number of occurrences before a series is considered recurring.
+     */
+    private static final int MIN_OCCURRENCES = 3;
+
+    /**
+     * Relative amount difference tolerated within one series.
+     */
+    private static final double AMOUNT_TOLERANCE = 0.15;
+
+    /**
+     * Share of intervals that must fall inside the period's range.
+     */
+    private static final double MIN_REGULAR_SHARE = 0.75;
+
+    /**
+     * Maximum number of description words used for grouping.
+     */
+    private static final int DESCRIPTION_KEY_WORDS = 3;
+
+    /**
+     * Supported periods with their accepted interval range in days.
+     */
+    private enum Period {
+        WEEKLY(6, 8, 52.0 / 12.0),
+        BIWEEKLY(12, 16, 26.0 / 12.0),
+        MONTHLY(27, 33, 1.0);
+
+        private final int minDays;
+        private final int maxDays;
+        private final double perMonth;
+
+        Period(int minDays, int maxDays, double perMonth) {
+            this.minDays = minDays;
+            this.maxDays = maxDays;
+            this.perMonth = perMonth;
+        }
+
+        boolean accepts(long days) {
+            return days >= minDays && days <= maxDays;
+        }
+
+        LocalDate next(LocalDate last) {
+            return switch (this) {
+                case WEEKLY -> last.plusWeeks(1);
+                case BIWEEKLY -> last.plusWeeks(2);
+                case MONTHLY -> last.plusMonths(1);
+            };
+        }
+    }
+
+    /**
+     * Detects recurring streams in a user's transactions.
+     *
+     * @param userId       the ID of the user the transactions belong to
+     * @param transactions the user's transactions, in any order
+     * @return detected streams (not yet persisted)
+     */
+    public List<RecurringStream> detect(Long userId, List<TransactionResponse> transactions) {
+        Map<String, List<TransactionResponse>> groups = new HashMap<>();
+        for (TransactionResponse transaction : transactions) {
+            String descriptionKey = descriptionKey(transaction);
+            if (descriptionKey.isEmpty()) {
+                continue;
+            }
+            String groupKey = transaction.getAccountId() + "|" + transaction.getTransactionType() + "|"
+                    + descriptionKey;
+            groups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(transaction);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RecurringStream> streams = new ArrayList<>();
+        for (List<TransactionResponse> group : groups.values()) {
+            if (group.size() < MIN_OCCURRENCES) {
+                continue;
+            }
+            for (List<TransactionResponse> cluster : clusterByAmount(group)) {
+                RecurringStream stream = detectPeriod(cluster);
+                if (stream != null) {
+                    stream.setUserId(userId);
+                    stream.setDetectedAt(now);
+                    streams.add(stream);
+                }
+            }
+        }
+        return streams;
+    }
+
+    /**
+     * Splits a group into clusters of similar amounts using a single sweep over
+     * the amount-sorted transactions.
+     *
+     * @param group transactions sharing account, type and description
+     * @return clusters with at least {@link #MIN_OCCURRENCES} transactions
+     */
+    private List<List<TransactionResponse>> clusterByAmount(List<TransactionResponse> group) {
+        group.sort(Comparator.comparingDouble(TransactionResponse::getAmount));
+
+        List<List<TransactionResponse>> clusters = new ArrayList<>();
+        List<TransactionResponse> current = new ArrayList<>();
+        double clusterStart = group.get(0).getAmount();
+        for (TransactionResponse transaction : group) {
+            if (transaction.getAmount() > clusterStart * (1 + AMOUNT_TOLERANCE)) {
+                if (current.size() >= MIN_OCCURRENCES) {
+                    clusters.add(current);
+                }
+                current = new ArrayList<>();
+                clusterStart = transaction.getAmount();
+            }
+            current.add(transaction);
+        }
+        if (current.size() >= MIN_OCCURRENCES) {
+            clusters.add(current);
+        }
+        return clusters;
+    }
+
+    /**
+     * Checks whether a cluster's occurrences follow a supported period.
+     *
+     * @param cluster transactions with similar amounts
+     * @return the detected stream, or null if the cluster is not periodic
+     */
+    private RecurringStream detectPeriod(List<TransactionResponse> cluster) {
+        cluster.sort(Comparator.comparing(TransactionResponse::getTransactionDate));
+
+        // Intervals between distinct dates; same-day duplicates are not intervals
+        long[] gaps = new long[cluster.size() - 1];
+        int gapCount = 0;
+        for (int i = 1; i < cluster.size(); i++) {
+            long days = ChronoUnit.DAYS.between(cluster.get(i - 1).getTransactionDate(),
+                    cluster.get(i).getTransactionDate());
+            if (days > 0) {
+                gaps[gapCount++] = days;
+            }
+        }
+        if (gapCount < MIN_OCCURRENCES - 1) {
+            return null;
+        }
+
+        long[] sorted = Arrays.copyOf(gaps, gapCount);
+        Arrays.sort(sorted);
+        long median = sorted[gapCount / 2];
+
+        Period period = null;
+        for (Period candidate : Period.values()) {
+            if (candidate.accepts(median)) {
+                period = candidate;
+                break;
+            }
+        }
+        if (period == null) {
+            return null;
+        }
+
+        int regular = 0;
+        for (int i = 0; i < gapCount; i++) {
+            if (period.accepts(gaps[i])) {
+                regular++;
+            }
+        }
+        if (regular < MIN_REGULAR_SHARE * gapCount) {
+            return null;
+        }
+
+        double total = 0;
+        for (TransactionResponse transaction : cluster) {
+            total += transaction.getAmount();
+        }
+        double average = total / cluster.size();
+        TransactionResponse first = cluster.get(0);
+        LocalDate lastDate = cluster.get(cluster.size() - 1).getTransactionDate();
+
+        return RecurringStream.builder()
+                .accountId(first.getAccountId())
+                .transactionType(first.getTransactionType())
+                .descriptionKey(descriptionKey(first))
+                .category(first.getCategory())
+                .period(period.name())
+                .averageAmount(average)
+                .monthlyAmount(average * period.perMonth)
+                .occurrences(cluster.size())
+                .firstDate(first.getTransactionDate())
+                .lastDate(lastDate)
+                .nextExpectedDate(period.next(lastDate))
+                .build();
+    }
+
+    /**
+     * Builds the grouping key for a description: the first few words, lower
+     * case, with digits and punctuation removed so that reference numbers and
+     * dates do not split a series. Falls back to the category when there is no
+     * description.
+     *
+     * @param transaction the transaction
+     * @return the normalized key, possibly empty
+     */
+    static String descriptionKey(TransactionResponse transaction) {
+        String text = transaction.getDescription();
+        if (text == null || text.isBlank()) {
+            text = transaction.getCategory();
+        }
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder key = new StringBuilder(Math.min(text.length(), 100));
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetter(c)) {
+                if (!inWord) {
+                    if (words == DESCRIPTION_KEY_WORDS) {
+                        break;
+                    }
+                    if (words > 0) {
+                        key.append(' ');
+                    }
+                    words++;
+                    inWord = true;
+                }
+                key.append(Character.toLowerCase(c));
+            } else {
+                inWord = false;
+            }
+        }
+        return key.length() > 100 ? key.substring(0, 100) : key.toString();
+    }
+}
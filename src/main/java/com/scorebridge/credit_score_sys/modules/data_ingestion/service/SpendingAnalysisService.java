@@ -0,0 +1,75 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.SpendingSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataValidationException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for income and spending analysis over a user's transactions.
+ * Reads from the {@link TransactionColumnCache} rather than from JPA entities.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class SpendingAnalysisService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpendingAnalysisService.class);
+
+    private final TransactionColumnCache columnCache;
+
+    /**
+     * Summarizes a user's income and expenses over the last months.
+     *
+     * @param userId the ID of the user
+     * @param months the number of months to analyze, counted back from today
+     * @return the spending summary
+     * @throws DataValidationException if months is not positive
+     */
+    public SpendingSummary getSummary(Long userId, int months) {
+        if (months <= 0) {
+            throw new DataValidationException("Months must be a positive number");
+        }
+
+        UserTransactionColumns columns = columnCache.get(userId);
+        LocalDate today = LocalDate.now();
+        long from = today.minusMonths(months).toEpochDay();
+        long to = today.plusDays(1).toEpochDay();
+
+        double income = columns.sumCents(from, to, true) / 100.0;
+        double expenses = columns.sumCents(from, to, false) / 100.0;
+
+        CategoryDictionary dictionary = columnCache.getCategoryDictionary();
+        long[] byCode = columns.expenseCentsByCategory(from, to, dictionary.size());
+        Map<String, Double> byCategory = new LinkedHashMap<>();
+        for (short code = 0; code < byCode.length; code++) {
+            if (byCode[code] != 0) {
+                byCategory.put(dictionary.decode(code), byCode[code] / 100.0);
+            }
+        }
+
+        logger.debug("Spending summary for user ID {}: income {}, expenses {}", userId, income, expenses);
+        return SpendingSummary.builder()
+                .userId(userId)
+                .months(months)
+                .transactionCount(columns.size())
+                .totalIncome(income)
+                .totalExpenses(expenses)
+                .averageMonthlyIncome(income / months)
+                .averageMonthlyExpenses(expenses / months)
+                .savingsRate(income > 0 ? (income - expenses) / income : 0.0)
+                .expensesByCategory(byCategory)
+                .build();
+    }
+}
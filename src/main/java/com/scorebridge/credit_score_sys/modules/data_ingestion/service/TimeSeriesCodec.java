@@ -0,0 +1,297 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Compact encoding for (timestamp, value) series, following the Gorilla
+ * scheme: timestamps are stored as delta-of-delta in variable-width buckets
+ * and values as the XOR with the previous value, keeping only the meaningful
+ * bits. Regular timestamps cost one bit and repeated values one bit.
+ * <p>
+ * Encoding and decoding are streaming: the encoder appends to a growable bit
+ * buffer and the decoder keeps constant state while reading from any
+ * {@link ByteBuffer}, including a slice of a memory-mapped file. The point
+ * count is not part of the stream and must be stored by the caller. Also
+ * provides the zigzag varint helpers used next to the series.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+public final class TimeSeriesCodec {
+
+    private TimeSeriesCodec() {
+    }
+
+    /**
+     * Appends (timestamp, value) points to a bit stream.
+     */
+    public static final class Encoder {
+
+        private byte[] bytes = new byte[64];
+        private int bitPosition;
+
+        private int count;
+        private long previousTimestamp;
+        private long previousDelta;
+        private long previousValueBits;
+        private int previousLeading = Integer.MAX_VALUE;
+        private int previousTrailing;
+
+        /**
+         * Appends a point.
+         *
+         * @param timestamp the point's timestamp, in any unit
+         * @param value     the point's value
+         */
+        public void add(long timestamp, double value) {
+            long valueBits = Double.doubleToRawLongBits(value);
+            if (count == 0) {
+                writeBits(timestamp, 64);
+                writeBits(valueBits, 64);
+            } else {
+                long delta = timestamp - previousTimestamp;
+                writeDeltaOfDelta(delta - previousDelta);
+                previousDelta = delta;
+                writeValue(valueBits ^ previousValueBits);
+            }
+            previousTimestamp = timestamp;
+            previousValueBits = valueBits;
+            count++;
+        }
+
+        /**
+         * Returns the number of points added.
+         *
+         * @return point count
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Returns the encoded stream, padded to a whole byte.
+         *
+         * @return encoded bytes
+         */
+        public byte[] toByteArray() {
+            return Arrays.copyOf(bytes, (bitPosition + 7) >>> 3);
+        }
+
+        private void writeDeltaOfDelta(long deltaOfDelta) {
+            if (deltaOfDelta == 0) {
+                writeBits(0b0, 1);
+            } else if (deltaOfDelta >= -63 && deltaOfDelta <= 64) {
+                writeBits(0b10, 2);
+                writeBits(deltaOfDelta + 63, 7);
+            } else if (deltaOfDelta >= -255 && deltaOfDelta <= 256) {
+                writeBits(0b110, 3);
+                writeBits(deltaOfDelta + 255, 9);
+            } else if (deltaOfDelta >= -2047 && deltaOfDelta <= 2048) {
+                writeBits(0b1110, 4);
+                writeBits(deltaOfDelta + 2047, 12);
+            } else {
+                writeBits(0b1111, 4);
+                writeBits(deltaOfDelta, 64);
+            }
+        }
+
+        private void writeValue(long xor) {
+            if (xor == 0) {
+                writeBits(0b0, 1);
+                return;
+            }
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trailing = Long.numberOfTrailingZeros(xor);
+            if (leading >= previousLeading && trailing >= previousTrailing) {
+                // Meaningful bits fit in the previous window
+                writeBits(0b10, 2);
+                writeBits(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            } else {
+                int length = 64 - leading - trailing;
+                writeBits(0b11, 2);
+                writeBits(leading, 5);
+                writeBits(length == 64 ? 0 : length, 6);
+                writeBits(xor >>> trailing, length);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+
+        private void writeBits(long value, int bits) {
+            if (bitPosition + bits > (long) bytes.length * 8) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, (bitPosition + bits + 7) / 8 + 8));
+            }
+            // Fill the current byte, then whole bytes, most significant bits first
+            while (bits > 0) {
+                int free = 8 - (bitPosition & 7);
+                int take = Math.min(free, bits);
+                int chunk = (int) ((value >>> (bits - take)) & ((1 << take) - 1));
+                bytes[bitPosition >>> 3] |= (byte) (chunk << (free - take));
+                bitPosition += take;
+                bits -= take;
+            }
+        }
+    }
+
+    /**
+     * Reads points from an encoded stream one at a time.
+     */
+    public static final class Decoder {
+
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int remainingPoints;
+        private long bitPosition;
+
+        private int read;
+        private long timestamp;
+        private long delta;
+        private long valueBits;
+        private int leading;
+        private int trailing;
+
+        /**
+         * Creates a decoder over a stream starting at the buffer's position.
+         *
+         * @param buffer the encoded stream
+         * @param count  the number of encoded points
+         */
+        public Decoder(ByteBuffer buffer, int count) {
+            this.buffer = buffer;
+            this.start = buffer.position();
+            this.remainingPoints = count;
+        }
+
+        /**
+         * Advances to the next point.
+         *
+         * @return true if a point was read, false at the end of the series
+         */
+        public boolean next() {
+            if (read == remainingPoints) {
+                return false;
+            }
+            if (read == 0) {
+                timestamp = readBits(64);
+                valueBits = readBits(64);
+            } else {
+                delta += readDeltaOfDelta();
+                timestamp += delta;
+                valueBits ^= readValueXor();
+            }
+            read++;
+            return true;
+        }
+
+        /**
+         * Returns the timestamp of the current point.
+         *
+         * @return timestamp
+         */
+        public long timestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Returns the value of the current point.
+         *
+         * @return value
+         */
+        public double value() {
+            return Double.longBitsToDouble(valueBits);
+        }
+
+        /**
+         * Returns the number of bytes consumed so far, rounded up to a whole byte.
+         *
+         * @return consumed bytes
+         */
+        public int bytesRead() {
+            return (int) ((bitPosition + 7) >>> 3);
+        }
+
+        private long readDeltaOfDelta() {
+            if (readBits(1) == 0) {
+                return 0;
+            }
+            if (readBits(1) == 0) {
+                return readBits(7) - 63;
+            }
+            if (readBits(1) == 0) {
+                return readBits(9) - 255;
+            }
+            if (readBits(1) == 0) {
+                return readBits(12) - 2047;
+            }
+            return readBits(64);
+        }
+
+        private long readValueXor() {
+            if (readBits(1) == 0) {
+                return 0;
+            }
+            if (readBits(1) == 1) {
+                leading = (int) readBits(5);
+                int length = (int) readBits(6);
+                if (length == 0) {
+                    length = 64;
+                }
+                trailing = 64 - leading - length;
+            }
+            return readBits(64 - leading - trailing) << trailing;
+        }
+
+        private long readBits(int bits) {
+            long value = 0;
+            while (bits > 0) {
+                int offset = (int) (bitPosition & 7);
+                int available = 8 - offset;
+                int take = Math.min(available, bits);
+                int current = buffer.get(start + (int) (bitPosition >>> 3)) & 0xFF;
+                int chunk = (current >>> (available - take)) & ((1 << take) - 1);
+                value = (value << take) | chunk;
+                bitPosition += take;
+                bits -= take;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Writes a signed value as a zigzag varint (1-10 bytes).
+     *
+     * @param out   the stream to write to
+     * @param value the value
+     * @throws IOException if writing fails
+     */
+    public static void writeVarLong(OutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    /**
+     * Reads a zigzag varint written by {@link #writeVarLong}.
+     *
+     * @param buffer the buffer to read from, at the varint's position
+     * @return the value
+     */
+    public static long readVarLong(ByteBuffer buffer) {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
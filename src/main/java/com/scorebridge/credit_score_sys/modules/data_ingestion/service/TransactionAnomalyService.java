@@ -0,0 +1,192 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionAnomalySummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.CategorySpendStats;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionAnomaly;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.CategorySpendStatsRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransactionAnomalyRepository;
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for flagging unusual expenses while transactions are ingested.
+ * <p>
+ * Every user keeps one {@link CategorySpendStats} row per expense category
+ * with an exponentially weighted mean and variance of the log amount. The
+ * statistics are shared by all of the user's accounts, so the history carries
+ * over from one uploaded profile to the next. Each
+ * incoming expense is scored against its category's statistics and then
+ * folded into them, which is constant work per transaction. Expenses more than
+ * the configured number of standard deviations above the typical amount are
+ * recorded as {@link TransactionAnomaly} rows.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionAnomalyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionAnomalyService.class);
+
+    private final CategorySpendStatsRepository statsRepository;
+    private final TransactionAnomalyRepository anomalyRepository;
+    private final UserRepository userRepository;
+    private final DataIngestionConfig config;
+
+    /**
+     * Scores newly saved transactions of an account and updates the owning
+     * user's category statistics. The user row is write-locked for the rest of
+     * the caller's transaction before the statistics are read. Locking the
+     * statistics rows alone would not cover categories the user has no row for
+     * yet, and two uploads inserting the same new category would hit the
+     * unique key.
+     *
+     * @param account      the account the transactions belong to
+     * @param transactions the saved transactions (with IDs)
+     * @return the number of transactions flagged as anomalous
+     */
+    @Transactional
+    public int scoreTransactions(FinancialAccount account, List<FinancialTransactions> transactions) {
+        List<FinancialTransactions> expenses = new ArrayList<>();
+        for (FinancialTransactions transaction : transactions) {
+            if ("EXPENSE".equals(transaction.getTransactionType()) && transaction.getAmount() > 0) {
+                expenses.add(transaction);
+            }
+        }
+        if (expenses.isEmpty()) {
+            return 0;
+        }
+        // Fold transactions in date order so the averages follow the timeline
+        expenses.sort(Comparator.comparing(FinancialTransactions::getTransactionDate));
+
+        Long userId = account.getUser().getId();
+        userRepository.findByIdForUpdate(userId);
+        Map<String, CategorySpendStats> statsByCategory = new HashMap<>();
+        for (CategorySpendStats stats : statsRepository.findByUserIdForUpdate(userId)) {
+            statsByCategory.put(stats.getCategory(), stats);
+        }
+
+        DataIngestionConfig.Anomaly settings = config.getAnomaly();
+        LocalDateTime now = LocalDateTime.now();
+        List<TransactionAnomaly> anomalies = new ArrayList<>();
+
+        for (FinancialTransactions transaction : expenses) {
+            double value = Math.log(transaction.getAmount());
+            CategorySpendStats stats = statsByCategory.get(transaction.getCategory());
+            if (stats == null) {
+                statsByCategory.put(transaction.getCategory(), newStats(userId,
+                        transaction.getCategory(), value, now));
+                continue;
+            }
+
+            double deviation = (value - stats.getEwmaMean())
+                    / Math.max(Math.sqrt(stats.getEwmaVariance()), settings.getMinStdDev());
+            if (stats.getObservationCount() >= settings.getWarmupCount()
+                    && deviation > settings.getDeviationThreshold()) {
+                anomalies.add(TransactionAnomaly.builder()
+                        .userId(userId)
+                        .accountId(account.getId())
+                        .transactionId(transaction.getId())
+                        .category(transaction.getCategory())
+                        .amount(transaction.getAmount())
+                        .expectedAmount(Math.exp(stats.getEwmaMean()))
+                        .deviation(deviation)
+                        .transactionDate(transaction.getTransactionDate())
+                        .detectedAt(now)
+                        .build());
+                stats.setAnomalyCount(stats.getAnomalyCount() + 1);
+            }
+
+            // Incremental EWMA update of mean and variance
+            double alpha = settings.getSmoothingFactor();
+            double diff = value - stats.getEwmaMean();
+            double increment = alpha * diff;
+            stats.setEwmaMean(stats.getEwmaMean() + increment);
+            stats.setEwmaVariance((1 - alpha) * (stats.getEwmaVariance() + diff * increment));
+            stats.setObservationCount(stats.getObservationCount() + 1);
+            stats.setUpdatedAt(now);
+        }
+
+        statsRepository.saveAll(statsByCategory.values());
+        anomalyRepository.saveAll(anomalies);
+
+        if (!anomalies.isEmpty()) {
+            logger.info("Flagged {} unusual expenses on account ID: {}", anomalies.size(), account.getId());
+        }
+        return anomalies.size();
+    }
+
+    /**
+     * Summarizes the anomalies flagged for a user.
+     *
+     * @param userId the ID of the user
+     * @return summary of flagged expenses
+     */
+    @Transactional(readOnly = true)
+    public TransactionAnomalySummary getSummary(Long userId) {
+        int windowDays = config.getAnomaly().getRecentWindowDays();
+        LocalDate since = LocalDate.now().minusDays(windowDays);
+        List<TransactionAnomaly> anomalies = anomalyRepository.findByUserId(userId);
+        long recent = anomalies.stream().filter(a -> !a.getTransactionDate().isBefore(since)).count();
+
+        return TransactionAnomalySummary.builder()
+                .userId(userId)
+                .totalAnomalies((long) anomalies.size())
+                .recentAnomalies(recent)
+                .recentWindowDays(windowDays)
+                .anomalies(anomalies)
+                .build();
+    }
+
+    /**
+     * Counts the anomalies flagged for a user within the recent window.
+     *
+     * @param userId the ID of the user
+     * @return the number of recent anomalies
+     */
+    @Transactional(readOnly = true)
+    public long countRecentAnomalies(Long userId) {
+        return anomalyRepository.countByUserIdSince(userId,
+                LocalDate.now().minusDays(config.getAnomaly().getRecentWindowDays()));
+    }
+
+    /**
+     * Creates the statistics for a category from its first transaction.
+     *
+     * @param userId   the ID of the user
+     * @param category the expense category
+     * @param value    the log amount of the first transaction
+     * @param now      the update timestamp
+     * @return new, unsaved statistics
+     */
+    private CategorySpendStats newStats(Long userId, String category, double value, LocalDateTime now) {
+        return CategorySpendStats.builder()
+                .userId(userId)
+                .category(category)
+                .ewmaMean(value)
+                .ewmaVariance(0.0)
+                .observationCount(1L)
+                .anomalyCount(0L)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,253 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataIngestionException;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransactionSearchTermRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for tiered transaction storage.
+ * <p>
+ * Transactions older than the retention window are moved from
+ * financial_transactions into the {@link TransactionArchiveStore}, keeping the
+ * hot table and its indexes limited to the months used for scoring. History
+ * reads merge both tiers. A segment is written and forced to disk before its
+ * rows are deleted; if the job stops in between, the rows exist in both tiers
+ * and reads de-duplicate them by ID. Search postings of archived rows are
+ * deleted together with the rows.
+ * <p>
+ * Archival is off by default. Enabling it requires an absolute archive
+ * directory on storage shared by all instances, and a run only proceeds on the
+ * instance holding the job's lease in {@link JobLockService}, so two instances
+ * never write segments for the same user at once.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionArchiveService.class);
+
+    private static final String JOB_NAME = "transaction-archive";
+
+    private final TransactionArchiveStore archiveStore;
+    private final FinancialAccountRepository accountRepository;
+    private final FinancialTransactionRepository transactionRepository;
+    private final TransactionSearchTermRepository searchTermRepository;
+    private final TransactionColumnCache columnCache;
+    private final MerchantDictionaryService merchantDictionaryService;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final DataIngestionConfig config;
+
+    /**
+     * Refuses to start with archival enabled but no usable directory.
+     *
+     * @throws IllegalStateException if the archive directory is missing or
+     *                               relative
+     */
+    @PostConstruct
+    public void validateConfiguration() {
+        DataIngestionConfig.Archive settings = config.getArchive();
+        if (settings.isEnabled() && (settings.getDirectory() == null || settings.getDirectory().isBlank()
+                || !Paths.get(settings.getDirectory()).isAbsolute())) {
+            throw new IllegalStateException("data-ingestion.archive.enabled requires data-ingestion.archive.directory"
+                    + " to be an absolute path on storage shared by all instances");
+        }
+    }
+
+    /**
+     * Scheduled archival of cold transactions for all users.
+     */
+    @Scheduled(cron = "${data-ingestion.archive.cron:0 0 4 * * ?}")
+    public void scheduledArchive() {
+        if (config.getArchive().isEnabled()) {
+            archiveColdTransactions();
+        }
+    }
+
+    /**
+     * Moves transactions older than the retention window to the archive for
+     * every user with accounts, unless another instance is already doing so.
+     *
+     * @return the number of transactions archived
+     * @throws DataIngestionException if archival is disabled
+     */
+    public long archiveColdTransactions() {
+        if (!config.getArchive().isEnabled()) {
+            throw new DataIngestionException("Transaction archival is disabled");
+        }
+        long[] archived = { 0 };
+        jobLockService.runExclusively(JOB_NAME, Duration.ofMinutes(config.getArchive().getLeaseMinutes()), () -> {
+            for (Long userId : accountRepository.findDistinctUserIds()) {
+                archived[0] += archiveUser(userId);
+            }
+            logger.info("Transaction archival finished: {} transactions moved to the archive", archived[0]);
+        });
+        return archived[0];
+    }
+
+    /**
+     * Moves a user's transactions older than the retention window to the
+     * archive, one segment per batch. Only called while holding the job lease.
+     *
+     * @param userId the ID of the user
+     * @return the number of transactions archived
+     */
+    private long archiveUser(Long userId) {
+        LocalDate cutoff = LocalDate.now().minusMonths(config.getArchive().getRetentionMonths());
+        PageRequest batch = PageRequest.of(0, config.getArchive().getBatchSize());
+        int chunkSize = config.getArchive().getDeleteChunkSize();
+        long archived = 0;
+
+        while (true) {
+            List<TransactionResponse> rows = transactionRepository.findResponsesByUserIdBefore(userId, cutoff, batch);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            archiveStore.append(userId, rows);
+
+            List<Long> ids = new ArrayList<>(rows.size());
+            for (TransactionResponse row : rows) {
+                ids.add(row.getId());
+            }
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    searchTermRepository.deleteByTransactionIdIn(chunk);
+                    transactionRepository.deleteByIdIn(chunk);
+                });
+            }
+            archived += rows.size();
+        }
+
+        if (archived > 0) {
+            columnCache.evict(userId);
+            logger.debug("Archived {} transactions for user ID: {}", archived, userId);
+        }
+        return archived;
+    }
+
+    /**
+     * Returns a user's transactions within a date range from both tiers.
+     *
+     * @param userId    the ID of the user
+     * @param startDate the start date (inclusive)
+     * @param endDate   the end date (inclusive)
+     * @return the transactions, newest first
+     */
+    public List<TransactionResponse> getUserHistory(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<TransactionResponse> hot = transactionRepository.findResponsesByUserIdAndDateRange(userId, startDate,
+                endDate);
+        return merge(hot, archiveStore.read(userId, null, startDate, endDate));
+    }
+
+    /**
+     * Returns specific archived transactions of a user.
+     *
+     * @param userId    the ID of the user
+     * @param ids       the IDs of the wanted transactions
+     * @param startDate the earliest date of the wanted transactions
+     * @param endDate   the latest date of the wanted transactions
+     * @return the archived transactions among the IDs
+     */
+    public List<TransactionResponse> getArchivedTransactions(Long userId, Set<Long> ids, LocalDate startDate,
+            LocalDate endDate) {
+        List<TransactionResponse> found = new ArrayList<>();
+        for (TransactionResponse row : archiveStore.read(userId, null, startDate, endDate)) {
+            if (ids.contains(row.getId())) {
+                row.setMerchant(merchantDictionaryService.resolve(row.getDescription()));
+                found.add(row);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns all transactions of an account from both tiers.
+     *
+     * @param userId    the ID of the user who owns the account
+     * @param accountId the ID of the account
+     * @return the transactions, newest first
+     */
+    public List<TransactionResponse> getAccountHistory(Long userId, Long accountId) {
+        List<TransactionResponse> hot = transactionRepository.findResponsesByAccountId(accountId);
+        return merge(hot, archiveStore.read(userId, accountId, LocalDate.MIN, LocalDate.MAX));
+    }
+
+    /**
+     * Removes the archived transactions of a deleted account.
+     *
+     * @param userId    the ID of the user who owned the account
+     * @param accountId the ID of the account
+     */
+    public void removeAccount(Long userId, Long accountId) {
+        int removed = archiveStore.removeAccount(userId, accountId);
+        if (removed > 0) {
+            logger.info("Removed {} archived transactions of account ID: {}", removed, accountId);
+        }
+    }
+
+    /**
+     * Removes all archived transactions of a user.
+     *
+     * @param userId the ID of the user
+     */
+    public void removeUser(Long userId) {
+        archiveStore.deleteUser(userId);
+    }
+
+    /**
+     * Merges hot and archived rows, preferring the hot copy of a row that is in
+     * both tiers. Segments do not store merchants, so archived rows are
+     * resolved through the current merchant dictionary.
+     *
+     * @param hot      rows from the database
+     * @param archived rows from the archive
+     * @return merged rows, newest first
+     */
+    private List<TransactionResponse> merge(List<TransactionResponse> hot, List<TransactionResponse> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        Set<Long> hotIds = new HashSet<>();
+        for (TransactionResponse row : hot) {
+            hotIds.add(row.getId());
+        }
+        Set<Long> seen = new HashSet<>();
+        List<TransactionResponse> merged = new ArrayList<>(hot);
+        for (TransactionResponse row : archived) {
+            if (!hotIds.contains(row.getId()) && seen.add(row.getId())) {
+                row.setMerchant(merchantDictionaryService.resolve(row.getDescription()));
+                merged.add(row);
+            }
+        }
+        merged.sort(Comparator.comparing(TransactionResponse::getTransactionDate).reversed());
+        return merged;
+    }
+}
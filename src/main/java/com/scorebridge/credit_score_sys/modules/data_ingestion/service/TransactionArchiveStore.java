@@ -0,0 +1,557 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataIngestionException;
+
+/**
+ * File-based, append-only archive for cold transactions.
+ * <p>
+ * Every user has a directory of immutable segment files. A segment holds
+ * date-sorted records in blocks of {@value #BLOCK_SIZE}, followed by a sparse
+ * index (the first date and offset of every block) and its date range, so a
+ * reader memory-maps the file, skips segments outside the requested range, and
+ * jumps to the first relevant block with a binary search. Blocks are decoded
+ * one record at a time, so reading needs no more memory than the records it
+ * returns. Segments are written to a temporary file and moved into place
+ * atomically; they are only ever replaced as a whole.
+ * <p>
+ * Within a block, dates are delta-of-delta encoded with {@link TimeSeriesCodec}
+ * and the other columns are zigzag varints: ID and account deltas, a category
+ * code into the segment's dictionary, amounts as fixed-point cents (with a raw
+ * fallback for values that are not whole cents) and creation-time deltas.
+ *
+ * <pre>
+ * header : int magic, byte version, 3 bytes reserved
+ * block  : varint count, varint datesLength, dates,
+ *          count x (varint idDelta, varint accountDelta, varint category/type,
+ *          amount, varint descriptionLength+1 (0 when null), description bytes,
+ *          varint createdAt delta (0 when null))
+ * footer : int blockCount, blockCount x (int firstEpochDay, int offset),
+ *          int recordCount, int minEpochDay, int maxEpochDay,
+ *          int categoryCount, categoryCount x string
+ * trailer: int footerOffset, int magic
+ * </pre>
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+public class TransactionArchiveStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionArchiveStore.class);
+
+    private static final int MAGIC = 0x53425441;
+    private static final byte FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 8;
+    private static final int TRAILER_BYTES = 8;
+    private static final int BLOCK_SIZE = 64;
+    private static final long MAX_FIXED_POINT_CENTS = 1L << 52;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int LOCK_STRIPES = 64;
+
+    private final DataIngestionConfig config;
+    private final ReadWriteLock[] locks = new ReadWriteLock[LOCK_STRIPES];
+
+    public TransactionArchiveStore(DataIngestionConfig config) {
+        this.config = config;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * Writes transactions of a user into a new segment.
+     *
+     * @param userId       the ID of the user
+     * @param transactions the transactions to archive, in any order
+     * @throws DataIngestionException if the segment cannot be written
+     */
+    public void append(Long userId, List<TransactionResponse> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        if (!isConfigured()) {
+            throw new DataIngestionException("No transaction archive directory is configured");
+        }
+        ReadWriteLock lock = lockFor(userId);
+        lock.writeLock().lock();
+        try {
+            Path directory = userDirectory(userId);
+            Files.createDirectories(directory);
+            Path segment = directory.resolve(segmentName(nextSequence(directory)));
+            writeSegment(segment, transactions);
+            logger.debug("Archived {} transactions for user ID {} to {}", transactions.size(), userId, segment);
+        } catch (IOException e) {
+            throw new DataIngestionException("Failed to archive transactions for user ID: " + userId, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads a user's archived transactions within a date range.
+     *
+     * @param userId    the ID of the user
+     * @param accountId the ID of the account to restrict to, or null for all
+     * @param startDate the start date (inclusive)
+     * @param endDate   the end date (inclusive)
+     * @return the archived transactions, in date order per segment
+     * @throws DataIngestionException if a segment cannot be read
+     */
+    public List<TransactionResponse> read(Long userId, Long accountId, LocalDate startDate, LocalDate endDate) {
+        List<TransactionResponse> result = new ArrayList<>();
+        ReadWriteLock lock = lockFor(userId);
+        lock.readLock().lock();
+        try {
+            for (Path segment : segments(userId)) {
+                readSegment(segment, startDate.toEpochDay(), endDate.toEpochDay(),
+                        row -> accountId == null || accountId.equals(row.getAccountId()), result);
+            }
+        } catch (IOException e) {
+            throw new DataIngestionException("Failed to read transaction archive for user ID: " + userId, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Removes the archived transactions of one account by rewriting the
+     * segments that contain them.
+     *
+     * @param userId    the ID of the user who owns the account
+     * @param accountId the ID of the account
+     * @return the number of archived transactions removed
+     * @throws DataIngestionException if a segment cannot be rewritten
+     */
+    public int removeAccount(Long userId, Long accountId) {
+        int removed = 0;
+        ReadWriteLock lock = lockFor(userId);
+        lock.writeLock().lock();
+        try {
+            for (Path segment : segments(userId)) {
+                List<TransactionResponse> rows = new ArrayList<>();
+                readSegment(segment, Long.MIN_VALUE, Long.MAX_VALUE, row -> true, rows);
+                List<TransactionResponse> kept = new ArrayList<>(rows.size());
+                for (TransactionResponse row : rows) {
+                    if (!accountId.equals(row.getAccountId())) {
+                        kept.add(row);
+                    }
+                }
+                if (kept.size() == rows.size()) {
+                    continue;
+                }
+                removed += rows.size() - kept.size();
+                if (kept.isEmpty()) {
+                    Files.delete(segment);
+                } else {
+                    writeSegment(segment, kept);
+                }
+            }
+        } catch (IOException e) {
+            throw new DataIngestionException("Failed to remove archived transactions of account ID: " + accountId,
+                    e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return removed;
+    }
+
+    /**
+     * Deletes all archived transactions of a user.
+     *
+     * @param userId the ID of the user
+     * @throws DataIngestionException if the segments cannot be deleted
+     */
+    public void deleteUser(Long userId) {
+        ReadWriteLock lock = lockFor(userId);
+        lock.writeLock().lock();
+        try {
+            for (Path segment : segments(userId)) {
+                Files.delete(segment);
+            }
+            if (isConfigured()) {
+                Files.deleteIfExists(userDirectory(userId));
+            }
+        } catch (IOException e) {
+            throw new DataIngestionException("Failed to delete transaction archive for user ID: " + userId, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Encodes transactions into a segment and moves it into place atomically.
+     *
+     * @param segment      the target segment path
+     * @param transactions the transactions to write
+     * @throws IOException if writing fails
+     */
+    private void writeSegment(Path segment, List<TransactionResponse> transactions) throws IOException {
+        List<TransactionResponse> rows = new ArrayList<>(transactions);
+        rows.sort(Comparator.comparing(TransactionResponse::getTransactionDate)
+                .thenComparing(TransactionResponse::getId));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(rows.size() * 24);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.write(new byte[3]);
+
+        Map<String, Integer> categoryCodes = new LinkedHashMap<>();
+        int blockCount = (rows.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int[] indexDays = new int[blockCount];
+        int[] indexOffsets = new int[blockCount];
+
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * BLOCK_SIZE;
+            int to = Math.min(from + BLOCK_SIZE, rows.size());
+            indexDays[block] = (int) rows.get(from).getTransactionDate().toEpochDay();
+            indexOffsets[block] = out.size();
+
+            TimeSeriesCodec.Encoder dates = new TimeSeriesCodec.Encoder();
+            for (int i = from; i < to; i++) {
+                dates.add(rows.get(i).getTransactionDate().toEpochDay(), 0);
+            }
+            byte[] encodedDates = dates.toByteArray();
+            TimeSeriesCodec.writeVarLong(out, to - from);
+            TimeSeriesCodec.writeVarLong(out, encodedDates.length);
+            out.write(encodedDates);
+
+            long previousId = 0;
+            long previousAccountId = 0;
+            long previousCreatedAt = 0;
+            for (int i = from; i < to; i++) {
+                TransactionResponse row = rows.get(i);
+                TimeSeriesCodec.writeVarLong(out, row.getId() - previousId);
+                TimeSeriesCodec.writeVarLong(out, row.getAccountId() - previousAccountId);
+                previousId = row.getId();
+                previousAccountId = row.getAccountId();
+
+                int category = categoryCodes.computeIfAbsent(row.getCategory(), key -> categoryCodes.size());
+                TimeSeriesCodec.writeVarLong(out, ((long) category << 1)
+                        | ("INCOME".equals(row.getTransactionType()) ? 1 : 0));
+                writeAmount(out, row.getAmount());
+
+                if (row.getDescription() == null) {
+                    TimeSeriesCodec.writeVarLong(out, 0);
+                } else {
+                    byte[] description = row.getDescription().getBytes(StandardCharsets.UTF_8);
+                    TimeSeriesCodec.writeVarLong(out, description.length + 1L);
+                    out.write(description);
+                }
+
+                if (row.getCreatedAt() == null) {
+                    TimeSeriesCodec.writeVarLong(out, 0);
+                } else {
+                    long createdAt = row.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+                    TimeSeriesCodec.writeVarLong(out, ((createdAt - previousCreatedAt) << 1) | 1);
+                    previousCreatedAt = createdAt;
+                }
+            }
+        }
+
+        int footerOffset = out.size();
+        out.writeInt(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            out.writeInt(indexDays[i]);
+            out.writeInt(indexOffsets[i]);
+        }
+        out.writeInt(rows.size());
+        out.writeInt((int) rows.get(0).getTransactionDate().toEpochDay());
+        out.writeInt((int) rows.get(rows.size() - 1).getTransactionDate().toEpochDay());
+        out.writeInt(categoryCodes.size());
+        for (String category : categoryCodes.keySet()) {
+            writeString(out, category);
+        }
+        out.writeInt(footerOffset);
+        out.writeInt(MAGIC);
+        out.flush();
+
+        Path temporary = segment.resolveSibling(segment.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Memory-maps a segment and collects its records within a date range.
+     *
+     * @param segment   the segment path
+     * @param fromDay   first epoch day (inclusive)
+     * @param toDay     last epoch day (inclusive)
+     * @param filter    additional record filter
+     * @param result    list receiving the matching records
+     * @throws IOException if the segment cannot be read or is corrupt
+     */
+    private void readSegment(Path segment, long fromDay, long toDay, Predicate<TransactionResponse> filter,
+            List<TransactionResponse> result) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int limit = buffer.limit();
+        if (limit < HEADER_BYTES + TRAILER_BYTES || buffer.getInt(0) != MAGIC
+                || buffer.getInt(limit - Integer.BYTES) != MAGIC) {
+            throw new IOException("Corrupt archive segment: " + segment);
+        }
+        byte version = buffer.get(Integer.BYTES);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported archive segment version in " + segment);
+        }
+
+        int footerOffset = buffer.getInt(limit - TRAILER_BYTES);
+        int indexEntries = buffer.getInt(footerOffset);
+        int rangeOffset = footerOffset + Integer.BYTES + indexEntries * 2 * Integer.BYTES + Integer.BYTES;
+        if (buffer.getInt(rangeOffset + Integer.BYTES) < fromDay || buffer.getInt(rangeOffset) > toDay) {
+            return;
+        }
+
+        // Last index entry before the range start; everything before it is older
+        int low = 0;
+        int high = indexEntries - 1;
+        int start = HEADER_BYTES;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = footerOffset + Integer.BYTES + mid * 2 * Integer.BYTES;
+            if (buffer.getInt(entry) < fromDay) {
+                start = buffer.getInt(entry + Integer.BYTES);
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        buffer.position(start);
+        String[] categories = readCategories(buffer, rangeOffset + 2 * Integer.BYTES);
+        readBlocks(buffer, footerOffset, categories, fromDay, toDay, filter, result);
+    }
+
+    /**
+     * Decodes blocks from the buffer's position until the footer or until the
+     * records pass the end of the range.
+     */
+    private void readBlocks(ByteBuffer buffer, int footerOffset, String[] categories, long fromDay, long toDay,
+            Predicate<TransactionResponse> filter, List<TransactionResponse> result) {
+        while (buffer.position() < footerOffset) {
+            int count = (int) TimeSeriesCodec.readVarLong(buffer);
+            int datesLength = (int) TimeSeriesCodec.readVarLong(buffer);
+            TimeSeriesCodec.Decoder dates = new TimeSeriesCodec.Decoder(buffer, count);
+            buffer.position(buffer.position() + datesLength);
+
+            long id = 0;
+            long accountId = 0;
+            long createdAt = 0;
+            boolean pastRange = false;
+            for (int i = 0; i < count; i++) {
+                dates.next();
+                long epochDay = dates.timestamp();
+                id += TimeSeriesCodec.readVarLong(buffer);
+                accountId += TimeSeriesCodec.readVarLong(buffer);
+                long categoryAndType = TimeSeriesCodec.readVarLong(buffer);
+                double amount = readAmount(buffer);
+
+                int descriptionLength = (int) TimeSeriesCodec.readVarLong(buffer) - 1;
+                String description = null;
+                if (descriptionLength >= 0) {
+                    byte[] encoded = new byte[descriptionLength];
+                    buffer.get(encoded);
+                    description = new String(encoded, StandardCharsets.UTF_8);
+                }
+
+                long createdAtDelta = TimeSeriesCodec.readVarLong(buffer);
+                boolean hasCreatedAt = createdAtDelta != 0;
+                if (hasCreatedAt) {
+                    createdAt += createdAtDelta >> 1;
+                }
+
+                if (epochDay > toDay) {
+                    pastRange = true;
+                    continue;
+                }
+                if (epochDay < fromDay) {
+                    continue;
+                }
+                TransactionResponse row = TransactionResponse.builder()
+                        .id(id)
+                        .accountId(accountId)
+                        .amount(amount)
+                        .transactionType((categoryAndType & 1) == 1 ? "INCOME" : "EXPENSE")
+                        .category(categories[(int) (categoryAndType >>> 1)])
+                        .description(description)
+                        .transactionDate(LocalDate.ofEpochDay(epochDay))
+                        .createdAt(hasCreatedAt ? LocalDateTime.ofEpochSecond(createdAt, 0, ZoneOffset.UTC) : null)
+                        .build();
+                if (filter.test(row)) {
+                    result.add(row);
+                }
+            }
+            if (pastRange) {
+                return;
+            }
+        }
+    }
+
+    private static String[] readCategories(ByteBuffer buffer, int offset) {
+        ByteBuffer footer = buffer.duplicate();
+        footer.position(offset);
+        String[] categories = new String[footer.getInt()];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = readString(footer);
+        }
+        return categories;
+    }
+
+    /**
+     * Writes an amount as fixed-point cents when that is lossless, otherwise as
+     * a marker followed by the raw double.
+     */
+    private static void writeAmount(DataOutputStream out, double amount) throws IOException {
+        long cents = Math.round(amount * 100);
+        if (Math.abs(cents) < MAX_FIXED_POINT_CENTS
+                && Double.doubleToLongBits(cents / 100.0) == Double.doubleToLongBits(amount)) {
+            TimeSeriesCodec.writeVarLong(out, cents << 1);
+        } else {
+            TimeSeriesCodec.writeVarLong(out, 1);
+            out.writeDouble(amount);
+        }
+    }
+
+    private static double readAmount(ByteBuffer buffer) {
+        long encoded = TimeSeriesCodec.readVarLong(buffer);
+        if ((encoded & 1) != 0) {
+            return buffer.getDouble();
+        }
+        return (encoded >> 1) / 100.0;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(encoded.length);
+        out.write(encoded);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] encoded = new byte[length];
+        buffer.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lists a user's segments in write order.
+     *
+     * @param userId the ID of the user
+     * @return the segment paths
+     * @throws IOException if the directory cannot be listed
+     */
+    private List<Path> segments(Long userId) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!isConfigured()) {
+            return segments;
+        }
+        Path directory = userDirectory(userId);
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : stream) {
+                segments.add(segment);
+            }
+        }
+        segments.sort(Comparator.comparing(Path::getFileName));
+        return segments;
+    }
+
+    private long nextSequence(Path directory) throws IOException {
+        long sequence = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path segment : stream) {
+                String name = segment.getFileName().toString();
+                sequence = Math.max(sequence, Long.parseLong(
+                        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        return sequence + 1;
+    }
+
+    private static String segmentName(long sequence) {
+        return String.format("%s%012d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Checks whether an archive directory is configured. Without one the
+     * archive is empty and cannot be written.
+     *
+     * @return true if a directory is configured
+     */
+    private boolean isConfigured() {
+        String directory = config.getArchive().getDirectory();
+        return directory != null && !directory.isBlank();
+    }
+
+    /**
+     * Returns a user's archive directory, spread over 256 partitions so no
+     * single directory holds every user.
+     *
+     * @param userId the ID of the user
+     * @return the directory path
+     */
+    private Path userDirectory(Long userId) {
+        return Paths.get(config.getArchive().getDirectory())
+                .resolve(String.format("%02x", userId & 0xff))
+                .resolve(String.valueOf(userId));
+    }
+
+    private ReadWriteLock lockFor(Long userId) {
+        return locks[(int) Math.floorMod(userId, (long) LOCK_STRIPES)];
+    }
+}
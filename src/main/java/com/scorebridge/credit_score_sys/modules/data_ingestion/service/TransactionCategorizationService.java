@@ -0,0 +1,241 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataIngestionException;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.validation.FinancialDataValidator;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for assigning consistent categories to transactions.
+ * A standard category sent by the client is kept. When the client's category
+ * is missing or not a standard one, the description is matched against a
+ * merchant/keyword dictionary compiled into a {@link KeywordAutomaton} at
+ * startup. The dictionary can be reloaded at
+ * runtime; the compiled automaton is swapped atomically so matching never
+ * blocks.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionCategorizationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionCategorizationService.class);
+
+    /**
+     * Categories that only apply to INCOME transactions. A dictionary match is
+     * ignored when its category does not fit the transaction type.
+     */
+    private static final Set<String> INCOME_CATEGORIES = Set.of(
+            "Salary", "Wages", "Freelance", "Investment Income", "Rental Income", "Other Income");
+
+    private final DataIngestionConfig config;
+    private final ResourceLoader resourceLoader;
+    private final FinancialTransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionColumnCache columnCache;
+    private final TransactionSearchService searchService;
+    private final TransactionCategoryRegistry categoryRegistry;
+
+    private volatile KeywordAutomaton automaton = KeywordAutomaton.builder().build();
+    private volatile long dictionaryLastModified = -1;
+
+    /**
+     * Registers the standard categories in the category dictionary and
+     * compiles the keyword dictionary at startup. Every category this service
+     * returns is standard, so transactions never need a category that is not
+     * registered yet. A missing or malformed keyword dictionary is logged and
+     * leaves categorization disabled rather than failing startup.
+     */
+    @PostConstruct
+    public void init() {
+        categoryRegistry.registerAll(FinancialDataValidator.standardCategories());
+        try {
+            reload();
+        } catch (DataIngestionException e) {
+            logger.error("Transaction categorization disabled: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads the dictionary and swaps in a newly compiled automaton.
+     *
+     * @return the number of keywords loaded
+     * @throws DataIngestionException if the dictionary cannot be read
+     */
+    public synchronized int reload() {
+        String location = config.getCategorization().getDictionaryLocation();
+        Resource resource = resourceLoader.getResource(location);
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int comma = line.lastIndexOf(',');
+                if (comma <= 0 || comma == line.length() - 1) {
+                    logger.warn("Skipping malformed categorization entry: {}", line);
+                    continue;
+                }
+                String category = FinancialDataValidator.standardCategory(line.substring(comma + 1));
+                if (category == null) {
+                    logger.warn("Skipping categorization entry with a non-standard category: {}", line);
+                    continue;
+                }
+                builder.add(line.substring(0, comma).trim(), category);
+            }
+            dictionaryLastModified = lastModified(resource);
+        } catch (IOException e) {
+            throw new DataIngestionException("Failed to load categorization dictionary from " + location, e);
+        }
+
+        KeywordAutomaton compiled = builder.build();
+        automaton = compiled;
+        logger.info("Loaded categorization dictionary: {} keywords, {} states", compiled.keywordCount(),
+                compiled.stateCount());
+        return compiled.keywordCount();
+    }
+
+    /**
+     * Reloads the dictionary when its file has changed since the last load.
+     * Classpath dictionaries inside a jar have no modification time and are
+     * never reloaded by this check.
+     */
+    @Scheduled(fixedDelayString = "${data-ingestion.categorization.reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        Resource resource = resourceLoader.getResource(config.getCategorization().getDictionaryLocation());
+        long lastModified = lastModified(resource);
+        if (lastModified > 0 && lastModified != dictionaryLastModified) {
+            try {
+                reload();
+            } catch (DataIngestionException e) {
+                logger.error("Failed to hot-reload categorization dictionary: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Determines the category of a transaction.
+     * A standard client category is returned in its standard spelling.
+     * Otherwise the dictionary category of the description is used if it fits
+     * the transaction type, and "Other Income" or "Other Expense" if not, so
+     * the result is always a standard category.
+     *
+     * @param description     the transaction description, may be null
+     * @param transactionType the transaction type (INCOME or EXPENSE)
+     * @param clientCategory  the category sent by the client, may be null
+     * @return a standard category
+     */
+    public String categorize(String description, String transactionType, String clientCategory) {
+        String standard = FinancialDataValidator.standardCategory(clientCategory);
+        if (standard != null) {
+            return standard;
+        }
+        boolean income = "INCOME".equals(transactionType);
+        String match = automaton.findBest(description);
+        if (match != null && INCOME_CATEGORIES.contains(match) == income) {
+            return match;
+        }
+        return income ? "Other Income" : "Other Expense";
+    }
+
+    /**
+     * Re-categorizes stored transactions whose category is not a standard one,
+     * e.g. rows saved before categories were checked.
+     * Rows are read in keyset-ordered batches and only rows whose category
+     * changes are updated, with one bulk UPDATE per target category per batch.
+     * The search postings of updated rows are replaced in the same transaction.
+     *
+     * @return the number of transactions whose category changed
+     */
+    public long backfill() {
+        int batchSize = config.getCategorization().getBackfillBatchSize();
+        long lastId = 0;
+        long updated = 0;
+        long scanned = 0;
+
+        while (true) {
+            List<TransactionResponse> batch = transactionRepository.findResponsesAfterId(lastId,
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<String, List<Long>> changes = new HashMap<>();
+            List<TransactionResponse> changed = new ArrayList<>();
+            for (TransactionResponse transaction : batch) {
+                String category = categorize(transaction.getDescription(), transaction.getTransactionType(),
+                        transaction.getCategory());
+                if (!category.equals(transaction.getCategory())) {
+                    changes.computeIfAbsent(category, key -> new ArrayList<>()).add(transaction.getId());
+                    transaction.setCategory(category);
+                    changed.add(transaction);
+                }
+            }
+
+            if (!changes.isEmpty()) {
+                Integer count = transactionTemplate.execute(status -> {
+                    int rows = 0;
+                    for (Map.Entry<String, List<Long>> entry : changes.entrySet()) {
+                        rows += transactionRepository.updateCategoryByIdIn(entry.getKey(), entry.getValue());
+                    }
+                    searchService.reindexTransactions(changed);
+                    return rows;
+                });
+                updated += count == null ? 0 : count;
+            }
+
+            scanned += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        if (updated > 0) {
+            columnCache.evictAll();
+        }
+        logger.info("Categorization backfill finished: {} transactions scanned, {} updated", scanned, updated);
+        return updated;
+    }
+
+    /**
+     * Returns the modification time of a file-based resource.
+     *
+     * @param resource the resource
+     * @return the modification time, or -1 if the resource is not a file
+     */
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.isFile() ? resource.lastModified() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
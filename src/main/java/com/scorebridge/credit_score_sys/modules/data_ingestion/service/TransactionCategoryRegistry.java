@@ -0,0 +1,150 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataValidationException;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionCategory;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransactionCategoryRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.validation.FinancialDataValidator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory view of the transaction_categories dictionary used by
+ * {@link com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionCategoryConverter}.
+ * Lookups in both directions are a hash or array access.
+ * <p>
+ * The converter only reads: categories are added up front by the service
+ * layer through {@link #registerAll(Collection)}, outside of any transaction
+ * that writes transactions, so flushing an entity never inserts into the
+ * dictionary or opens a second connection. Only standard categories can be
+ * registered, which bounds the dictionary; concurrent inserts of the same name
+ * by several nodes are resolved by the unique constraint.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionCategoryRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionCategoryRegistry.class);
+
+    private final TransactionCategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Short> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[0];
+
+    /**
+     * Returns the dictionary ID of a registered category.
+     *
+     * @param name the category name
+     * @return the category ID
+     * @throws IllegalStateException if the category was never registered
+     */
+    public short encode(String name) {
+        Short id = ids.get(name);
+        if (id == null) {
+            reload();
+            id = ids.get(name);
+        }
+        if (id == null) {
+            throw new IllegalStateException("Transaction category is not registered: " + name);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the name of a dictionary ID.
+     *
+     * @param id the category ID
+     * @return the category name
+     * @throws IllegalStateException if the ID is not in the dictionary
+     */
+    public String decode(short id) {
+        String[] current = names;
+        if (id >= 0 && id < current.length && current[id] != null) {
+            return current[id];
+        }
+        reload();
+        current = names;
+        if (id >= 0 && id < current.length && current[id] != null) {
+            return current[id];
+        }
+        throw new IllegalStateException("Unknown transaction category ID: " + id);
+    }
+
+    /**
+     * Reloads the whole dictionary from the database. The read goes through
+     * JDBC on the current connection, so it never flushes the persistence
+     * context of a converter's caller.
+     */
+    public synchronized void reload() {
+        String[] loaded = Arrays.copyOf(names, names.length);
+        for (TransactionCategory category : jdbcTemplate.query("SELECT id, name FROM transaction_categories",
+                (rs, rowNum) -> new TransactionCategory(rs.getShort("id"), rs.getString("name")))) {
+            loaded = put(loaded, category);
+        }
+        names = loaded;
+        logger.debug("Loaded {} transaction categories", ids.size());
+    }
+
+    /**
+     * Adds the given categories to the dictionary if they are missing. Each
+     * name is inserted in a transaction of its own, so this must be called
+     * outside of any transaction, before entities using the categories are
+     * saved.
+     *
+     * @param categories the category names
+     * @throws DataValidationException if a name is not a standard category
+     */
+    public synchronized void registerAll(Collection<String> categories) {
+        for (String name : categories) {
+            if (name == null || !name.equals(FinancialDataValidator.standardCategory(name))) {
+                throw new DataValidationException("Not a standard transaction category: " + name);
+            }
+        }
+        reload();
+        for (String name : categories) {
+            if (!ids.containsKey(name)) {
+                register(name);
+            }
+        }
+    }
+
+    private void register(String name) {
+        TransactionCategory category;
+        try {
+            category = transactionTemplate.execute(status -> categoryRepository.saveAndFlush(
+                    TransactionCategory.builder().name(name).build()));
+        } catch (DataIntegrityViolationException e) {
+            // Inserted concurrently by another node
+            category = categoryRepository.findByName(name).orElseThrow(() -> e);
+        }
+        names = put(Arrays.copyOf(names, names.length), category);
+        logger.info("Added transaction category '{}' with ID {}", name, category.getId());
+    }
+
+    private String[] put(String[] table, TransactionCategory category) {
+        short id = category.getId();
+        if (id >= table.length) {
+            table = Arrays.copyOf(table, Math.max(id + 1, table.length * 2));
+        }
+        table[id] = category.getName();
+        ids.put(category.getName(), id);
+        return table;
+    }
+}
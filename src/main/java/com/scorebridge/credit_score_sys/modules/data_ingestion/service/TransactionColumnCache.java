@@ -0,0 +1,312 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.CacheEpoch;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.CacheEpochRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransferLinkRepository;
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-user cache of transactions in columnar form for analytics and feature
+ * computation.
+ * <p>
+ * Transfers between the user's own accounts are left out, so the columns only
+ * hold real income and spending.
+ * Columns are built lazily from the database on first access, extended with
+ * newly ingested rows after the ingesting transaction commits, and evicted in
+ * least-recently-used order once the configured memory budget or number of
+ * users is exceeded.
+ * <p>
+ * Every change to a user's transactions increments the user's data version in
+ * the users table, in the same transaction as the change. Cached columns are
+ * tagged with the version they were loaded at and each access compares the tag
+ * with the stored version, a primary key lookup, so changes made on other
+ * instances are picked up on the next access. Changes to all users at once,
+ * such as a re-categorization, increment a single global epoch instead, which
+ * is compared alongside the user's version. Columns older than the configured
+ * time to live are reloaded regardless.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionColumnCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionColumnCache.class);
+
+    /**
+     * Name of the cache's row in the cache_epochs table.
+     */
+    static final String EPOCH_NAME = "transaction-columns";
+
+    private final FinancialTransactionRepository transactionRepository;
+    private final TransferLinkRepository transferLinkRepository;
+    private final UserRepository userRepository;
+    private final CacheEpochRepository epochRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataIngestionConfig config;
+
+    private final CategoryDictionary categoryDictionary = new CategoryDictionary();
+    private final LinkedHashMap<Long, CachedColumns> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long clearCount;
+    private long usedBytes;
+
+    /**
+     * Returns the columns of a user, loading them from the database on a miss
+     * or when the user's data or the global epoch changed since they were
+     * cached.
+     *
+     * @param userId the ID of the user
+     * @return the user's transactions in columnar form
+     */
+    public UserTransactionColumns get(Long userId) {
+        long epoch = epochRepository.findEpoch(EPOCH_NAME).orElse(0L);
+        long version = userRepository.findDataVersionById(userId).orElse(0L);
+        long clears;
+        synchronized (this) {
+            CachedColumns cached = entries.get(userId);
+            if (cached != null && cached.epoch() == epoch && cached.version() == version && !isExpired(cached)) {
+                return cached.columns();
+            }
+            remove(userId);
+            clears = clearCount;
+        }
+
+        // Rows committed after the versions were read are tagged with the
+        // older versions and reloaded on next access
+        UserTransactionColumns loaded = load(userId);
+
+        synchronized (this) {
+            CachedColumns cached = entries.get(userId);
+            if (clearCount == clears && (cached == null || cached.isOlderThan(epoch, version))) {
+                remove(userId);
+                put(userId, new CachedColumns(loaded, epoch, version, System.currentTimeMillis()));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Increments the user's data version in the current transaction and adds
+     * newly saved transactions to the user's cached columns once it commits.
+     * Rolled-back ingestions never reach the cache, and users whose new rows
+     * are matched as transfers are evicted afterwards. Users that are not
+     * cached, or whose cached columns missed another change, are loaded on next
+     * access.
+     *
+     * @param userId       the ID of the user
+     * @param transactions the saved transactions
+     */
+    public void recordIngest(Long userId, List<FinancialTransactions> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        long version = incrementVersion(userId);
+        UserTransactionColumns.Builder builder = UserTransactionColumns.builder(transactions.size());
+        for (FinancialTransactions transaction : transactions) {
+            builder.add(transaction.getTransactionDate().toEpochDay(), transaction.getAmount(),
+                    categoryDictionary.encode(transaction.getCategory()),
+                    "INCOME".equals(transaction.getTransactionType()));
+        }
+        UserTransactionColumns additions = builder.build();
+
+        afterCommit(() -> {
+            synchronized (this) {
+                CachedColumns cached = remove(userId);
+                if (cached != null && cached.version() == version - 1 && !isExpired(cached)) {
+                    put(userId, new CachedColumns(cached.columns().merge(additions), cached.epoch(), version,
+                            cached.loadedAt()));
+                }
+            }
+        });
+    }
+
+    /**
+     * Drops a user's columns, e.g. after accounts or transactions were deleted.
+     * The user's data version is incremented in the current transaction, so
+     * other instances drop their copies as well.
+     *
+     * @param userId the ID of the user
+     */
+    public void evict(Long userId) {
+        incrementVersion(userId);
+        afterCommit(() -> {
+            synchronized (this) {
+                remove(userId);
+            }
+        });
+    }
+
+    /**
+     * Drops all cached columns, e.g. after transactions were re-categorized.
+     * The global epoch is incremented, a single row update, so other instances
+     * drop their copies as well.
+     */
+    public void evictAll() {
+        incrementEpoch();
+        synchronized (this) {
+            clearCount++;
+            entries.clear();
+            usedBytes = 0;
+        }
+    }
+
+    /**
+     * Returns the dictionary used to encode categories in the cached columns.
+     *
+     * @return the category dictionary
+     */
+    public CategoryDictionary getCategoryDictionary() {
+        return categoryDictionary;
+    }
+
+    /**
+     * Builds a user's columns from the database.
+     *
+     * @param userId the ID of the user
+     * @return the user's columns
+     */
+    private UserTransactionColumns load(Long userId) {
+        List<TransactionResponse> rows = transactionRepository.findResponsesByUserId(userId);
+        Set<Long> transferIds = transferLinkRepository.findLinkedTransactionIds(userId);
+        UserTransactionColumns.Builder builder = UserTransactionColumns.builder(rows.size());
+        for (TransactionResponse row : rows) {
+            if (transferIds.contains(row.getId())) {
+                continue;
+            }
+            builder.add(row.getTransactionDate().toEpochDay(), row.getAmount(),
+                    categoryDictionary.encode(row.getCategory()), "INCOME".equals(row.getTransactionType()));
+        }
+        UserTransactionColumns columns = builder.build();
+        logger.debug("Loaded {} transactions into columnar cache for user ID: {}", columns.size(), userId);
+        return columns;
+    }
+
+    /**
+     * Increments a user's data version in the current transaction, or in a new
+     * one when none is active.
+     *
+     * @param userId the ID of the user
+     * @return the new version
+     */
+    private long incrementVersion(Long userId) {
+        Long version = transactionTemplate.execute(status -> {
+            userRepository.incrementDataVersion(userId);
+            return userRepository.findDataVersionById(userId).orElse(0L);
+        });
+        return version == null ? 0L : version;
+    }
+
+    /**
+     * Increments the global epoch in a new transaction, creating its row on
+     * first use.
+     */
+    private void incrementEpoch() {
+        Integer updated = transactionTemplate.execute(status -> epochRepository.increment(EPOCH_NAME));
+        if (updated != null && updated > 0) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> epochRepository.saveAndFlush(
+                    CacheEpoch.builder().name(EPOCH_NAME).epoch(1L).build()));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the row first
+            transactionTemplate.executeWithoutResult(status -> epochRepository.increment(EPOCH_NAME));
+        }
+    }
+
+    private boolean isExpired(CachedColumns cached) {
+        long ttlMillis = config.getColumnar().getTtlMinutes() * 60_000L;
+        return System.currentTimeMillis() - cached.loadedAt() > ttlMillis;
+    }
+
+    /**
+     * Caches columns and evicts least recently used users until the memory
+     * budget and the user limit are met. Columns larger than the whole budget
+     * are not cached. Must be called while holding the monitor.
+     *
+     * @param userId the ID of the user
+     * @param cached the columns to cache
+     */
+    private void put(Long userId, CachedColumns cached) {
+        DataIngestionConfig.Columnar settings = config.getColumnar();
+        long budget = settings.getMemoryBudgetMb() * 1024L * 1024L;
+        if (cached.columns().estimatedBytes() > budget) {
+            return;
+        }
+        entries.put(userId, cached);
+        usedBytes += cached.columns().estimatedBytes();
+
+        Iterator<Map.Entry<Long, CachedColumns>> eldest = entries.entrySet().iterator();
+        while ((usedBytes > budget || entries.size() > settings.getMaxUsers()) && eldest.hasNext()) {
+            Map.Entry<Long, CachedColumns> entry = eldest.next();
+            usedBytes -= entry.getValue().columns().estimatedBytes();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes a user's columns. Must be called while holding the monitor.
+     *
+     * @param userId the ID of the user
+     * @return the removed columns, or null if the user was not cached
+     */
+    private CachedColumns remove(Long userId) {
+        CachedColumns removed = entries.remove(userId);
+        if (removed != null) {
+            usedBytes -= removed.columns().estimatedBytes();
+        }
+        return removed;
+    }
+
+    /**
+     * Runs an action after the current transaction commits, or immediately when
+     * no transaction is active.
+     *
+     * @param action the action to run
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Cached columns with the global epoch and user data version they reflect
+     * and the time they were loaded from the database.
+     */
+    private record CachedColumns(UserTransactionColumns columns, long epoch, long version, long loadedAt) {
+
+        boolean isOlderThan(long otherEpoch, long otherVersion) {
+            return epoch < otherEpoch || (epoch == otherEpoch && version < otherVersion);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionSearchHit;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionSearchResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataValidationException;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransactionSearchTermRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for full-text search over transaction descriptions and categories.
+ * <p>
+ * Terms are kept in an inverted index table partitioned by user, maintained
+ * when transactions are saved, re-categorized, archived or deleted. Postings
+ * are written with JDBC batches rather than one identity insert per row. A
+ * query is a list of terms that must all occur; a term ending in '*' matches
+ * as a prefix. Each term is answered with one index range scan over the
+ * user's postings, the resulting ID sets are intersected, and only the
+ * requested page of transactions is loaded. Search covers the transactions
+ * in the hot table; archived transactions are found through the history
+ * endpoints.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionSearchService.class);
+
+    /**
+     * Maximum length of an indexed term; longer words are truncated.
+     */
+    private static final int MAX_TERM_LENGTH = 40;
+
+    /**
+     * Minimum length of an indexed term.
+     */
+    private static final int MIN_TERM_LENGTH = 2;
+
+    /**
+     * Maximum number of results per page.
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Number of transactions indexed per transaction when rebuilding.
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final String INSERT_POSTING = "INSERT INTO transaction_search_terms "
+            + "(user_id, account_id, transaction_id, term, transaction_date) VALUES (?, ?, ?, ?, ?)";
+
+    private final TransactionSearchTermRepository termRepository;
+    private final FinancialTransactionRepository transactionRepository;
+    private final FinancialAccountRepository accountRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Adds newly saved transactions of one user to the index. Joins the
+     * caller's transaction, so transactions and postings commit together.
+     *
+     * @param userId       the ID of the user owning the transactions
+     * @param transactions the saved transactions
+     */
+    @Transactional
+    public void indexTransactions(Long userId, List<FinancialTransactions> transactions) {
+        List<Object[]> postings = new ArrayList<>();
+        for (FinancialTransactions transaction : transactions) {
+            for (String term : terms(transaction.getDescription(), transaction.getCategory())) {
+                postings.add(posting(userId, transaction.getAccount().getId(), transaction.getId(), term,
+                        transaction.getTransactionDate()));
+            }
+        }
+        insertPostings(postings);
+    }
+
+    /**
+     * Replaces the postings of transactions whose description or category
+     * changed. Joins the caller's transaction.
+     *
+     * @param transactions the updated transactions
+     */
+    @Transactional
+    public void reindexTransactions(List<TransactionResponse> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(transactions.size());
+        for (TransactionResponse transaction : transactions) {
+            ids.add(transaction.getId());
+        }
+        termRepository.deleteByTransactionIdIn(ids);
+
+        Map<Long, Long> accountUsers = new HashMap<>();
+        List<Object[]> postings = new ArrayList<>();
+        for (TransactionResponse transaction : transactions) {
+            Long userId = accountUsers.computeIfAbsent(transaction.getAccountId(),
+                    accountId -> accountRepository.findUserIdById(accountId).orElse(null));
+            if (userId == null) {
+                continue;
+            }
+            for (String term : terms(transaction.getDescription(), transaction.getCategory())) {
+                postings.add(posting(userId, transaction.getAccountId(), transaction.getId(), term,
+                        transaction.getTransactionDate()));
+            }
+        }
+        insertPostings(postings);
+    }
+
+    /**
+     * Inserts postings with one JDBC batch on the current transaction's
+     * connection.
+     *
+     * @param postings the insert parameters of each posting
+     */
+    private void insertPostings(List<Object[]> postings) {
+        if (!postings.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_POSTING, postings);
+        }
+    }
+
+    private static Object[] posting(Long userId, Long accountId, Long transactionId, String term,
+            LocalDate transactionDate) {
+        return new Object[] { userId, accountId, transactionId, term, Date.valueOf(transactionDate) };
+    }
+
+    /**
+     * Rebuilds the postings of all transactions in the database, in keyset
+     * ordered batches with one transaction each, after dropping postings of
+     * transactions that no longer exist.
+     *
+     * @return the number of transactions indexed
+     */
+    public long rebuildIndex() {
+        Integer orphaned = transactionTemplate.execute(status -> termRepository.deleteOrphaned());
+        logger.info("Removed {} orphaned search postings", orphaned);
+        long lastId = 0;
+        long indexed = 0;
+        while (true) {
+            List<TransactionResponse> batch = transactionRepository.findResponsesAfterId(lastId,
+                    PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> reindexTransactions(batch));
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        logger.info("Search index rebuilt for {} transactions", indexed);
+        return indexed;
+    }
+
+    /**
+     * Searches a user's transactions.
+     *
+     * @param userId    the ID of the user
+     * @param query     terms that must all occur; a trailing '*' marks a prefix
+     * @param startDate the start date (inclusive), or null for no lower bound
+     * @param endDate   the end date (inclusive), or null for no upper bound
+     * @param page      zero-based page number
+     * @param size      number of results per page
+     * @return the requested page of matching transactions, newest first
+     * @throws DataValidationException if the query has no terms or the page is
+     *                                 invalid
+     */
+    @Transactional(readOnly = true)
+    public TransactionSearchResponse search(Long userId, String query, LocalDate startDate, LocalDate endDate,
+            int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new DataValidationException("Page must be non-negative and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty()) {
+            throw new DataValidationException("Search query must contain at least one term");
+        }
+        LocalDate from = startDate != null ? startDate : LocalDate.of(1900, 1, 1);
+        LocalDate to = endDate != null ? endDate : LocalDate.of(9999, 12, 31);
+
+        // Exact terms first: they are usually the most selective
+        clauses.sort(Comparator.comparing(Clause::prefix));
+        Map<Long, LocalDate> matches = null;
+        for (Clause clause : clauses) {
+            List<TransactionSearchHit> hits = clause.prefix()
+                    ? termRepository.findHitsByTermRange(userId, clause.term(), upperBound(clause.term()), from, to)
+                    : termRepository.findHitsByTerm(userId, clause.term(), from, to);
+            if (matches == null) {
+                matches = new HashMap<>(hits.size() * 2);
+                for (TransactionSearchHit hit : hits) {
+                    matches.put(hit.getTransactionId(), hit.getTransactionDate());
+                }
+            } else {
+                Set<Long> hitIds = new HashSet<>(hits.size() * 2);
+                for (TransactionSearchHit hit : hits) {
+                    hitIds.add(hit.getTransactionId());
+                }
+                matches.keySet().retainAll(hitIds);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+
+        List<Map.Entry<Long, LocalDate>> ranked = new ArrayList<>(matches.entrySet());
+        ranked.sort(Map.Entry.<Long, LocalDate>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey())
+                .reversed());
+
+        int fromIndex = (int) Math.min((long) page * size, ranked.size());
+        int toIndex = Math.min(fromIndex + size, ranked.size());
+        List<TransactionResponse> results = load(userId, ranked.subList(fromIndex, toIndex));
+
+        logger.debug("Search for user ID {} matched {} transactions", userId, ranked.size());
+        return TransactionSearchResponse.builder()
+                .userId(userId)
+                .query(query)
+                .page(page)
+                .size(size)
+                .totalResults(ranked.size())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Loads one page of matched transactions in ranked order. Rows deleted
+     * since the page was ranked are skipped.
+     *
+     * @param userId the ID of the user
+     * @param ranked the page's transaction IDs with their dates, in order
+     * @return the page's transactions
+     */
+    private List<TransactionResponse> load(Long userId, List<Map.Entry<Long, LocalDate>> ranked) {
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Map.Entry<Long, LocalDate> entry : ranked) {
+            ids.add(entry.getKey());
+        }
+
+        Map<Long, TransactionResponse> rows = new HashMap<>();
+        for (TransactionResponse row : transactionRepository.findResponsesByUserIdAndIdIn(userId, ids)) {
+            rows.put(row.getId(), row);
+        }
+
+        List<TransactionResponse> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TransactionResponse row = rows.get(id);
+            if (row != null) {
+                results.add(row);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * A query term, matched exactly or as a prefix.
+     */
+    private record Clause(String term, boolean prefix) {
+    }
+
+    /**
+     * Parses a query into clauses. Words are normalized like indexed text; a
+     * word ending in '*' makes its last term a prefix.
+     *
+     * @param query the raw query
+     * @return the clauses, without duplicates
+     */
+    private static List<Clause> parse(String query) {
+        Set<Clause> clauses = new LinkedHashSet<>();
+        if (query == null) {
+            return new ArrayList<>();
+        }
+        for (String word : query.trim().split("\\s+")) {
+            boolean prefix = word.endsWith("*");
+            List<String> tokens = tokenize(word, 1);
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean isPrefix = prefix && i == tokens.size() - 1;
+                if (isPrefix || tokens.get(i).length() >= MIN_TERM_LENGTH) {
+                    clauses.add(new Clause(tokens.get(i), isPrefix));
+                }
+            }
+        }
+        return new ArrayList<>(clauses);
+    }
+
+    /**
+     * Extracts the distinct index terms of a transaction's text fields.
+     *
+     * @param texts description, category and any other searchable text
+     * @return the distinct terms
+     */
+    static Set<String> terms(String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            terms.addAll(tokenize(text, MIN_TERM_LENGTH));
+        }
+        return terms;
+    }
+
+    /**
+     * Splits text into lower-case runs of letters and digits, truncated to
+     * {@link #MAX_TERM_LENGTH}.
+     *
+     * @param text      the text, may be null
+     * @param minLength the minimum token length kept
+     * @return the tokens in order of occurrence
+     */
+    private static List<String> tokenize(String text, int minLength) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (token.length() < MAX_TERM_LENGTH) {
+                    token.append(Character.toLowerCase(c));
+                }
+            } else if (token.length() > 0) {
+                if (token.length() >= minLength) {
+                    tokens.add(token.toString());
+                }
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the smallest string greater than every string starting with the
+     * prefix.
+     *
+     * @param prefix the prefix
+     * @return the exclusive upper bound of the prefix's term range
+     */
+    private static String upperBound(String prefix) {
+        char last = prefix.charAt(prefix.length() - 1);
+        return prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+    }
+}
@@ -0,0 +1,147 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransferResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransferLink;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.TransferLinkRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for detecting and storing transfers between a user's own accounts.
+ * Matching runs for the dates touched by each ingestion, once it has committed,
+ * and as a nightly batch over all users; the stored links let analytics drop both sides of a transfer
+ * without re-matching.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+public class TransferMatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransferMatchingService.class);
+
+    private final InternalTransferMatcher matcher;
+    private final TransferLinkRepository linkRepository;
+    private final FinancialTransactionRepository transactionRepository;
+    private final FinancialAccountRepository accountRepository;
+    private final TransactionColumnCache columnCache;
+    private final TransactionTemplate transactionTemplate;
+    private final DataIngestionConfig config;
+
+    /**
+     * Matches transfers among a user's transactions around newly ingested dates.
+     * Meant to be called after the ingesting transaction has committed; always
+     * runs in a transaction of its own, so a failure here never rolls back the
+     * upload. A unique violation means a concurrent match (another upload or
+     * the nightly batch) linked some of the transactions first: those are
+     * already linked, so matching is retried once without them and otherwise
+     * left to the nightly batch.
+     *
+     * @param userId    the ID of the user
+     * @param startDate the earliest date of the ingested transactions
+     * @param endDate   the latest date of the ingested transactions
+     * @return the number of new links
+     */
+    public int matchOnIngest(Long userId, LocalDate startDate, LocalDate endDate) {
+        int tolerance = config.getTransfers().getDateToleranceDays();
+        TransactionTemplate ownTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                Integer linked = ownTransaction.execute(status -> link(userId,
+                        transactionRepository.findResponsesByUserIdAndDateRange(userId,
+                                startDate.minusDays(tolerance), endDate.plusDays(tolerance))));
+                return linked == null ? 0 : linked;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == 2) {
+                    logger.info("Transactions of user ID {} were linked concurrently; leaving the rest to the batch",
+                            userId);
+                    return 0;
+                }
+                logger.debug("Transactions of user ID {} were linked concurrently; matching again", userId);
+            }
+        }
+    }
+
+    /**
+     * Matches transfers among all of a user's transactions.
+     *
+     * @param userId the ID of the user
+     * @return the number of new links
+     */
+    @Transactional
+    public int matchUser(Long userId) {
+        return link(userId, transactionRepository.findResponsesByUserId(userId));
+    }
+
+    /**
+     * Matches transfers for every user with accounts, each user in its own
+     * transaction.
+     *
+     * @return the number of new links
+     */
+    @Scheduled(cron = "${data-ingestion.transfers.batch-cron:0 0 3 * * ?}")
+    public int matchAllUsers() {
+        int total = 0;
+        for (Long userId : accountRepository.findDistinctUserIds()) {
+            try {
+                Integer linked = transactionTemplate.execute(status -> matchUser(userId));
+                total += linked == null ? 0 : linked;
+            } catch (RuntimeException e) {
+                logger.error("Transfer matching failed for user ID: {}", userId, e);
+            }
+        }
+        logger.info("Transfer matching batch finished: {} new links", total);
+        return total;
+    }
+
+    /**
+     * Retrieves the transfers detected for a user.
+     *
+     * @param userId the ID of the user
+     * @return list of transfer read models, most recent first
+     */
+    @Transactional(readOnly = true)
+    public List<TransferResponse> getTransfers(Long userId) {
+        return linkRepository.findResponsesByUserId(userId);
+    }
+
+    /**
+     * Matches the given transactions and stores the new links.
+     *
+     * @param userId       the ID of the user
+     * @param transactions the transactions to match
+     * @return the number of new links
+     */
+    private int link(Long userId, List<TransactionResponse> transactions) {
+        List<TransferLink> links = matcher.match(userId, transactions,
+                linkRepository.findLinkedTransactionIds(userId), config.getTransfers().getDateToleranceDays());
+        if (links.isEmpty()) {
+            return 0;
+        }
+
+        linkRepository.saveAll(links);
+        columnCache.evict(userId);
+        logger.debug("Linked {} internal transfers for user ID: {}", links.size(), userId);
+        return links.size();
+    }
+}
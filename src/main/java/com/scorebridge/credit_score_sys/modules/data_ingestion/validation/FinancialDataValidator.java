@@ -2,7 +2,11 @@ package com.scorebridge.credit_score_sys.modules.data_ingestion.validation;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Component;
 
@@ -15,6 +19,11 @@ import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataVal
  * Utility class for validating financial data before saving.
  * Provides comprehensive validation for financial profiles, accounts, and
  * transactions.
+ * <p>
+ * The profile is walked once. No error list or message is allocated while the
+ * data is valid; prefixes and messages are only built when a rule fails. Large
+ * profiles are validated account by account in parallel, and the errors are
+ * reported in account order.
  *
  * @author ScoreBridge Team
  * @version 1.0
@@ -23,11 +32,59 @@ import com.scorebridge.credit_score_sys.modules.data_ingestion.exception.DataVal
 @Component
 public class FinancialDataValidator {
 
-    private static final int MAX_ACCOUNTS_PER_USER = 20;
-    private static final int MAX_TRANSACTIONS_PER_ACCOUNT = 1000;
+    private static final int MAX_ACCOUNTS_PER_USER = 200;
+    private static final int MAX_TRANSACTIONS_PER_ACCOUNT = 10_000;
     private static final double MAX_TRANSACTION_AMOUNT = 1_000_000.0;
     private static final double MAX_ACCOUNT_BALANCE = 10_000_000.0;
 
+    /**
+     * Minimum number of transactions in a profile before accounts are validated
+     * in parallel. Below this the fork/join overhead outweighs the gain.
+     */
+    private static final int PARALLEL_TRANSACTION_THRESHOLD = 5_000;
+
+    private static final String[] VALID_ACCOUNT_TYPES = {
+            "checking", "savings", "credit_card", "investment"
+    };
+
+    /**
+     * Standard transaction categories, matched case-insensitively without
+     * allocating a lower-cased copy of the input.
+     */
+    private static final NavigableSet<String> VALID_CATEGORIES = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        Collections.addAll(VALID_CATEGORIES,
+                "Salary", "Wages", "Freelance", "Investment Income", "Rental Income", "Other Income",
+                "Rent", "Mortgage", "Utilities", "Groceries", "Dining", "Transportation",
+                "Entertainment", "Healthcare", "Insurance", "Education", "Shopping",
+                "Travel", "Subscriptions", "Debt Payment", "Savings", "Other Expense");
+    }
+
+    /**
+     * Returns the standard spelling of a transaction category.
+     *
+     * @param category the category, may be null
+     * @return the standard category equal to it ignoring case, or null if it is
+     *         not a standard category
+     */
+    public static String standardCategory(String category) {
+        if (category == null) {
+            return null;
+        }
+        String match = VALID_CATEGORIES.floor(category.trim());
+        return match != null && match.equalsIgnoreCase(category.trim()) ? match : null;
+    }
+
+    /**
+     * Returns all standard transaction categories in their standard spelling.
+     *
+     * @return the standard categories
+     */
+    public static List<String> standardCategories() {
+        return List.copyOf(VALID_CATEGORIES);
+    }
+
     /**
      * Validates a complete financial profile request.
      *
@@ -35,33 +92,38 @@ public class FinancialDataValidator {
      * @return list of validation error messages (empty if valid)
      */
     public List<String> validateProfile(FinancialProfileRequest request) {
-        List<String> errors = new ArrayList<>();
-
         if (request == null) {
-            errors.add("Financial profile request cannot be null");
-            return errors;
+            return List.of("Financial profile request cannot be null");
         }
 
+        List<String> errors = null;
+
         if (request.getUserId() == null) {
-            errors.add("User ID is required");
+            errors = addError(errors, "User ID is required");
         }
 
-        if (request.getAccounts() == null || request.getAccounts().isEmpty()) {
-            errors.add("At least one financial account is required");
+        List<FinancialAccountDto> accounts = request.getAccounts();
+        if (accounts == null || accounts.isEmpty()) {
+            errors = addError(errors, "At least one financial account is required");
         } else {
-            if (request.getAccounts().size() > MAX_ACCOUNTS_PER_USER) {
-                errors.add(String.format("Cannot save more than %d accounts per user", MAX_ACCOUNTS_PER_USER));
+            if (accounts.size() > MAX_ACCOUNTS_PER_USER) {
+                errors = addError(errors,
+                        String.format("Cannot save more than %d accounts per user", MAX_ACCOUNTS_PER_USER));
             }
 
-            int accountIndex = 0;
-            for (FinancialAccountDto account : request.getAccounts()) {
-                List<String> accountErrors = validateAccount(account, accountIndex);
-                errors.addAll(accountErrors);
-                accountIndex++;
+            LocalDate today = LocalDate.now();
+            LocalDate oneYearAgo = today.minusYears(1);
+
+            if (accounts.size() > 1 && countTransactions(accounts) >= PARALLEL_TRANSACTION_THRESHOLD) {
+                errors = validateAccountsInParallel(accounts, today, oneYearAgo, errors);
+            } else {
+                for (int i = 0; i < accounts.size(); i++) {
+                    errors = collectAccountErrors(accounts.get(i), i, today, oneYearAgo, errors);
+                }
             }
         }
 
-        return errors;
+        return errors == null ? Collections.emptyList() : errors;
     }
 
     /**
@@ -72,54 +134,129 @@ public class FinancialDataValidator {
      * @return list of validation error messages
      */
     public List<String> validateAccount(FinancialAccountDto account, int index) {
-        List<String> errors = new ArrayList<>();
-        String prefix = String.format("Account #%d: ", index + 1);
+        LocalDate today = LocalDate.now();
+        List<String> errors = collectAccountErrors(account, index, today, today.minusYears(1), null);
+        return errors == null ? Collections.emptyList() : errors;
+    }
+
+    /**
+     * Validates a transaction DTO.
+     *
+     * @param transaction      the transaction to validate
+     * @param accountIndex     the index of the account
+     * @param transactionIndex the index of the transaction
+     * @return list of validation error messages
+     */
+    public List<String> validateTransaction(TransactionDto transaction, int accountIndex, int transactionIndex) {
+        LocalDate today = LocalDate.now();
+        List<String> errors = collectTransactionErrors(transaction, accountIndex, transactionIndex, today,
+                today.minusYears(1), null);
+        return errors == null ? Collections.emptyList() : errors;
+    }
+
+    /**
+     * Validates and throws exception if errors are found.
+     *
+     * @param request the profile request to validate
+     * @throws DataValidationException if validation fails
+     */
+    public void validateAndThrow(FinancialProfileRequest request) {
+        List<String> errors = validateProfile(request);
+        if (!errors.isEmpty()) {
+            throw new DataValidationException("Validation failed: " + String.join("; ", errors));
+        }
+    }
 
+    /**
+     * Validates each account on the common fork/join pool and merges the errors
+     * in account order.
+     *
+     * @param accounts   the accounts to validate
+     * @param today      the current date
+     * @param oneYearAgo the earliest accepted transaction date
+     * @param errors     errors collected so far, may be null
+     * @return the error list, or null if there are no errors
+     */
+    private List<String> validateAccountsInParallel(List<FinancialAccountDto> accounts, LocalDate today,
+            LocalDate oneYearAgo, List<String> errors) {
+        @SuppressWarnings("unchecked")
+        List<String>[] perAccount = new List[accounts.size()];
+        IntStream.range(0, accounts.size())
+                .parallel()
+                .forEach(i -> perAccount[i] = collectAccountErrors(accounts.get(i), i, today, oneYearAgo, null));
+
+        for (List<String> accountErrors : perAccount) {
+            if (accountErrors != null) {
+                if (errors == null) {
+                    errors = new ArrayList<>(accountErrors.size());
+                }
+                errors.addAll(accountErrors);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Checks an account and its transactions, appending any errors.
+     *
+     * @param account    the account to validate
+     * @param index      the index of the account
+     * @param today      the current date
+     * @param oneYearAgo the earliest accepted transaction date
+     * @param errors     errors collected so far, may be null
+     * @return the error list, or null if there are no errors
+     */
+    private List<String> collectAccountErrors(FinancialAccountDto account, int index, LocalDate today,
+            LocalDate oneYearAgo, List<String> errors) {
         if (account == null) {
-            errors.add(prefix + "Account cannot be null");
-            return errors;
+            return addError(errors, accountPrefix(index) + "Account cannot be null");
         }
 
         // Validate institution name
-        if (account.getInstitutionName() == null || account.getInstitutionName().isBlank()) {
-            errors.add(prefix + "Institution name is required");
-        } else if (account.getInstitutionName().length() > 255) {
-            errors.add(prefix + "Institution name must not exceed 255 characters");
+        String institutionName = account.getInstitutionName();
+        if (institutionName == null || institutionName.isBlank()) {
+            errors = addError(errors, accountPrefix(index) + "Institution name is required");
+        } else if (institutionName.length() > 255) {
+            errors = addError(errors, accountPrefix(index) + "Institution name must not exceed 255 characters");
         }
 
         // Validate account type
-        if (account.getAccountType() == null || account.getAccountType().isBlank()) {
-            errors.add(prefix + "Account type is required");
-        } else if (!isValidAccountType(account.getAccountType())) {
-            errors.add(prefix + "Invalid account type. Allowed values: checking, savings, credit_card, investment");
+        String accountType = account.getAccountType();
+        if (accountType == null || accountType.isBlank()) {
+            errors = addError(errors, accountPrefix(index) + "Account type is required");
+        } else if (!isValidAccountType(accountType)) {
+            errors = addError(errors, accountPrefix(index)
+                    + "Invalid account type. Allowed values: checking, savings, credit_card, investment");
         }
 
         // Validate account number last 4
-        if (account.getAccountNumberLast4() != null && !account.getAccountNumberLast4().matches("\\d{4}")) {
-            errors.add(prefix + "Account number last 4 must be exactly 4 digits");
+        String last4 = account.getAccountNumberLast4();
+        if (last4 != null && !isFourDigits(last4)) {
+            errors = addError(errors, accountPrefix(index) + "Account number last 4 must be exactly 4 digits");
         }
 
         // Validate current balance
-        if (account.getCurrentBalance() == null) {
-            errors.add(prefix + "Current balance is required");
-        } else if (account.getCurrentBalance() < 0) {
-            errors.add(prefix + "Current balance cannot be negative");
-        } else if (account.getCurrentBalance() > MAX_ACCOUNT_BALANCE) {
-            errors.add(prefix + String.format("Current balance cannot exceed $%.2f", MAX_ACCOUNT_BALANCE));
+        Double balance = account.getCurrentBalance();
+        if (balance == null) {
+            errors = addError(errors, accountPrefix(index) + "Current balance is required");
+        } else if (balance < 0) {
+            errors = addError(errors, accountPrefix(index) + "Current balance cannot be negative");
+        } else if (balance > MAX_ACCOUNT_BALANCE) {
+            errors = addError(errors, accountPrefix(index)
+                    + String.format("Current balance cannot exceed $%.2f", MAX_ACCOUNT_BALANCE));
         }
 
         // Validate transactions
-        if (account.getTransactions() != null) {
-            if (account.getTransactions().size() > MAX_TRANSACTIONS_PER_ACCOUNT) {
-                errors.add(prefix + String.format("Cannot have more than %d transactions per account",
-                        MAX_TRANSACTIONS_PER_ACCOUNT));
+        List<TransactionDto> transactions = account.getTransactions();
+        if (transactions != null) {
+            if (transactions.size() > MAX_TRANSACTIONS_PER_ACCOUNT) {
+                errors = addError(errors, accountPrefix(index)
+                        + String.format("Cannot have more than %d transactions per account",
+                                MAX_TRANSACTIONS_PER_ACCOUNT));
             }
 
-            int transactionIndex = 0;
-            for (TransactionDto transaction : account.getTransactions()) {
-                List<String> transactionErrors = validateTransaction(transaction, index, transactionIndex);
-                errors.addAll(transactionErrors);
-                transactionIndex++;
+            for (int t = 0; t < transactions.size(); t++) {
+                errors = collectTransactionErrors(transactions.get(t), index, t, today, oneYearAgo, errors);
             }
         }
 
@@ -127,114 +264,148 @@ public class FinancialDataValidator {
     }
 
     /**
-     * Validates a transaction DTO.
+     * Checks a single transaction, appending any errors.
      *
      * @param transaction      the transaction to validate
      * @param accountIndex     the index of the account
      * @param transactionIndex the index of the transaction
-     * @return list of validation error messages
+     * @param today            the current date
+     * @param oneYearAgo       the earliest accepted transaction date
+     * @param errors           errors collected so far, may be null
+     * @return the error list, or null if there are no errors
      */
-    public List<String> validateTransaction(TransactionDto transaction, int accountIndex, int transactionIndex) {
-        List<String> errors = new ArrayList<>();
-        String prefix = String.format("Account #%d, Transaction #%d: ", accountIndex + 1, transactionIndex + 1);
-
+    private List<String> collectTransactionErrors(TransactionDto transaction, int accountIndex,
+            int transactionIndex, LocalDate today, LocalDate oneYearAgo, List<String> errors) {
         if (transaction == null) {
-            errors.add(prefix + "Transaction cannot be null");
-            return errors;
+            return addError(errors, transactionPrefix(accountIndex, transactionIndex) + "Transaction cannot be null");
         }
 
         // Validate amount
-        if (transaction.getAmount() == null) {
-            errors.add(prefix + "Transaction amount is required");
-        } else if (transaction.getAmount() <= 0) {
-            errors.add(prefix + "Transaction amount must be greater than 0");
-        } else if (transaction.getAmount() > MAX_TRANSACTION_AMOUNT) {
-            errors.add(prefix + String.format("Transaction amount cannot exceed $%.2f", MAX_TRANSACTION_AMOUNT));
+        Double amount = transaction.getAmount();
+        if (amount == null) {
+            errors = addError(errors,
+                    transactionPrefix(accountIndex, transactionIndex) + "Transaction amount is required");
+        } else if (amount <= 0) {
+            errors = addError(errors,
+                    transactionPrefix(accountIndex, transactionIndex) + "Transaction amount must be greater than 0");
+        } else if (amount > MAX_TRANSACTION_AMOUNT) {
+            errors = addError(errors, transactionPrefix(accountIndex, transactionIndex)
+                    + String.format("Transaction amount cannot exceed $%.2f", MAX_TRANSACTION_AMOUNT));
         }
 
         // Validate transaction type
-        if (transaction.getTransactionType() == null || transaction.getTransactionType().isBlank()) {
-            errors.add(prefix + "Transaction type is required");
-        } else if (!transaction.getTransactionType().matches("^(INCOME|EXPENSE)$")) {
-            errors.add(prefix + "Transaction type must be either INCOME or EXPENSE");
+        String type = transaction.getTransactionType();
+        if (type == null || type.isBlank()) {
+            errors = addError(errors,
+                    transactionPrefix(accountIndex, transactionIndex) + "Transaction type is required");
+        } else if (!"INCOME".equals(type) && !"EXPENSE".equals(type)) {
+            errors = addError(errors, transactionPrefix(accountIndex, transactionIndex)
+                    + "Transaction type must be either INCOME or EXPENSE");
         }
 
-        // Validate category
-        if (transaction.getCategory() == null || transaction.getCategory().isBlank()) {
-            errors.add(prefix + "Category is required");
-        } else if (transaction.getCategory().length() > 100) {
-            errors.add(prefix + "Category must not exceed 100 characters");
-        } else if (!isValidCategory(transaction.getCategory())) {
-            errors.add(prefix
-                    + "Invalid category. Please use standard categories like Salary, Rent, Utilities, Groceries, etc.");
+        // Validate category; a non-standard one is re-categorized from the
+        // description on ingest
+        String category = transaction.getCategory();
+        if (category == null || category.isBlank()) {
+            errors = addError(errors, transactionPrefix(accountIndex, transactionIndex) + "Category is required");
+        } else if (category.length() > 100) {
+            errors = addError(errors,
+                    transactionPrefix(accountIndex, transactionIndex) + "Category must not exceed 100 characters");
         }
 
         // Validate description
-        if (transaction.getDescription() != null && transaction.getDescription().length() > 255) {
-            errors.add(prefix + "Description must not exceed 255 characters");
+        String description = transaction.getDescription();
+        if (description != null && description.length() > 255) {
+            errors = addError(errors,
+                    transactionPrefix(accountIndex, transactionIndex) + "Description must not exceed 255 characters");
         }
 
         // Validate transaction date
-        if (transaction.getTransactionDate() == null) {
-            errors.add(prefix + "Transaction date is required");
-        } else {
-            LocalDate now = LocalDate.now();
-            LocalDate oneYearAgo = now.minusYears(1);
-
-            if (transaction.getTransactionDate().isAfter(now)) {
-                errors.add(prefix + "Transaction date cannot be in the future");
-            } else if (transaction.getTransactionDate().isBefore(oneYearAgo)) {
-                errors.add(prefix + "Transaction date cannot be more than 1 year in the past");
-            }
+        LocalDate date = transaction.getTransactionDate();
+        if (date == null) {
+            errors = addError(errors,
+                    transactionPrefix(accountIndex, transactionIndex) + "Transaction date is required");
+        } else if (date.isAfter(today)) {
+            errors = addError(errors,
+                    transactionPrefix(accountIndex, transactionIndex) + "Transaction date cannot be in the future");
+        } else if (date.isBefore(oneYearAgo)) {
+            errors = addError(errors, transactionPrefix(accountIndex, transactionIndex)
+                    + "Transaction date cannot be more than 1 year in the past");
         }
 
         return errors;
     }
 
     /**
-     * Checks if the account type is valid.
+     * Appends an error, allocating the list on the first failure.
      *
-     * @param accountType the account type to check
-     * @return true if valid, false otherwise
+     * @param errors  the current error list, may be null
+     * @param message the error message
+     * @return the error list containing the message
      */
-    private boolean isValidAccountType(String accountType) {
-        return accountType.matches("(?i)^(checking|savings|credit_card|investment)$");
+    private static List<String> addError(List<String> errors, String message) {
+        if (errors == null) {
+            errors = new ArrayList<>();
+        }
+        errors.add(message);
+        return errors;
+    }
+
+    private static String accountPrefix(int index) {
+        return "Account #" + (index + 1) + ": ";
+    }
+
+    private static String transactionPrefix(int accountIndex, int transactionIndex) {
+        return "Account #" + (accountIndex + 1) + ", Transaction #" + (transactionIndex + 1) + ": ";
     }
 
     /**
-     * Checks if the transaction category is valid.
+     * Counts the transactions of all accounts in a profile.
      *
-     * @param category the category to check
-     * @return true if valid, false otherwise
+     * @param accounts the accounts of the profile
+     * @return total number of transactions
      */
-    private boolean isValidCategory(String category) {
-        // List of common valid categories
-        String[] validCategories = {
-                "Salary", "Wages", "Freelance", "Investment Income", "Rental Income", "Other Income",
-                "Rent", "Mortgage", "Utilities", "Groceries", "Dining", "Transportation",
-                "Entertainment", "Healthcare", "Insurance", "Education", "Shopping",
-                "Travel", "Subscriptions", "Debt Payment", "Savings", "Other Expense"
-        };
+    private static int countTransactions(List<FinancialAccountDto> accounts) {
+        int total = 0;
+        for (FinancialAccountDto account : accounts) {
+            if (account != null && account.getTransactions() != null) {
+                total += account.getTransactions().size();
+            }
+        }
+        return total;
+    }
 
-        for (String validCategory : validCategories) {
-            if (category.equalsIgnoreCase(validCategory)) {
+    /**
+     * Checks if the account type is valid.
+     *
+     * @param accountType the account type to check
+     * @return true if valid, false otherwise
+     */
+    private boolean isValidAccountType(String accountType) {
+        for (String validType : VALID_ACCOUNT_TYPES) {
+            if (validType.equalsIgnoreCase(accountType)) {
                 return true;
             }
         }
-
         return false;
     }
 
     /**
-     * Validates and throws exception if errors are found.
+     * Checks that a value consists of exactly four ASCII digits.
      *
-     * @param request the profile request to validate
-     * @throws DataValidationException if validation fails
+     * @param value the value to check
+     * @return true if the value is four digits, false otherwise
      */
-    public void validateAndThrow(FinancialProfileRequest request) {
-        List<String> errors = validateProfile(request);
-        if (!errors.isEmpty()) {
-            throw new DataValidationException("Validation failed: " + String.join("; ", errors));
+    private static boolean isFourDigits(String value) {
+        if (value.length() != 4) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
         }
+        return true;
     }
 }
@@ -2,6 +2,7 @@ package com.scorebridge.credit_score_sys.modules.scoring.controller;
 
 import com.scorebridge.credit_score_sys.modules.scoring.dto.InteractiveScoreRequest;
 import com.scorebridge.credit_score_sys.modules.scoring.dto.ScoreCalculationResponse;
+import com.scorebridge.credit_score_sys.modules.scoring.dto.ScoreHistorySeries;
 import com.scorebridge.credit_score_sys.modules.scoring.service.ScoringService;
 import com.scorebridge.credit_score_sys.modules.user.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -75,6 +76,27 @@ public class ScoringController {
                         history));
     }
 
+    /**
+     * Get score history for a registered user as a compressed series.
+     * 
+     * @param userId the user ID
+     * @return the encoded score history
+     */
+    @GetMapping("/history/{userId}/series")
+    @Operation(summary = "Get Score History Series", description = "Retrieve a registered user's score history as a compact Gorilla-encoded (timestamp, score) series")
+    public ResponseEntity<ApiResponse<ScoreHistorySeries>> getScoreHistorySeries(
+            @Parameter(description = "User ID", required = true) @PathVariable Long userId) {
+
+        log.info("Retrieving score history series for user: {}", userId);
+
+        ScoreHistorySeries series = scoringService.getScoreHistorySeries(userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Encoded %d score records", series.getPointCount()),
+                        series));
+    }
+
     /**
      * Get the latest score for a registered user.
      * 
@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
  * @since 2025-10-12
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MlModelResponse {
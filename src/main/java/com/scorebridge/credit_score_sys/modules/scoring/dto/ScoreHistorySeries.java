@@ -0,0 +1,45 @@
+package com.scorebridge.credit_score_sys.modules.scoring.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A user's complete score history in compressed form, for charts and exports.
+ * Points are encoded oldest first as Gorilla-style (timestamp, value) pairs:
+ * the timestamp is the calculation time in epoch seconds (UTC), delta-of-delta
+ * encoded, and the value is the SBI score as a double, XOR encoded.
+ * 
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Compressed credit score history")
+public class ScoreHistorySeries {
+
+    @Schema(description = "User ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "Number of encoded points", example = "24")
+    private Integer pointCount;
+
+    @Schema(description = "Timestamp of the oldest point")
+    private LocalDateTime firstCalculatedAt;
+
+    @Schema(description = "Timestamp of the newest point")
+    private LocalDateTime lastCalculatedAt;
+
+    @Schema(description = "Encoding of the data field", example = "gorilla")
+    private String encoding;
+
+    @Schema(description = "Base64 encoded series")
+    private String data;
+}
@@ -0,0 +1,31 @@
+package com.scorebridge.credit_score_sys.modules.scoring.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A single point of a user's score history: when the score was calculated and
+ * its value. Read without the audit and input columns of the score record.
+ * 
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Point of a credit score history")
+public class ScorePoint {
+
+    @Schema(description = "Calculation timestamp")
+    private LocalDateTime calculatedAt;
+
+    @Schema(description = "ScoreBridge Index score", example = "742")
+    private Integer sbiScore;
+}
@@ -1,8 +1,11 @@
 package com.scorebridge.credit_score_sys.modules.scoring.repository;
 
+import com.scorebridge.credit_score_sys.modules.scoring.dto.ScorePoint;
 import com.scorebridge.credit_score_sys.modules.scoring.model.CreditScore;
 import com.scorebridge.credit_score_sys.modules.user.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -31,6 +34,13 @@ public interface CreditScoreRepository extends JpaRepository<CreditScore, Long>
      */
     Optional<CreditScore> findFirstByUserOrderByCalculatedAtDesc(User user);
 
+    /**
+     * Find the calculation time and score of all scores for a user, oldest first.
+     */
+    @Query("SELECT new com.scorebridge.credit_score_sys.modules.scoring.dto.ScorePoint(cs.calculatedAt, cs.sbiScore) " +
+            "FROM CreditScore cs WHERE cs.user.id = :userId ORDER BY cs.calculatedAt")
+    List<ScorePoint> findPointsByUserId(@Param("userId") Long userId);
+
     /**
      * Find scores for a user within a date range.
      */
@@ -57,4 +67,17 @@ public interface CreditScoreRepository extends JpaRepository<CreditScore, Long>
      */
     @Query("SELECT AVG(cs.sbiScore) FROM CreditScore cs WHERE cs.user = :user")
     Optional<Double> getAverageSbiScoreByUser(@Param("user") User user);
+
+    /**
+     * Find a page of score IDs for a user, used to bound the size of bulk deletes.
+     */
+    @Query("SELECT cs.id FROM CreditScore cs WHERE cs.user.id = :userId ORDER BY cs.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Delete scores by ID using bulk DML.
+     */
+    @Modifying
+    @Query("DELETE FROM CreditScore cs WHERE cs.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -1,7 +1,12 @@
 package com.scorebridge.credit_score_sys.modules.scoring.service;
 
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.CashFlowForecastSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.RecurringStreamSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.SpendingSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionAnomalySummary;
 import com.scorebridge.credit_score_sys.modules.scoring.dto.InteractiveScoreRequest;
 import com.scorebridge.credit_score_sys.modules.scoring.dto.MlModelRequest;
+import com.scorebridge.credit_score_sys.modules.scoring.dto.MlModelResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -91,6 +96,39 @@ public class FeatureEngineeringService {
         return Math.max(0, Math.min(100, score));
     }
 
+    /**
+     * Calculate Income Reliability score (I component) using observed recurring
+     * deposits.
+     * When recurring income streams were detected in the user's transactions,
+     * the consistency part of the score compares the observed monthly recurring
+     * income with the self-reported salary instead of trusting the declared
+     * figures alone. Falls back to the self-reported calculation otherwise.
+     * 
+     * @param request  the user input
+     * @param observed recurring streams detected for the user, may be null
+     * @return score between 0-100
+     */
+    public double calculateIncomeReliability(InteractiveScoreRequest request, RecurringStreamSummary observed) {
+        if (observed == null || observed.getIncomeStreamCount() == null || observed.getIncomeStreamCount() == 0
+                || request.getMonthlySalary() == null || request.getMonthlySalary() <= 0) {
+            return calculateIncomeReliability(request);
+        }
+
+        // Income level score from observed deposits (annualized)
+        double observedAnnualIncome = observed.getMonthlyRecurringIncome() * 12.0;
+        double incomeScore = Math.min((observedAnnualIncome / 100000.0) * 50, 50);
+
+        // Consistency: observed recurring deposits against the declared salary
+        double observedRatio = observed.getMonthlyRecurringIncome() / request.getMonthlySalary();
+        double consistencyScore = (observedRatio >= 0.8 && observedRatio <= 1.2) ? 50
+                : (observedRatio >= 0.5 ? 35 : 20);
+
+        double score = incomeScore + consistencyScore;
+
+        log.debug("Observed income reliability score: {}", score);
+        return Math.max(0, Math.min(100, score));
+    }
+
     /**
      * Calculate Transaction Patterns score (T component).
      * Based on EMI management, investment habits, credit inquiries.
@@ -116,6 +154,30 @@ public class FeatureEngineeringService {
         return Math.max(0, Math.min(100, score));
     }
 
+    /**
+     * Calculate Transaction Patterns score (T component) including unusual
+     * spending observed in the user's transactions.
+     * Each expense flagged as anomalous within the recent window costs points,
+     * up to a fixed cap.
+     * 
+     * @param request  the user input
+     * @param observed anomalies flagged for the user, may be null
+     * @return score between 0-100
+     */
+    public double calculateTransactionPatterns(InteractiveScoreRequest request, TransactionAnomalySummary observed) {
+        double score = calculateTransactionPatterns(request);
+        if (observed == null || observed.getRecentAnomalies() == null) {
+            return score;
+        }
+
+        // Unusual spending penalty (fewer is better)
+        double anomalyPenalty = Math.min(observed.getRecentAnomalies() * 4, 20);
+        score -= anomalyPenalty;
+
+        log.debug("Transaction patterns score with anomalies: {}", score);
+        return Math.max(0, Math.min(100, score));
+    }
+
     /**
      * Calculate Savings Stability score (S component).
      * Based on monthly balance, credit utilization, debt levels.
@@ -143,6 +205,116 @@ public class FeatureEngineeringService {
         return Math.max(0, Math.min(100, score));
     }
 
+    /**
+     * Calculate Savings Stability score (S component) including the savings rate
+     * observed in the user's transactions.
+     * 
+     * @param request  the user input
+     * @param observed spending summary for the user, may be null
+     * @return score between 0-100
+     */
+    public double calculateSavingsStability(InteractiveScoreRequest request, SpendingSummary observed) {
+        double score = calculateSavingsStability(request);
+        if (observed == null || observed.getTotalIncome() == null || observed.getTotalIncome() <= 0) {
+            return score;
+        }
+
+        // Observed savings rate (higher is better, overspending is penalized)
+        double savingsRate = observed.getSavingsRate();
+        double savingsAdjustment = savingsRate >= 0.2 ? 10 : (savingsRate >= 0 ? 0 : -15);
+        score += savingsAdjustment;
+
+        log.debug("Savings stability score with observed spending: {}", score);
+        return Math.max(0, Math.min(100, score));
+    }
+
+    /**
+     * Calculate Savings Stability score (S component) including the observed
+     * savings rate and the projected balance of the user's accounts.
+     * 
+     * @param request  the user input
+     * @param observed spending summary for the user, may be null
+     * @param forecast cash-flow forecast for the user, may be null
+     * @return score between 0-100
+     */
+    public double calculateSavingsStability(InteractiveScoreRequest request, SpendingSummary observed,
+            CashFlowForecastSummary forecast) {
+        double score = calculateSavingsStability(request, observed);
+        if (forecast == null || forecast.getAccounts() == null || forecast.getAccounts().isEmpty()) {
+            return score;
+        }
+
+        // Projected 90 day balance (running out of money is penalized)
+        double current = forecast.getCurrentBalance();
+        double projected = forecast.getProjectedBalance90();
+        double forecastAdjustment = projected < 0 ? -15 : (projected < current * 0.9 ? -5 : (projected >= current ? 5 : 0));
+        score += forecastAdjustment;
+
+        log.debug("Savings stability score with forecast: {}", score);
+        return Math.max(0, Math.min(100, score));
+    }
+
+    /**
+     * Adjust the model's component scores with the user's observed transaction
+     * data.
+     * Each of the I, T and S components moves by the difference between its
+     * observed and self-reported calculation, and the SBI moves by the
+     * weighted change of the components on the model's 300-850 scale. The
+     * response is returned unchanged when the observed data makes no
+     * difference, e.g. for users without uploaded transactions.
+     * 
+     * @param request   the user input
+     * @param response  the ML model response
+     * @param recurring recurring streams detected for the user, may be null
+     * @param anomalies anomalies flagged for the user, may be null
+     * @param spending  spending summary for the user, may be null
+     * @param forecast  cash-flow forecast for the user, may be null
+     * @return the adjusted response
+     */
+    public MlModelResponse applyObservedFeatures(InteractiveScoreRequest request, MlModelResponse response,
+            RecurringStreamSummary recurring, TransactionAnomalySummary anomalies, SpendingSummary spending,
+            CashFlowForecastSummary forecast) {
+        double incomeDelta = difference(calculateIncomeReliability(request, recurring),
+                calculateIncomeReliability(request));
+        double transactionDelta = difference(calculateTransactionPatterns(request, anomalies),
+                calculateTransactionPatterns(request));
+        double savingsDelta = difference(calculateSavingsStability(request, spending, forecast),
+                calculateSavingsStability(request));
+        if (incomeDelta == 0 && transactionDelta == 0 && savingsDelta == 0) {
+            return response;
+        }
+
+        double income = clamp(response.getIncomeReliability() + incomeDelta);
+        double transactions = clamp(response.getTransactionPatterns() + transactionDelta);
+        double savings = clamp(response.getSavingsStability() + savingsDelta);
+
+        double weightedChange = response.getBetaWeight() * (income - response.getIncomeReliability())
+                + response.getGammaWeight() * (transactions - response.getTransactionPatterns())
+                + response.getDeltaWeight() * (savings - response.getSavingsStability());
+        int sbiScore = (int) Math.round(response.getPredictedScore() + weightedChange / 100.0 * 550);
+        sbiScore = Math.max(300, Math.min(850, sbiScore));
+
+        log.debug("Observed data moved I by {}, T by {}, S by {}; SBI {} -> {}", income - response.getIncomeReliability(),
+                transactions - response.getTransactionPatterns(), savings - response.getSavingsStability(),
+                response.getPredictedScore(), sbiScore);
+        return response.toBuilder()
+                .predictedScore(sbiScore)
+                .scoreCategory(MlModelClient.determineScoreCategory(sbiScore))
+                .incomeReliability(income)
+                .transactionPatterns(transactions)
+                .savingsStability(savings)
+                .build();
+    }
+
+    private static double difference(double observed, double base) {
+        double delta = observed - base;
+        return Double.isFinite(delta) ? delta : 0;
+    }
+
+    private static double clamp(double score) {
+        return Math.max(0, Math.min(100, score));
+    }
+
     /**
      * Validate that the request has sufficient data for scoring.
      * 
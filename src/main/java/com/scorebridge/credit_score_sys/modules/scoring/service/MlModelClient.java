@@ -159,7 +159,7 @@ public class MlModelClient {
         return Math.max(0, Math.min(100, balanceScore + 50 - utilizationPenalty));
     }
 
-    private String determineScoreCategory(int score) {
+    static String determineScoreCategory(int score) {
         if (score >= 750)
             return "Excellent";
         if (score >= 700)
@@ -1,5 +1,10 @@
 package com.scorebridge.credit_score_sys.modules.scoring.service;
 
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.CashFlowForecastService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.RecurringStreamService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.SpendingAnalysisService;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TimeSeriesCodec;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TransactionAnomalyService;
 import com.scorebridge.credit_score_sys.modules.scoring.dto.*;
 import com.scorebridge.credit_score_sys.modules.scoring.exception.InsufficientDataException;
 import com.scorebridge.credit_score_sys.modules.scoring.exception.ScoreNotFoundException;
@@ -14,6 +19,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,10 +37,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ScoringService {
 
+    /**
+     * Number of months of observed spending used to adjust a registered
+     * user's score.
+     */
+    private static final int OBSERVED_SPENDING_MONTHS = 12;
+
     private final FeatureEngineeringService featureEngineeringService;
     private final MlModelClient mlModelClient;
     private final CreditScoreRepository creditScoreRepository;
     private final UserRepository userRepository;
+    private final RecurringStreamService recurringStreamService;
+    private final TransactionAnomalyService transactionAnomalyService;
+    private final SpendingAnalysisService spendingAnalysisService;
+    private final CashFlowForecastService cashFlowForecastService;
 
     /**
      * Calculate credit score for interactive (anonymous or registered) user.
@@ -56,6 +73,11 @@ public class ScoringService {
         // Call ML model for prediction
         MlModelResponse mlResponse = mlModelClient.predict(mlRequest);
 
+        // Adjust with the transactions a registered user has uploaded
+        if (request.getUserId() != null) {
+            mlResponse = applyObservedFeatures(request, mlResponse);
+        }
+
         // Build component scores
         ComponentScores components = ComponentScores.builder()
                 .paymentConsistency(mlResponse.getPaymentConsistency())
@@ -118,6 +140,38 @@ public class ScoringService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the score history of a registered user as a compressed series.
+     * Only the calculation time and score are read, and the points are
+     * streamed into the encoder.
+     * 
+     * @param userId the user ID
+     * @return the encoded score history
+     */
+    @Transactional(readOnly = true)
+    public ScoreHistorySeries getScoreHistorySeries(Long userId) {
+        log.info("Retrieving score history series for user: {}", userId);
+
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found with ID: " + userId);
+        }
+
+        List<ScorePoint> points = creditScoreRepository.findPointsByUserId(userId);
+        TimeSeriesCodec.Encoder encoder = new TimeSeriesCodec.Encoder();
+        for (ScorePoint point : points) {
+            encoder.add(point.getCalculatedAt().toEpochSecond(ZoneOffset.UTC), point.getSbiScore());
+        }
+
+        return ScoreHistorySeries.builder()
+                .userId(userId)
+                .pointCount(encoder.count())
+                .firstCalculatedAt(points.isEmpty() ? null : points.get(0).getCalculatedAt())
+                .lastCalculatedAt(points.isEmpty() ? null : points.get(points.size() - 1).getCalculatedAt())
+                .encoding("gorilla")
+                .data(Base64.getEncoder().encodeToString(encoder.toByteArray()))
+                .build();
+    }
+
     /**
      * Get latest score for a user.
      * 
@@ -180,6 +234,22 @@ public class ScoringService {
         }
     }
 
+    /**
+     * Adjust the ML response with the user's observed transaction data.
+     *
+     * @param request    the user's financial data
+     * @param mlResponse the ML model response
+     * @return the adjusted response
+     */
+    private MlModelResponse applyObservedFeatures(InteractiveScoreRequest request, MlModelResponse mlResponse) {
+        Long userId = request.getUserId();
+        return featureEngineeringService.applyObservedFeatures(request, mlResponse,
+                recurringStreamService.getSummary(userId),
+                transactionAnomalyService.getSummary(userId),
+                spendingAnalysisService.getSummary(userId, OBSERVED_SPENDING_MONTHS),
+                cashFlowForecastService.getSummary(userId));
+    }
+
     /**
      * Convert CreditScore entity to response DTO.
      */
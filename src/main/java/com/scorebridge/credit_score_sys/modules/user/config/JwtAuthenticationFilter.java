@@ -1,17 +1,20 @@
 package com.scorebridge.credit_score_sys.modules.user.config;
 
+import com.scorebridge.credit_score_sys.modules.user.service.CustomUserDetailsService;
+import com.scorebridge.credit_score_sys.modules.user.service.SecurityStampService;
 import com.scorebridge.credit_score_sys.modules.user.service.TokenBlacklistService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -34,8 +37,16 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final SecurityStampService securityStampService;
+
+    /**
+     * Whether principals are built from token claims instead of loading the
+     * user. Tokens without the principal claims are always loaded.
+     */
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
 
     /**
      * Filters each HTTP request to validate JWT tokens and set authentication.
@@ -75,14 +86,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            userEmail = jwtUtil.extractUsername(jwt);
+            // Verified once per token; repeat requests are served from the cache
+            Claims claims = jwtUtil.extractAllClaims(jwt);
+            userEmail = claims.getSubject();
 
             // If username is extracted and no authentication is set in context
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                UserDetails userDetails;
+                if (statelessPrincipal && jwtUtil.hasPrincipalClaims(claims)) {
+                    // Trust the signed claims; only the security stamp is checked
+                    if (!securityStampService.isCurrent(claims.get(JwtUtil.CLAIM_USER_ID, Long.class),
+                            claims.get(JwtUtil.CLAIM_SECURITY_STAMP, Integer.class))) {
+                        log.warn("Attempted to use token with outdated security stamp");
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+                    userDetails = this.userDetailsService.loadUserFromClaims(claims);
+                } else {
+                    userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                }
 
                 // Validate token
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+                if (jwtUtil.validateClaims(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -1,15 +1,24 @@
 package com.scorebridge.credit_score_sys.modules.user.config;
 
+import com.scorebridge.credit_score_sys.modules.user.service.CustomUserDetailsService.CustomUserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -21,8 +30,31 @@ import java.util.function.Function;
  * @since 2025-10-07
  */
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    /**
+     * Claim holding the user's ID.
+     */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /**
+     * Claim holding the user's full name.
+     */
+    public static final String CLAIM_NAME = "name";
+
+    /**
+     * Claim holding the user's roles.
+     */
+    public static final String CLAIM_ROLES = "roles";
+
+    /**
+     * Claim holding the user's security stamp at the time the token was issued.
+     */
+    public static final String CLAIM_SECURITY_STAMP = "stamp";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
     /**
      * Secret key used for signing JWT tokens.
      */
@@ -36,12 +68,33 @@ public class JwtUtil {
     private Long expiration;
 
     /**
-     * Generates the secret key for signing JWT tokens.
+     * HMAC key derived from the secret, built once at startup.
+     */
+    private SecretKey signingKey;
+
+    /**
+     * Parser verifying signatures with the signing key; thread-safe.
+     */
+    private JwtParser parser;
+
+    /**
+     * Builds the signing key and the parser from the configured secret.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * Returns the secret key for signing JWT tokens.
      *
      * @return the SecretKey for HMAC signing
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     /**
@@ -78,27 +131,80 @@ public class JwtUtil {
     }
 
     /**
-     * Extracts all claims from a JWT token.
+     * Extracts all claims from a JWT token. The signature is verified once per
+     * token; later calls are served from the verified token cache until the
+     * token expires.
      *
      * @param token the JWT token
      * @return all claims from the token
+     * @throws JwtException if the token is malformed, has an invalid signature
+     *                      or has expired
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Claims extractAllClaims(String token) {
+        Claims claims = verifiedTokenCache.get(token);
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokenCache.put(token, claims);
+        }
+        return claims;
     }
 
     /**
-     * Checks if a JWT token has expired.
+     * Extracts the revocation key of a JWT token.
      *
      * @param token the JWT token
+     * @return the token hash
+     * @see #tokenHash(Claims, String)
+     */
+    public String extractTokenHash(String token) {
+        return tokenHash(extractAllClaims(token), token);
+    }
+
+    /**
+     * Returns the revocation key of a token: the SHA-256 hex digest of its ID
+     * (jti), or of the whole token for tokens issued without an ID.
+     *
+     * @param claims the claims of the token
+     * @param token  the JWT token
+     * @return the 64 character token hash
+     */
+    public String tokenHash(Claims claims, String token) {
+        return sha256Hex(claims.getId() != null ? claims.getId() : token);
+    }
+
+    /**
+     * Returns the SHA-256 digest of a string in lower-case hex.
+     *
+     * @param value the string to hash
+     * @return the 64 character hex digest
+     */
+    public static String sha256Hex(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Removes a token from the verified token cache, so that its next use is
+     * verified again.
+     *
+     * @param token the JWT token
+     */
+    public void evictToken(String token) {
+        verifiedTokenCache.evict(token);
+    }
+
+    /**
+     * Checks if the claims of a JWT token have expired.
+     *
+     * @param claims the claims of the token
      * @return true if the token is expired, false otherwise
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     /**
@@ -109,6 +215,14 @@ public class JwtUtil {
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof CustomUserPrincipal principal) {
+            claims.put(CLAIM_USER_ID, principal.getId());
+            claims.put(CLAIM_NAME, principal.getName());
+            claims.put(CLAIM_ROLES, principal.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList());
+            claims.put(CLAIM_SECURITY_STAMP, principal.getUser().getSecurityStamp());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -145,6 +259,7 @@ public class JwtUtil {
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
@@ -160,8 +275,36 @@ public class JwtUtil {
      * @return true if the token is valid, false otherwise
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateClaims(extractAllClaims(token), userDetails);
+    }
+
+    /**
+     * Validates already extracted token claims against user details.
+     * If the token carries a security stamp, it must match the user's.
+     *
+     * @param claims      the claims of the token
+     * @param userDetails the user details to validate against
+     * @return true if the claims belong to the user and have not expired
+     */
+    public boolean validateClaims(Claims claims, UserDetails userDetails) {
+        Integer stamp = claims.get(CLAIM_SECURITY_STAMP, Integer.class);
+        if (stamp != null && userDetails instanceof CustomUserPrincipal principal
+                && stamp != principal.getUser().getSecurityStamp()) {
+            return false;
+        }
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
+    }
+
+    /**
+     * Checks whether a token carries the claims needed to build its principal
+     * without loading the user.
+     *
+     * @param claims the claims of the token
+     * @return true if the user ID, name, roles and security stamp are present
+     */
+    public boolean hasPrincipalClaims(Claims claims) {
+        return claims.containsKey(CLAIM_USER_ID) && claims.containsKey(CLAIM_NAME)
+                && claims.containsKey(CLAIM_ROLES) && claims.containsKey(CLAIM_SECURITY_STAMP);
     }
 
     /**
@@ -172,11 +315,7 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return !isTokenExpired(token);
+            return !isExpired(extractAllClaims(token));
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
@@ -0,0 +1,58 @@
+package com.scorebridge.credit_score_sys.modules.user.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Factory for the delegating password encoder.
+ * New hashes are prefixed with the ID of the algorithm that produced them,
+ * e.g. {@code {bcrypt}$2a$12$...}, so hashes from earlier configurations stay
+ * verifiable. Hashes stored before the prefix was introduced are BCrypt and
+ * are matched as such. A hash made with another algorithm, or with a lower
+ * BCrypt cost than configured, reports that it needs an upgrade.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+public final class PasswordEncoderFactory {
+
+    /**
+     * Algorithm ID of BCrypt hashes.
+     */
+    public static final String BCRYPT = "bcrypt";
+
+    /**
+     * Algorithm ID of PBKDF2 hashes.
+     */
+    public static final String PBKDF2 = "pbkdf2";
+
+    private PasswordEncoderFactory() {
+    }
+
+    /**
+     * Creates a delegating password encoder.
+     *
+     * @param algorithm      the algorithm ID used for new hashes
+     * @param bcryptStrength the BCrypt cost used for new BCrypt hashes
+     * @return the password encoder
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    public static PasswordEncoder create(String algorithm, int bcryptStrength) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put(PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+        return encoder;
+    }
+}
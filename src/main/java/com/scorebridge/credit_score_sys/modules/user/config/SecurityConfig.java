@@ -10,8 +10,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -43,6 +41,21 @@ public class SecurityConfig {
         @Value("${cors.allowed-origins:http://localhost:3000,http://localhost:5173}")
         private String allowedOrigins;
 
+        @Value("${password-hashing.algorithm:bcrypt}")
+        private String hashingAlgorithm;
+
+        @Value("${password-hashing.bcrypt-strength:12}")
+        private int bcryptStrength;
+
+        @Value("${password-hashing.threads:0}")
+        private int hashingThreads;
+
+        @Value("${password-hashing.queue-capacity:32}")
+        private int hashingQueueCapacity;
+
+        @Value("${password-hashing.max-wait-ms:5000}")
+        private long hashingMaxWaitMs;
+
         /**
          * Configures the security filter chain for HTTP requests.
          * Sets up JWT authentication, CORS, CSRF protection, session management, and
@@ -80,6 +93,9 @@ public class SecurityConfig {
                                                                 "/swagger-ui.html")
                                                 .permitAll()
 
+                                                // Metrics and the other actuator endpoints
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                                                 // All other endpoints require authentication (USER role only)
                                                 .anyRequest().authenticated())
 
@@ -95,13 +111,17 @@ public class SecurityConfig {
 
         /**
          * Configures the password encoder for hashing user passwords.
-         * Uses BCrypt with a strength of 12 for secure password hashing.
+         * Uses BCrypt with a strength of 12 by default, through a delegating encoder
+         * so that hashes from older settings are upgraded at login, run on a
+         * bounded pool with one thread per CPU unless configured otherwise.
          *
          * @return the PasswordEncoder bean
          */
-        @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder(12);
+        @Bean(destroyMethod = "shutdown")
+        public BoundedPasswordEncoder passwordEncoder() {
+                int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+                return new BoundedPasswordEncoder(PasswordEncoderFactory.create(hashingAlgorithm, bcryptStrength),
+                                threads, hashingQueueCapacity, hashingMaxWaitMs);
         }
 
         /**
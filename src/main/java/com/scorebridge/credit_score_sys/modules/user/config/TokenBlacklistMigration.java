@@ -0,0 +1,174 @@
+package com.scorebridge.credit_score_sys.modules.user.config;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.JobLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Migration of token_blacklist from storing the full JWT string to storing its
+ * token hash.
+ * Runs at startup on the instance holding the migration's lease in
+ * {@link JobLockService}. The token column is first made nullable, since this
+ * version no longer writes it; startup fails if that is not possible. Tokens
+ * blacklisted before tokens carried an ID are then hashed as a whole, which is
+ * the hash {@link JwtUtil#tokenHash} computes for them. Rows written meanwhile
+ * by instances of an older version are hashed by the next run. The token
+ * column is only dropped when jwt.blacklist-migration.drop-legacy-columns is
+ * set and every row has a hash, so a rolling deployment keeps working; on a
+ * database without the token column the migration does nothing.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBlacklistMigration {
+
+    private static final String TABLE = "token_blacklist";
+
+    private static final String JOB_NAME = "token-blacklist-migration";
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobLockService jobLockService;
+
+    /**
+     * Whether to drop the token column once every row has a hash. Set it only
+     * once no instance of an older version is running.
+     */
+    @Value("${jwt.blacklist-migration.drop-legacy-columns:false}")
+    private boolean dropLegacyColumns;
+
+    /**
+     * Longest time the migration may hold its lease, in minutes.
+     */
+    @Value("${jwt.blacklist-migration.lease-minutes:30}")
+    private long leaseMinutes;
+
+    /**
+     * Hashes existing blacklist entries if the token column is still present.
+     *
+     * @throws IllegalStateException if the token column cannot be made
+     *                               nullable
+     */
+    @PostConstruct
+    public void migrate() {
+        if (column("token") == null) {
+            return;
+        }
+        jobLockService.runExclusively(JOB_NAME, Duration.ofMinutes(leaseMinutes), this::hashTokens);
+
+        ColumnInfo info = column("token");
+        if (info != null && !info.nullable()) {
+            throw new IllegalStateException("Column " + TABLE + ".token is still NOT NULL; tokens cannot be "
+                    + "blacklisted until the blacklist migration has relaxed it");
+        }
+    }
+
+    private void hashTokens() {
+        log.info("Replacing blacklisted tokens with token hashes");
+        relaxNotNull();
+
+        long migrated = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT id, token FROM " + TABLE
+                    + " WHERE token_hash IS NULL AND token IS NOT NULL ORDER BY id LIMIT " + PAGE_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Object[]> hashes = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                hashes.add(new Object[] { JwtUtil.sha256Hex((String) row.get("token")), row.get("id") });
+            }
+            jdbcTemplate.batchUpdate("UPDATE " + TABLE + " SET token_hash = ? WHERE id = ?", hashes);
+            migrated += rows.size();
+        }
+        log.info("Hashed {} blacklisted tokens", migrated);
+
+        if (!dropLegacyColumns) {
+            return;
+        }
+        Long remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE + " WHERE token_hash IS NULL", Long.class);
+        if (remaining != null && remaining > 0) {
+            log.error("{} blacklisted tokens have no hash; keeping the token column", remaining);
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP COLUMN token");
+        log.info("Dropped the token column of {}", TABLE);
+    }
+
+    /**
+     * Makes the token column nullable, using the syntax of the connected
+     * database.
+     *
+     * @throws IllegalStateException if the database is not supported
+     */
+    private void relaxNotNull() {
+        ColumnInfo info = column("token");
+        if (info == null || info.nullable()) {
+            return;
+        }
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        String sql;
+        if ("MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product)) {
+            sql = "ALTER TABLE " + TABLE + " MODIFY COLUMN token VARCHAR(" + info.size() + ") NULL";
+        } else if ("H2".equalsIgnoreCase(product)) {
+            sql = "ALTER TABLE " + TABLE + " ALTER COLUMN token SET NULL";
+        } else if ("PostgreSQL".equalsIgnoreCase(product)) {
+            sql = "ALTER TABLE " + TABLE + " ALTER COLUMN token DROP NOT NULL";
+        } else {
+            throw new IllegalStateException("Cannot make " + TABLE + ".token nullable on " + product
+                    + "; alter the column manually before starting this version");
+        }
+        jdbcTemplate.execute(sql);
+        log.info("Made legacy column {}.token nullable", TABLE);
+    }
+
+    /**
+     * Nullability and size of an existing column.
+     */
+    private record ColumnInfo(boolean nullable, int size) {
+    }
+
+    /**
+     * Looks up a column of token_blacklist, regardless of the identifier case
+     * the database reports.
+     *
+     * @return the column's metadata, or null if it does not exist
+     */
+    private ColumnInfo column(String column) {
+        return jdbcTemplate.execute((ConnectionCallback<ColumnInfo>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String[] names : new String[][] { { TABLE, column },
+                    { TABLE.toUpperCase(), column.toUpperCase() } }) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, names[0], names[1])) {
+                    if (columns.next()) {
+                        return new ColumnInfo(columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls,
+                                columns.getInt("COLUMN_SIZE"));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
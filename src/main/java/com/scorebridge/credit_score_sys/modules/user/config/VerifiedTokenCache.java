@@ -0,0 +1,116 @@
+package com.scorebridge.credit_score_sys.modules.user.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of JWT claims whose signature has already been verified.
+ * Entries are keyed by the SHA-256 digest of the token, so raw tokens are not
+ * kept in memory, and expire at the token's own expiration time.
+ * When the cache is full, expired entries are dropped first; if it is still
+ * full, new tokens are verified but not cached until space frees up.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    /**
+     * Maximum number of cached tokens.
+     */
+    @Value("${jwt.cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final Map<String, CachedClaims> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached claims of a token.
+     *
+     * @param token the JWT token
+     * @return the verified claims, or null if the token is not cached or has
+     *         expired
+     */
+    public Claims get(String token) {
+        String key = digest(token);
+        CachedClaims cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached.claims();
+    }
+
+    /**
+     * Caches the claims of a verified token until the token expires.
+     *
+     * @param token  the JWT token
+     * @param claims the verified claims
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            removeExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(digest(token), new CachedClaims(claims, expiration.getTime()));
+    }
+
+    /**
+     * Removes a token from the cache, e.g. when it is revoked.
+     *
+     * @param token the JWT token
+     */
+    public void evict(String token) {
+        entries.remove(digest(token));
+    }
+
+    /**
+     * Removes all tokens from the cache.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        int before = entries.size();
+        entries.values().removeIf(cached -> cached.expiresAt() <= now);
+        log.debug("Removed {} expired tokens from the verified token cache", before - entries.size());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Verified claims and their expiration time in epoch milliseconds.
+     */
+    private record CachedClaims(Claims claims, long expiresAt) {
+    }
+}
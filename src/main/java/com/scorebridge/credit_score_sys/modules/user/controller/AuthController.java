@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,7 +38,8 @@ public class AuthController {
         /**
          * Registers a new user in the system.
          *
-         * @param request the registration request containing user details
+         * @param request     the registration request containing user details
+         * @param httpRequest the HTTP request, for the client's IP address
          * @return ResponseEntity with JWT token and user information upon successful
          *         registration
          */
@@ -45,11 +47,13 @@ public class AuthController {
         @ApiResponses(value = {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "User registered successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class), examples = @ExampleObject(value = "{\"success\":true,\"message\":\"User registered successfully\",\"data\":{\"token\":\"jwt_token_here\",\"type\":\"Bearer\",\"user\":{\"id\":1,\"name\":\"John Doe\",\"email\":\"john@example.com\"}}}"))),
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid input or email already exists", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class), examples = @ExampleObject(value = "{\"success\":false,\"message\":\"Email is already registered\",\"data\":null}"))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Too many attempts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class))),
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
         })
         @PostMapping("/register")
-        public ResponseEntity<ApiResponse<JwtResponse>> register(@Valid @RequestBody RegisterRequest request) {
-                JwtResponse jwtResponse = authService.registerUser(request);
+        public ResponseEntity<ApiResponse<JwtResponse>> register(@Valid @RequestBody RegisterRequest request,
+                        HttpServletRequest httpRequest) {
+                JwtResponse jwtResponse = authService.registerUser(request, httpRequest.getRemoteAddr());
                 return ResponseEntity.status(HttpStatus.CREATED)
                                 .body(ApiResponse.success("User registered successfully", jwtResponse));
         }
@@ -57,18 +61,21 @@ public class AuthController {
         /**
          * Authenticates a user with provided credentials.
          *
-         * @param request the login request containing email and password
+         * @param request     the login request containing email and password
+         * @param httpRequest the HTTP request, for the client's IP address
          * @return ResponseEntity with JWT token and user information upon successful
          *         authentication
          */
         @Operation(summary = "Authenticate user", description = "Authenticates user credentials and returns a JWT token")
         @ApiResponses(value = {
                         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Login successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class))),
-                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "Too many attempts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
         })
         @PostMapping("/login")
-        public ResponseEntity<ApiResponse<JwtResponse>> login(@Valid @RequestBody LoginRequest request) {
-                JwtResponse jwtResponse = authService.loginUser(request);
+        public ResponseEntity<ApiResponse<JwtResponse>> login(@Valid @RequestBody LoginRequest request,
+                        HttpServletRequest httpRequest) {
+                JwtResponse jwtResponse = authService.loginUser(request, httpRequest.getRemoteAddr());
                 return ResponseEntity.ok(ApiResponse.success("Login successful", jwtResponse));
         }
 
@@ -126,4 +133,23 @@ public class AuthController {
                 authService.logoutUser(authHeader);
                 return ResponseEntity.ok(ApiResponse.success("Logout successful", null));
         }
+
+        /**
+         * Logs out a user on all devices by invalidating all of their JWT tokens.
+         *
+         * @param authHeader the authorization header containing the Bearer token
+         * @return ResponseEntity indicating successful logout
+         */
+        @Operation(summary = "Logout user on all devices", description = "Invalidates every JWT token issued to the user so far, including the current one")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Logout successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class), examples = @ExampleObject(value = "{\"success\":true,\"message\":\"Logged out on all devices\",\"data\":null}"))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Invalid or expired token", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
+        })
+        @SecurityRequirement(name = "bearerAuth")
+        @PostMapping("/logout-all")
+        public ResponseEntity<ApiResponse<Void>> logoutAllDevices(
+                        @Parameter(description = "JWT token in Bearer format", required = true, example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...") @RequestHeader("Authorization") String authHeader) {
+                authService.logoutAllDevices(authHeader);
+                return ResponseEntity.ok(ApiResponse.success("Logged out on all devices", null));
+        }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.scorebridge.credit_score_sys.modules.user.controller;
+
+import com.scorebridge.credit_score_sys.modules.user.dto.ApiResponse;
+import com.scorebridge.credit_score_sys.modules.user.dto.UserImportReport;
+import com.scorebridge.credit_score_sys.modules.user.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * REST controller for administrative user operations.
+ * Only registered when user-import.enabled=true; every endpoint requires the
+ * ADMIN role, granted to the users listed in security.admin-emails.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+@ConditionalOnProperty(name = "user-import.enabled", havingValue = "true")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "User Administration", description = "Administrative user management endpoints")
+public class UserAdminController {
+
+        private final UserImportService userImportService;
+
+        /**
+         * Imports users in bulk from a CSV file sent as the request body.
+         *
+         * @param httpRequest the HTTP request, whose body is the CSV file
+         * @return ResponseEntity with the row counts and the rows not imported
+         * @throws IOException if the request body cannot be read
+         */
+        @Operation(summary = "Import users", description = "Creates users from a CSV file with the header firstName,lastName,email,phoneNumber,password and reports the row counts and the rows that were not imported")
+        @SecurityRequirement(name = "bearerAuth")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Import completed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Missing or invalid header row", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class))),
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponse.class)))
+        })
+        @PostMapping(value = "/import", consumes = "text/csv")
+        public ResponseEntity<ApiResponse<UserImportReport>> importUsers(HttpServletRequest httpRequest)
+                        throws IOException {
+                log.info("User import requested by: {}", httpRequest.getUserPrincipal() != null
+                                ? httpRequest.getUserPrincipal().getName()
+                                : "unknown");
+                UserImportReport report = userImportService.importUsers(httpRequest.getInputStream());
+                return ResponseEntity.ok(ApiResponse.success("Import completed", report));
+        }
+}
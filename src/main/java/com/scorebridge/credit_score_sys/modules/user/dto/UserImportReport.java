@@ -0,0 +1,49 @@
+package com.scorebridge.credit_score_sys.modules.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a bulk user import.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a bulk user import")
+public class UserImportReport {
+
+    /**
+     * Number of data rows read, excluding the header.
+     */
+    @Schema(description = "Number of data rows read", example = "1000")
+    private long totalRows;
+
+    /**
+     * Number of users created.
+     */
+    @Schema(description = "Number of users created", example = "990")
+    private long importedCount;
+
+    /**
+     * Number of rows not imported.
+     */
+    @Schema(description = "Number of rows not imported", example = "10")
+    private long failedCount;
+
+    /**
+     * Rows not imported, by line number, up to
+     * user-import.max-reported-failures rows.
+     */
+    @Schema(description = "Rows not imported, up to the configured limit")
+    private List<UserImportRow> failedRows;
+}
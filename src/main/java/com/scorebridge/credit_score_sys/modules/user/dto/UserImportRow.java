@@ -0,0 +1,47 @@
+package com.scorebridge.credit_score_sys.modules.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a row of a bulk user import that was not imported.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Row of a bulk user import that was not imported")
+public class UserImportRow {
+
+    /**
+     * Line number in the imported file, starting at 1 for the header.
+     */
+    @Schema(description = "Line number in the file", example = "2")
+    private long lineNumber;
+
+    /**
+     * Email address of the row, if it could be read.
+     */
+    @Schema(description = "Email address of the row", example = "john.doe@example.com")
+    private String email;
+
+    /**
+     * Outcome: INVALID, DUPLICATE (repeated in the file), EXISTS (already
+     * registered) or FAILED.
+     */
+    @Schema(description = "Outcome of the row", example = "EXISTS")
+    private String status;
+
+    /**
+     * Reason the row was not imported.
+     */
+    @Schema(description = "Reason the row was not imported", example = "Invalid email format")
+    private String message;
+}
@@ -2,6 +2,7 @@ package com.scorebridge.credit_score_sys.modules.user.exception;
 
 import com.scorebridge.credit_score_sys.modules.user.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -90,6 +91,23 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    /**
+     * Handles TooManyRequestsException when a request is rejected under load.
+     *
+     * @param ex      the TooManyRequestsException thrown
+     * @param request the web request where the exception occurred
+     * @return ResponseEntity with error details and HTTP 429 TOO_MANY_REQUESTS
+     *         status
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTooManyRequests(
+            TooManyRequestsException ex, WebRequest request) {
+        log.warn("Request rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     /**
      * Handles ValidationException for custom validation failures.
      *
@@ -0,0 +1,22 @@
+package com.scorebridge.credit_score_sys.modules.user.exception;
+
+/**
+ * Exception thrown when a request is rejected because a limited resource, such
+ * as the password hashing pool, is saturated. The client should retry later.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    /**
+     * Constructs a new TooManyRequestsException with the specified detail
+     * message.
+     *
+     * @param message the detail message explaining the reason for the exception
+     */
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
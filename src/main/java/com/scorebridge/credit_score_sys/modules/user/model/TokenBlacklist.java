@@ -15,8 +15,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "token_blacklist", indexes = {
-        @Index(name = "idx_token", columnList = "token"),
-        @Index(name = "idx_expiry_date", columnList = "expiryDate")
+        @Index(name = "idx_expiry_date", columnList = "expiryDate"),
+        @Index(name = "idx_blacklisted_at", columnList = "blacklistedAt")
 })
 @Getter
 @Setter
@@ -33,10 +33,12 @@ public class TokenBlacklist {
     private Long id;
 
     /**
-     * The blacklisted JWT token.
+     * SHA-256 hex digest of the blacklisted token's ID (jti), or of the whole
+     * token for tokens issued without an ID. Nullable only so the column can be
+     * added to a populated table, see TokenBlacklistMigration.
      */
-    @Column(nullable = false, length = 1000, unique = true)
-    private String token;
+    @Column(name = "token_hash", nullable = true, length = 64, unique = true)
+    private String tokenHash;
 
     /**
      * The user ID associated with this token.
@@ -73,6 +73,22 @@ public class User {
     @Column(nullable = false)
     private String hashedPassword;
 
+    /**
+     * Version of the user's credentials, embedded in issued tokens.
+     * Incremented to invalidate all outstanding tokens, e.g. after a password
+     * change or when the account is disabled.
+     */
+    @Column(name = "security_stamp", nullable = false, columnDefinition = "integer default 0")
+    private int securityStamp;
+
+    /**
+     * Version of the user's financial data, incremented whenever transactions
+     * are added, changed or removed. In-memory caches of the data compare
+     * against it. Only written by bulk updates, never by saving the entity.
+     */
+    @Column(name = "data_version", nullable = false, columnDefinition = "bigint default 0", insertable = false, updatable = false)
+    private long dataVersion;
+
     /**
      * Timestamp when the user account was created.
      * Automatically set by JPA auditing.
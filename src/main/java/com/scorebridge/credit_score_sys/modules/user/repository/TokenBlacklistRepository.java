@@ -1,6 +1,7 @@
 package com.scorebridge.credit_score_sys.modules.user.repository;
 
 import com.scorebridge.credit_score_sys.modules.user.model.TokenBlacklist;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -22,20 +23,20 @@ import java.util.Optional;
 public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, Long> {
 
     /**
-     * Checks if a token exists in the blacklist.
+     * Checks if a token hash exists in the blacklist.
      *
-     * @param token the JWT token to check
+     * @param tokenHash the token hash to check
      * @return true if the token is blacklisted, false otherwise
      */
-    boolean existsByToken(String token);
+    boolean existsByTokenHash(String tokenHash);
 
     /**
-     * Finds a blacklist entry by token.
+     * Finds a blacklist entry by token hash.
      *
-     * @param token the JWT token to search for
+     * @param tokenHash the token hash to search for
      * @return Optional containing the TokenBlacklist entry if found
      */
-    Optional<TokenBlacklist> findByToken(String token);
+    Optional<TokenBlacklist> findByTokenHash(String tokenHash);
 
     /**
      * Deletes all blacklisted tokens that have expired.
@@ -65,4 +66,55 @@ public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist,
      */
     @Query("SELECT tb FROM TokenBlacklist tb WHERE tb.userId = :userId ORDER BY tb.blacklistedAt DESC")
     java.util.List<TokenBlacklist> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Counts the blacklisted tokens that have not expired yet.
+     *
+     * @param now the current date and time
+     * @return the count of active blacklist entries
+     */
+    @Query("SELECT COUNT(tb) FROM TokenBlacklist tb WHERE tb.expiryDate >= :now")
+    long countActiveTokens(@Param("now") LocalDateTime now);
+
+    /**
+     * Finds a page of unexpired blacklist entries after a given ID, for
+     * keyset pagination over the whole blacklist.
+     *
+     * @param lastId   the last ID of the previous page
+     * @param now      the current date and time
+     * @param pageable the page size
+     * @return blacklist entries ordered by ID
+     */
+    @Query("SELECT tb FROM TokenBlacklist tb WHERE tb.id > :lastId AND tb.expiryDate >= :now ORDER BY tb.id")
+    java.util.List<TokenBlacklist> findActiveAfterId(@Param("lastId") Long lastId, @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * Finds the blacklist entries added since a given time.
+     *
+     * @param since the earliest blacklisting time
+     * @return blacklist entries added since then
+     */
+    @Query("SELECT tb FROM TokenBlacklist tb WHERE tb.blacklistedAt >= :since")
+    java.util.List<TokenBlacklist> findBlacklistedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Finds the IDs of expired blacklist entries, oldest expiry first.
+     *
+     * @param now      the current date and time
+     * @param pageable the batch size
+     * @return IDs of expired entries
+     */
+    @Query("SELECT tb.id FROM TokenBlacklist tb WHERE tb.expiryDate < :now ORDER BY tb.expiryDate")
+    java.util.List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Deletes blacklist entries by ID.
+     *
+     * @param ids the IDs to delete
+     * @return the number of deleted entries
+     */
+    @Modifying
+    @Query("DELETE FROM TokenBlacklist tb WHERE tb.id IN :ids")
+    int deleteByIdIn(@Param("ids") java.util.List<Long> ids);
 }
@@ -1,9 +1,17 @@
 package com.scorebridge.credit_score_sys.modules.user.repository;
 
 import com.scorebridge.credit_score_sys.modules.user.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,10 +41,95 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Finds which of the given email addresses are already registered.
+     *
+     * @param emails the email addresses to check
+     * @return the registered email addresses among them
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Finds the IDs and email addresses of users with an ID greater than the
+     * given one, in ID order, for paging through all users by key.
+     *
+     * @param afterId  the last ID already read
+     * @param pageable the page size
+     * @return pairs of user ID and email address
+     */
+    @Query("SELECT u.id, u.email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Object[]> findIdAndEmailAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * Deletes a user by their email address.
      *
      * @param email the email address of the user to delete
      */
     void deleteByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Replaces the password hash of a user, e.g. when it is re-hashed with
+     * the current hashing settings.
+     *
+     * @param email          the email address of the user
+     * @param hashedPassword the new password hash
+     * @return the number of updated users
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.hashedPassword = :hashedPassword WHERE u.email = :email")
+    int updateHashedPassword(@Param("email") String email, @Param("hashedPassword") String hashedPassword);
+
+    /**
+     * Finds the security stamp of a user.
+     *
+     * @param id the user ID
+     * @return an Optional containing the security stamp, or empty if the user
+     *         does not exist
+     */
+    @Query("SELECT u.securityStamp FROM User u WHERE u.id = :id")
+    Optional<Integer> findSecurityStampById(@Param("id") Long id);
+
+    /**
+     * Increments the security stamp of a user.
+     *
+     * @param id the user ID
+     * @return the number of updated users
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.securityStamp = u.securityStamp + 1 WHERE u.id = :id")
+    int incrementSecurityStamp(@Param("id") Long id);
+
+    /**
+     * Finds a user and write-locks the row for the rest of the transaction, so
+     * that concurrent updates of the user's financial data run one after the
+     * other.
+     *
+     * @param id the user ID
+     * @return an Optional containing the locked user, or empty if the user
+     *         does not exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Finds the financial data version of a user.
+     *
+     * @param id the user ID
+     * @return an Optional containing the data version, or empty if the user
+     *         does not exist
+     */
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findDataVersionById(@Param("id") Long id);
+
+    /**
+     * Increments the financial data version of a user.
+     *
+     * @param id the user ID
+     * @return the number of updated users
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.dataVersion = u.dataVersion + 1 WHERE u.id = :id")
+    int incrementDataVersion(@Param("id") Long id);
+}
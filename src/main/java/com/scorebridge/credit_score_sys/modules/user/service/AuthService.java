@@ -6,14 +6,17 @@ import com.scorebridge.credit_score_sys.modules.user.dto.LoginRequest;
 import com.scorebridge.credit_score_sys.modules.user.dto.RegisterRequest;
 import com.scorebridge.credit_score_sys.modules.user.exception.InvalidCredentialsException;
 import com.scorebridge.credit_score_sys.modules.user.exception.InvalidTokenException;
+import com.scorebridge.credit_score_sys.modules.user.exception.TooManyRequestsException;
 import com.scorebridge.credit_score_sys.modules.user.exception.UserAlreadyExistsException;
 import com.scorebridge.credit_score_sys.modules.user.model.User;
 import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
 import com.scorebridge.credit_score_sys.modules.user.validation.UserValidation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -44,6 +47,9 @@ public class AuthService {
     private final CustomUserDetailsService userDetailsService;
     private final UserValidation userValidation;
     private final TokenBlacklistService tokenBlacklistService;
+    private final SecurityStampService securityStampService;
+    private final LoginThrottleService loginThrottleService;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     /**
      * Registers a new user in the system.
@@ -51,21 +57,29 @@ public class AuthService {
      * user,
      * and generates a JWT token for immediate authentication.
      *
-     * @param request the registration request containing user details
+     * @param request  the registration request containing user details
+     * @param clientIp the client's IP address, for throttling
      * @return JwtResponse containing the JWT token and user information
      * @throws UserAlreadyExistsException if a user with the provided email already
      *                                    exists
+     * @throws TooManyRequestsException   if the IP or email has made too many
+     *                                    attempts
      */
     @Transactional
-    public JwtResponse registerUser(RegisterRequest request) {
+    public JwtResponse registerUser(RegisterRequest request, String clientIp) {
         log.info("Attempting to register user with email: {}", request.getEmail());
 
+        // Throttle before any password hashing
+        loginThrottleService.checkAttempt(clientIp, request.getEmail());
+
         // Validate the registration request
         userValidation.validateRegisterRequest(request);
 
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            log.warn("Registration failed: Email {} already exists", request.getEmail());
+        // Check if user already exists; the filter answers most new emails
+        // without a query
+        String email = request.getEmail().trim().toLowerCase();
+        if (registeredEmailFilter.isRegistered(email)) {
+            log.warn("Registration failed: Email {} already exists", email);
             throw new UserAlreadyExistsException("Email is already registered");
         }
 
@@ -73,13 +87,23 @@ public class AuthService {
         User user = new User();
         user.setFirstName(request.getFirstName().trim());
         user.setLastName(request.getLastName().trim());
-        user.setEmail(request.getEmail().trim().toLowerCase());
+        user.setEmail(email);
         user.setPhoneNumber(request.getPhoneNumber() != null ? request.getPhoneNumber().trim() : null);
         user.setHashedPassword(passwordEncoder.encode(request.getPassword()));
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
 
-        User savedUser = userRepository.save(user);
+        // The unique constraint on email catches registrations the filter has
+        // not seen yet, e.g. from another instance
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            registeredEmailFilter.recordConstraintViolation();
+            log.warn("Registration failed: Email {} already exists", email);
+            throw new UserAlreadyExistsException("Email is already registered");
+        }
+        registeredEmailFilter.add(email);
         log.info("User registered successfully with ID: {}", savedUser.getId());
 
         // Generate JWT token
@@ -95,13 +119,19 @@ public class AuthService {
      * Validates the login request and generates a JWT token upon successful
      * authentication.
      *
-     * @param request the login request containing user credentials
+     * @param request  the login request containing user credentials
+     * @param clientIp the client's IP address, for throttling
      * @return JwtResponse containing the JWT token and user information
      * @throws InvalidCredentialsException if the credentials are invalid
+     * @throws TooManyRequestsException    if the IP or email has made too many
+     *                                     attempts
      */
-    public JwtResponse loginUser(LoginRequest request) {
+    public JwtResponse loginUser(LoginRequest request, String clientIp) {
         log.info("Attempting to authenticate user with email: {}", request.getEmail());
 
+        // Throttle before any password hashing
+        loginThrottleService.checkAttempt(clientIp, request.getEmail());
+
         // Validate the login request
         userValidation.validateLoginRequest(request);
 
@@ -127,6 +157,12 @@ public class AuthService {
         } catch (BadCredentialsException e) {
             log.warn("Authentication failed for email: {}", request.getEmail());
             throw new InvalidCredentialsException("Invalid email or password");
+        } catch (InternalAuthenticationServiceException e) {
+            // The provider wraps a saturated hashing pool when the user is unknown
+            if (e.getCause() instanceof TooManyRequestsException tooManyRequests) {
+                throw tooManyRequests;
+            }
+            throw e;
         }
     }
 
@@ -153,6 +189,12 @@ public class AuthService {
         String username = jwtUtil.extractUsername(token);
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
+        // Reject tokens invalidated by a security stamp change
+        if (!jwtUtil.validateToken(token, userDetails)) {
+            log.warn("Token refresh failed: Token has been invalidated");
+            throw new InvalidTokenException("Invalid or expired token");
+        }
+
         // Generate new token
         String newToken = jwtUtil.generateToken(userDetails);
 
@@ -224,6 +266,38 @@ public class AuthService {
         log.info("User logged out successfully: {}", user.getEmail());
     }
 
+    /**
+     * Logs out a user on all devices by invalidating every token issued to
+     * them so far, including the current one. No blacklist entries are
+     * written; the tokens fail the security stamp check.
+     *
+     * @param authHeader the authorization header containing the Bearer token
+     * @throws InvalidTokenException if the token is invalid or blacklisted
+     */
+    @Transactional
+    public void logoutAllDevices(String authHeader) {
+        log.info("Attempting to logout user on all devices");
+
+        String token = userValidation.extractToken(authHeader);
+
+        if (!jwtUtil.validateToken(token) || tokenBlacklistService.isTokenBlacklisted(token)) {
+            log.warn("Logout failed: Invalid, expired or invalidated token");
+            throw new InvalidTokenException("Invalid or expired token");
+        }
+
+        String username = jwtUtil.extractUsername(token);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (!jwtUtil.validateToken(token, userDetails)) {
+            log.warn("Logout failed: Token has been invalidated");
+            throw new InvalidTokenException("Invalid or expired token");
+        }
+
+        User user = ((CustomUserDetailsService.CustomUserPrincipal) userDetails).getUser();
+        securityStampService.invalidateTokens(user.getId());
+
+        log.info("User logged out on all devices: {}", user.getEmail());
+    }
+
     /**
      * Helper method to build a JwtResponse from a User entity and JWT token.
      *
@@ -0,0 +1,73 @@
+package com.scorebridge.credit_score_sys.modules.user.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over hex encoded SHA-256 digests.
+ * The bit positions are derived from the first 128 bits of the digest by
+ * double hashing, so keys need no further hashing.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructs a Bloom filter sized for the given number of entries.
+     *
+     * @param expectedEntries   the number of entries the filter is sized for
+     * @param falsePositiveRate the false positive rate at that number of entries
+     */
+    BloomFilter(long expectedEntries, double falsePositiveRate) {
+        long size = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (size + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+    }
+
+    /**
+     * Adds a digest to the filter.
+     *
+     * @param hexDigest the hex encoded SHA-256 digest
+     */
+    void put(String hexDigest) {
+        long first = hash(hexDigest, 0);
+        long second = hash(hexDigest, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = bits.get(index);
+            } while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    /**
+     * Checks whether a digest may have been added.
+     *
+     * @param hexDigest the hex encoded SHA-256 digest
+     * @return false if the digest was definitely never added
+     */
+    boolean mightContain(String hexDigest) {
+        long first = hash(hexDigest, 0);
+        long second = hash(hexDigest, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String hexDigest, int offset) {
+        return Long.parseUnsignedLong(hexDigest, offset, offset + 16, 16);
+    }
+}
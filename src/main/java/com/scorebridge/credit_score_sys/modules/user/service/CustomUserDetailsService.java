@@ -1,22 +1,32 @@
 package com.scorebridge.credit_score_sys.modules.user.service;
 
+import com.scorebridge.credit_score_sys.modules.user.config.JwtUtil;
 import com.scorebridge.credit_score_sys.modules.user.model.User;
+import io.jsonwebtoken.Claims;
 import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Custom implementation of Spring Security's UserDetailsService.
  * Loads user-specific data from the database for authentication and
- * authorization.
+ * authorization. Every user has ROLE_USER; the users listed in
+ * security.admin-emails also have ROLE_ADMIN. Also stores re-hashed passwords when Spring Security upgrades
+ * a hash made with older hashing settings after a successful login.
  *
  * @author ScoreBridge Team
  * @version 1.0
@@ -24,10 +34,17 @@ import java.util.List;
  */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
+    /**
+     * Emails of the users granted ROLE_ADMIN, compared ignoring case.
+     */
+    @Value("${security.admin-emails:}")
+    private Set<String> adminEmails;
+
     /**
      * Loads a user by their email address.
      * This method is called by Spring Security during authentication.
@@ -41,7 +58,78 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        return new CustomUserPrincipal(user);
+        return new CustomUserPrincipal(user, user.getFirstName() + " " + user.getLastName(),
+                authoritiesFor(user.getEmail()));
+    }
+
+    /**
+     * Returns the authorities of a user: ROLE_USER, plus ROLE_ADMIN for the
+     * configured administrators.
+     *
+     * @param email the email address of the user
+     * @return the granted authorities
+     */
+    private List<GrantedAuthority> authoritiesFor(String email) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        if (isAdmin(email)) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+        return authorities;
+    }
+
+    private boolean isAdmin(String email) {
+        for (String adminEmail : adminEmails) {
+            if (adminEmail.trim().equalsIgnoreCase(email)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stores a password hash re-created with the current hashing settings.
+     * Called by Spring Security after a successful login whose stored hash
+     * reports that it needs an upgrade.
+     *
+     * @param userDetails the authenticated user
+     * @param newPassword the new password hash
+     * @return the user with the new password hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        userRepository.updateHashedPassword(userDetails.getUsername(), newPassword);
+        log.info("Upgraded password hash for user: {}", userDetails.getUsername());
+
+        User user = ((CustomUserPrincipal) userDetails).getUser();
+        user.setHashedPassword(newPassword);
+        return userDetails;
+    }
+
+    /**
+     * Builds a principal from the claims of a verified token, without a
+     * database query. The wrapped user only holds the ID, email and security
+     * stamp; callers needing the full user must load it. ROLE_ADMIN is only
+     * kept while the user is still a configured administrator.
+     *
+     * @param claims verified claims carrying the principal claims
+     * @return UserDetails object built from the claims
+     * @see JwtUtil#hasPrincipalClaims(Claims)
+     */
+    public UserDetails loadUserFromClaims(Claims claims) {
+        User user = new User();
+        user.setId(claims.get(JwtUtil.CLAIM_USER_ID, Long.class));
+        user.setEmail(claims.getSubject());
+        user.setSecurityStamp(claims.get(JwtUtil.CLAIM_SECURITY_STAMP, Integer.class));
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (Object role : claims.get(JwtUtil.CLAIM_ROLES, List.class)) {
+            if (!"ROLE_ADMIN".equals(role) || isAdmin(user.getEmail())) {
+                authorities.add(new SimpleGrantedAuthority(String.valueOf(role)));
+            }
+        }
+        return new CustomUserPrincipal(user, claims.get(JwtUtil.CLAIM_NAME, String.class), authorities);
     }
 
     /**
@@ -51,6 +139,8 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     public static class CustomUserPrincipal implements UserDetails {
         private final User user;
+        private final String name;
+        private final Collection<? extends GrantedAuthority> authorities;
 
         /**
          * Constructs a CustomUserPrincipal from a User entity.
@@ -58,18 +148,34 @@ public class CustomUserDetailsService implements UserDetailsService {
          * @param user the User entity to wrap
          */
         public CustomUserPrincipal(User user) {
+            this(user, user.getFirstName() + " " + user.getLastName(),
+                    List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        }
+
+        /**
+         * Constructs a CustomUserPrincipal with a given name and authorities,
+         * e.g. taken from token claims.
+         *
+         * @param user        the User entity to wrap
+         * @param name        the user's full name
+         * @param authorities the authorities granted to the user
+         */
+        public CustomUserPrincipal(User user, String name, Collection<? extends GrantedAuthority> authorities) {
             this.user = user;
+            this.name = name;
+            this.authorities = authorities;
         }
 
         /**
          * Returns the authorities granted to the user.
-         * All users are assigned the ROLE_USER authority.
+         * All users are assigned the ROLE_USER authority; administrators also
+         * have ROLE_ADMIN.
          *
          * @return collection of granted authorities
          */
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
-            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+            return authorities;
         }
 
         /**
@@ -157,7 +263,7 @@ public class CustomUserDetailsService implements UserDetailsService {
          * @return the user's full name
          */
         public String getName() {
-            return user.getFirstName() + " " + user.getLastName();
+            return name;
         }
 
         /**
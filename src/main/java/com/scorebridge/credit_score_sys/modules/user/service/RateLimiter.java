@@ -0,0 +1,121 @@
+package com.scorebridge.credit_score_sys.modules.user.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets for a set of keys, implemented as a generic cell rate
+ * algorithm. A bucket stores the time at which it would be full again; an
+ * attempt is allowed while that time is less than one bucket capacity ahead of
+ * now, and takes one interval by compare-and-set, so checks never lock.
+ * <p>
+ * The map is bounded: when a new key arrives at the limit, idle buckets are
+ * removed first and, if that is not enough, the tenth of the buckets closest
+ * to full. New keys are therefore never refused, and the buckets evicted are
+ * the ones that were throttling least.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+final class RateLimiter {
+
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxEntries;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a limiter.
+     *
+     * @param capacity        attempts a key may burst
+     * @param refillPerMinute attempts per minute a key regains
+     * @param maxEntries      maximum number of buckets kept
+     */
+    RateLimiter(int capacity, int refillPerMinute, int maxEntries) {
+        this.intervalNanos = 60_000_000_000L / Math.max(1, refillPerMinute);
+        this.burstNanos = intervalNanos * Math.max(1, capacity);
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * Takes one attempt from a key's bucket.
+     *
+     * @param key the key
+     * @return true if the attempt is allowed
+     */
+    boolean tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    boolean tryAcquire(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxEntries) {
+                makeRoom(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(UNUSED));
+        }
+
+        while (true) {
+            long fullAt = bucket.get();
+            long start = fullAt == UNUSED || fullAt - now < 0 ? now : fullAt;
+            long next = start + intervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes buckets that have fully refilled.
+     *
+     * @return the number of buckets removed
+     */
+    int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    int evictIdle(long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> {
+            long fullAt = bucket.get();
+            return fullAt == UNUSED || fullAt - now <= 0;
+        });
+        return Math.max(0, before - buckets.size());
+    }
+
+    /**
+     * Brings the map below its limit: idle buckets first, then the buckets
+     * that would be full again soonest, a tenth of the limit at a time so the
+     * sort is amortized over many new keys.
+     */
+    private synchronized void makeRoom(long now) {
+        if (buckets.size() < maxEntries) {
+            return;
+        }
+        evictIdle(now);
+        int excess = buckets.size() - (maxEntries - Math.max(1, maxEntries / 10));
+        if (excess <= 0) {
+            return;
+        }
+        List<Map.Entry<String, AtomicLong>> entries = new ArrayList<>(buckets.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().get() - now));
+        for (int i = 0; i < excess && i < entries.size(); i++) {
+            buckets.remove(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,186 @@
+package com.scorebridge.credit_score_sys.modules.user.service;
+
+import com.scorebridge.credit_score_sys.modules.user.config.JwtUtil;
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory filter of registered email addresses, so that registration can
+ * tell a new email apart without querying the users table.
+ * A Bloom filter over the SHA-256 digests of all registered emails answers
+ * "definitely not registered" for most new emails; only a hit is confirmed
+ * against the table. The unique constraint on users.email remains the source
+ * of truth: an email registered by another instance and not yet synced is
+ * caught by the constraint on insert.
+ * <p>
+ * The filter is built from the table at startup and rebuilt nightly, which
+ * drops the bits of deleted users. Registrations on this instance are added
+ * directly; users inserted elsewhere are picked up by a periodic sync of the
+ * rows with an ID above the highest one read so far.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegisteredEmailFilter {
+
+    /**
+     * Number of users read per query when rebuilding or syncing.
+     */
+    private static final int PAGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+
+    /**
+     * Minimum number of emails the Bloom filter is sized for.
+     */
+    @Value("${email-filter.expected-entries:100000}")
+    private int expectedEntries;
+
+    /**
+     * Target false positive rate of the Bloom filter.
+     */
+    @Value("${email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private long lastUserId;
+
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong databaseLookups = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private final AtomicLong constraintViolations = new AtomicLong();
+
+    /**
+     * Builds the filter at startup.
+     */
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * Checks whether an email address is registered.
+     *
+     * @param email the email address
+     * @return true if a user with the email exists, false otherwise
+     */
+    public boolean isRegistered(String email) {
+        String normalized = normalize(email);
+        checks.incrementAndGet();
+        if (!bloomFilter.mightContain(JwtUtil.sha256Hex(normalized))) {
+            return false;
+        }
+
+        databaseLookups.incrementAndGet();
+        boolean registered = userRepository.existsByEmail(normalized);
+        if (!registered) {
+            falsePositives.incrementAndGet();
+        }
+        return registered;
+    }
+
+    /**
+     * Records an email registered by this instance.
+     *
+     * @param email the email address
+     */
+    public void add(String email) {
+        bloomFilter.put(JwtUtil.sha256Hex(normalize(email)));
+    }
+
+    /**
+     * Records an insert rejected by the unique constraint on email, i.e. an
+     * email the filter did not know about yet.
+     */
+    public void recordConstraintViolation() {
+        constraintViolations.incrementAndGet();
+    }
+
+    /**
+     * Scheduled rebuild of the filter.
+     */
+    @Scheduled(cron = "${email-filter.rebuild-cron:0 30 2 * * ?}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the Bloom filter from all users, sized for at least twice their
+     * number.
+     */
+    public synchronized void rebuild() {
+        long users = userRepository.count();
+        BloomFilter next = new BloomFilter(Math.max(expectedEntries, users * 2), falsePositiveRate);
+        long loaded = load(next, 0);
+        bloomFilter = next;
+        // Users committed while loading, including registrations added to the
+        // previous filter in the meantime
+        loaded += load(next, lastUserId);
+        log.info("Registered email filter rebuilt with {} users; statistics: {}", loaded, getStatistics());
+    }
+
+    /**
+     * Adds users inserted by other instances since the previous sync.
+     */
+    @Scheduled(fixedDelayString = "${email-filter.sync-interval-ms:10000}")
+    public synchronized void sync() {
+        load(bloomFilter, lastUserId);
+    }
+
+    /**
+     * Returns counters of the checks made since startup.
+     *
+     * @return checks, database lookups, false positives and inserts rejected
+     *         by the unique constraint
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("checks", checks.get());
+        statistics.put("databaseLookups", databaseLookups.get());
+        statistics.put("falsePositives", falsePositives.get());
+        statistics.put("constraintViolations", constraintViolations.get());
+        return statistics;
+    }
+
+    /**
+     * Adds the emails of all users with an ID above the given one and
+     * advances the highest ID read.
+     */
+    private long load(BloomFilter filter, long afterId) {
+        long lastId = afterId;
+        long loaded = 0;
+        while (true) {
+            List<Object[]> page = userRepository.findIdAndEmailAfterId(lastId, PageRequest.of(0, PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (Object[] user : page) {
+                filter.put(JwtUtil.sha256Hex(normalize((String) user[1])));
+            }
+            loaded += page.size();
+            lastId = (Long) page.get(page.size() - 1)[0];
+        }
+        lastUserId = Math.max(lastUserId, lastId);
+        return loaded;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,100 @@
+package com.scorebridge.credit_score_sys.modules.user.service;
+
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for user security stamps.
+ * A token is only accepted while the security stamp it carries matches the
+ * user's current stamp. Current stamps are cached per user for a short time,
+ * so checking a token costs a map lookup and at most one small query per user
+ * and cache period. On other instances, invalidation takes effect once their
+ * cached stamp expires.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SecurityStampService {
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, CachedStamp> stamps = new ConcurrentHashMap<>();
+
+    /**
+     * How long a user's stamp is cached, in milliseconds.
+     */
+    @Value("${jwt.security-stamp.cache-ttl-ms:30000}")
+    private long cacheTtlMs;
+
+    /**
+     * Maximum number of cached stamps.
+     */
+    @Value("${jwt.security-stamp.max-entries:100000}")
+    private int maxEntries;
+
+    /**
+     * Checks whether a token's security stamp is still current.
+     *
+     * @param userId the user ID from the token
+     * @param stamp  the security stamp from the token
+     * @return true if the stamp matches the user's current stamp, false if it
+     *         is outdated or the user no longer exists
+     */
+    public boolean isCurrent(Long userId, int stamp) {
+        long now = System.currentTimeMillis();
+        CachedStamp cached = stamps.get(userId);
+        if (cached == null || cached.expiresAt() <= now) {
+            Integer current = userRepository.findSecurityStampById(userId).orElse(null);
+            if (current == null) {
+                stamps.remove(userId);
+                return false;
+            }
+            if (stamps.size() >= maxEntries) {
+                stamps.values().removeIf(entry -> entry.expiresAt() <= now);
+            }
+            cached = new CachedStamp(current, now + cacheTtlMs);
+            if (stamps.size() < maxEntries) {
+                stamps.put(userId, cached);
+            }
+        }
+        return cached.stamp() == stamp;
+    }
+
+    /**
+     * Invalidates all tokens issued to a user so far.
+     * Call after the user's password changes or the user is disabled.
+     *
+     * @param userId the user ID
+     */
+    @Transactional
+    public void invalidateTokens(Long userId) {
+        userRepository.incrementSecurityStamp(userId);
+        // Evict after commit, so a concurrent check cannot re-cache the old stamp
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stamps.remove(userId);
+            }
+        });
+        log.info("Invalidated all tokens of user: {}", userId);
+    }
+
+    /**
+     * A user's security stamp and when its cache entry expires.
+     */
+    private record CachedStamp(int stamp, long expiresAt) {
+    }
+}
@@ -4,20 +4,34 @@ import com.scorebridge.credit_score_sys.modules.user.config.JwtUtil;
 import com.scorebridge.credit_score_sys.modules.user.model.TokenBlacklist;
 import com.scorebridge.credit_score_sys.modules.user.model.User;
 import com.scorebridge.credit_score_sys.modules.user.repository.TokenBlacklistRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service class for managing JWT token blacklisting.
  * Handles adding tokens to the blacklist and checking if tokens are
  * blacklisted.
+ * The cleanup counters are published as jwt.blacklist.cleanup.* metrics.
  *
  * @author ScoreBridge Team
  * @version 1.0
@@ -26,13 +40,37 @@ import java.util.Date;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MeterBinder {
 
     private final TokenBlacklistRepository tokenBlacklistRepository;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationFilter revocationFilter;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * Adds a token to the blacklist.
+     * Maximum number of expired entries deleted per transaction.
+     */
+    @Value("${jwt.blacklist-cleanup.batch-size:500}")
+    private int cleanupBatchSize;
+
+    /**
+     * Maximum number of batches deleted per cleanup run.
+     */
+    @Value("${jwt.blacklist-cleanup.max-batches-per-run:20}")
+    private int cleanupMaxBatches;
+
+    /**
+     * Pause between two batches, in milliseconds.
+     */
+    @Value("${jwt.blacklist-cleanup.batch-pause-ms:100}")
+    private long cleanupBatchPauseMs;
+
+    private final AtomicLong cleanupDeleted = new AtomicLong();
+    private final AtomicLong cleanupBatches = new AtomicLong();
+    private volatile double cleanupRowsPerSecond;
+
+    /**
+     * Adds a token to the blacklist. Only the token hash is stored.
      *
      * @param token the JWT token to blacklist
      * @param user  the user associated with the token
@@ -40,7 +78,8 @@ public class TokenBlacklistService {
     @Transactional
     public void blacklistToken(String token, User user) {
         // Check if token is already blacklisted
-        if (tokenBlacklistRepository.existsByToken(token)) {
+        String tokenHash = jwtUtil.extractTokenHash(token);
+        if (tokenBlacklistRepository.existsByTokenHash(tokenHash)) {
             log.debug("Token already blacklisted for user: {}", user.getEmail());
             return;
         }
@@ -53,7 +92,7 @@ public class TokenBlacklistService {
 
         // Create blacklist entry
         TokenBlacklist blacklistEntry = TokenBlacklist.builder()
-                .token(token)
+                .tokenHash(tokenHash)
                 .userId(user.getId())
                 .userEmail(user.getEmail())
                 .expiryDate(expiryDateTime)
@@ -61,51 +100,135 @@ public class TokenBlacklistService {
                 .build();
 
         tokenBlacklistRepository.save(blacklistEntry);
+        revocationFilter.add(tokenHash, expiryDateTime);
+        jwtUtil.evictToken(token);
         log.info("Token blacklisted for user: {}", user.getEmail());
     }
 
     /**
      * Checks if a token is blacklisted.
+     * Most checks are answered by the in-memory revocation filter; the table is
+     * only queried when the filter cannot rule the token out.
      *
      * @param token the JWT token to check
      * @return true if the token is blacklisted, false otherwise
+     * @throws io.jsonwebtoken.JwtException if the token cannot be verified
      */
     public boolean isTokenBlacklisted(String token) {
-        boolean isBlacklisted = tokenBlacklistRepository.existsByToken(token);
+        boolean isBlacklisted = revocationFilter.isRevoked(jwtUtil.extractTokenHash(token));
         log.debug("Token blacklist check: {}", isBlacklisted);
         return isBlacklisted;
     }
 
     /**
      * Removes expired tokens from the blacklist.
-     * This method is scheduled to run daily at 2:00 AM to clean up expired tokens.
-     * Expired tokens are automatically invalid and don't need to be checked.
+     * Runs continuously at a short interval and deletes at most a bounded number
+     * of small batches per run, oldest expiry first, pausing between batches so
+     * the table is never locked for long. Expired tokens are automatically
+     * invalid and don't need to be checked.
+     * <p>
+     * Several instances may run the cleanup at the same time: each batch
+     * deletes by ID, so an entry already removed by another instance is simply
+     * not counted again.
      */
-    @Scheduled(cron = "0 0 2 * * ?") // Run daily at 2:00 AM
-    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.blacklist-cleanup.interval-ms:60000}")
     public void cleanupExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        long expiredCount = tokenBlacklistRepository.countExpiredTokens(now);
-
-        if (expiredCount > 0) {
-            int deletedCount = tokenBlacklistRepository.deleteExpiredTokens(now);
-            log.info("Cleaned up {} expired tokens from blacklist", deletedCount);
+        int deletedCount = deleteExpiredTokens(cleanupMaxBatches);
+        if (deletedCount > 0) {
+            log.info("Cleaned up {} expired tokens from blacklist ({} per second)", deletedCount,
+                    Math.round(cleanupRowsPerSecond));
         } else {
             log.debug("No expired tokens to clean up");
         }
     }
 
     /**
-     * Manually triggers cleanup of expired tokens.
+     * Manually triggers cleanup of all expired tokens, in batches.
      * Useful for administrative purposes or testing.
      *
      * @return the number of tokens removed from the blacklist
      */
-    @Transactional
     public int forceCleanup() {
-        LocalDateTime now = LocalDateTime.now();
-        int deletedCount = tokenBlacklistRepository.deleteExpiredTokens(now);
+        int deletedCount = deleteExpiredTokens(Integer.MAX_VALUE);
         log.info("Forced cleanup: removed {} expired tokens", deletedCount);
+        revocationFilter.rebuild();
         return deletedCount;
     }
+
+    /**
+     * Publishes the counters of {@link #getCleanupStatistics()}.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.blacklist.cleanup.deleted", cleanupDeleted, AtomicLong::get)
+                .description("Expired blacklist entries deleted by the cleanup")
+                .register(registry);
+        FunctionCounter.builder("jwt.blacklist.cleanup.batches", cleanupBatches, AtomicLong::get)
+                .description("Delete batches run by the cleanup")
+                .register(registry);
+        Gauge.builder("jwt.blacklist.cleanup.throughput", this, service -> service.cleanupRowsPerSecond)
+                .description("Entries deleted per second by the last cleanup run")
+                .baseUnit("rows/s")
+                .register(registry);
+    }
+
+    /**
+     * Returns counters of the blacklist cleanup since startup.
+     *
+     * @return deleted entries, batches and the throughput of the last run in
+     *         entries per second
+     */
+    public Map<String, Number> getCleanupStatistics() {
+        Map<String, Number> statistics = new LinkedHashMap<>();
+        statistics.put("deleted", cleanupDeleted.get());
+        statistics.put("batches", cleanupBatches.get());
+        statistics.put("rowsPerSecond", cleanupRowsPerSecond);
+        return statistics;
+    }
+
+    /**
+     * Deletes expired entries in batches of IDs ordered by expiry, each batch
+     * in its own transaction, until none are left or the batch limit is hit.
+     *
+     * @param maxBatches the maximum number of batches
+     * @return the number of deleted entries
+     */
+    private int deleteExpiredTokens(int maxBatches) {
+        long start = System.nanoTime();
+        int deleted = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            if (batch > 0 && cleanupBatchPauseMs > 0) {
+                try {
+                    Thread.sleep(cleanupBatchPauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = new ArrayList<>(tokenBlacklistRepository.findExpiredIds(now,
+                        PageRequest.of(0, cleanupBatchSize)));
+                if (ids.isEmpty()) {
+                    return -1;
+                }
+                // Lock rows in ID order so concurrent batches cannot deadlock
+                Collections.sort(ids);
+                return tokenBlacklistRepository.deleteByIdIn(ids);
+            });
+            if (count == null || count < 0) {
+                break;
+            }
+            deleted += count;
+            cleanupBatches.incrementAndGet();
+        }
+
+        cleanupDeleted.addAndGet(deleted);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        cleanupRowsPerSecond = seconds > 0 ? deleted / seconds : 0;
+        return deleted;
+    }
 }
@@ -0,0 +1,224 @@
+package com.scorebridge.credit_score_sys.modules.user.service;
+
+import com.scorebridge.credit_score_sys.modules.user.model.TokenBlacklist;
+import com.scorebridge.credit_score_sys.modules.user.repository.TokenBlacklistRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory filter in front of the token blacklist table.
+ * Tokens are identified by their token hash, see
+ * {@link com.scorebridge.credit_score_sys.modules.user.config.JwtUtil#tokenHash}.
+ * A Bloom filter over all unexpired blacklisted tokens answers most checks
+ * with "not revoked" without touching the database, and an exact set of
+ * recent revocations answers "revoked" for them. Only a Bloom filter hit
+ * that is not a recent revocation is confirmed against the table.
+ * <p>
+ * The filter is built from the table at startup and rebuilt nightly, which
+ * drops the bits of tokens removed by the blacklist cleanup since. Local revocations are added on logout; revocations made by other
+ * instances are picked up by a periodic sync of recently added rows.
+ * <p>
+ * The check counters are published as jwt.revocation.* metrics; the false
+ * positive rate is false positives over checks.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@DependsOn("tokenBlacklistMigration")
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationFilter implements MeterBinder {
+
+    /**
+     * Number of blacklist entries read per query when rebuilding.
+     */
+    private static final int PAGE_SIZE = 1000;
+
+    /**
+     * How far each sync looks back before the previous one, to catch rows
+     * committed late or stamped by a clock that is slightly behind.
+     */
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+
+    /**
+     * Minimum number of entries the Bloom filter is sized for.
+     */
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private int expectedEntries;
+
+    /**
+     * Target false positive rate of the Bloom filter.
+     */
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private final Map<String, Long> recentRevocations = new ConcurrentHashMap<>();
+    private LocalDateTime lastSync;
+
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong recentHits = new AtomicLong();
+    private final AtomicLong databaseLookups = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * Builds the filter at startup.
+     */
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * Checks whether a token has been revoked.
+     *
+     * @param tokenHash the token hash
+     * @return true if the token is blacklisted, false otherwise
+     */
+    public boolean isRevoked(String tokenHash) {
+        checks.incrementAndGet();
+        if (recentRevocations.containsKey(tokenHash)) {
+            recentHits.incrementAndGet();
+            return true;
+        }
+        if (!bloomFilter.mightContain(tokenHash)) {
+            return false;
+        }
+
+        databaseLookups.incrementAndGet();
+        boolean revoked = tokenBlacklistRepository.existsByTokenHash(tokenHash);
+        if (!revoked) {
+            falsePositives.incrementAndGet();
+        }
+        return revoked;
+    }
+
+    /**
+     * Records a revocation made by this instance.
+     *
+     * @param tokenHash  the hash of the revoked token
+     * @param expiryDate when the token expires
+     */
+    public void add(String tokenHash, LocalDateTime expiryDate) {
+        bloomFilter.put(tokenHash);
+        recentRevocations.put(tokenHash, toEpochMillis(expiryDate));
+    }
+
+    /**
+     * Scheduled rebuild of the filter.
+     */
+    @Scheduled(cron = "${jwt.revocation.rebuild-cron:0 0 2 * * ?}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the Bloom filter from all unexpired blacklist entries, sized for
+     * at least twice their number, and drops expired recent revocations.
+     */
+    public synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        long active = tokenBlacklistRepository.countActiveTokens(now);
+        BloomFilter next = new BloomFilter(Math.max(expectedEntries, active * 2), falsePositiveRate);
+
+        long lastId = 0;
+        long loaded = 0;
+        while (true) {
+            List<TokenBlacklist> page = tokenBlacklistRepository.findActiveAfterId(lastId, now,
+                    PageRequest.of(0, PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (TokenBlacklist entry : page) {
+                next.put(entry.getTokenHash());
+            }
+            loaded += page.size();
+            lastId = page.get(page.size() - 1).getId();
+        }
+
+        long nowMillis = System.currentTimeMillis();
+        recentRevocations.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        recentRevocations.keySet().forEach(next::put);
+        bloomFilter = next;
+        lastSync = now;
+        log.info("Token revocation filter rebuilt with {} blacklisted tokens; statistics: {}", loaded,
+                getStatistics());
+    }
+
+    /**
+     * Adds tokens blacklisted by other instances since the previous sync.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public synchronized void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TokenBlacklist> added = tokenBlacklistRepository
+                .findBlacklistedSince(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS));
+        for (TokenBlacklist entry : added) {
+            bloomFilter.put(entry.getTokenHash());
+            recentRevocations.put(entry.getTokenHash(), toEpochMillis(entry.getExpiryDate()));
+        }
+        lastSync = now;
+    }
+
+    /**
+     * Publishes the counters of {@link #getStatistics()}.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCounter(registry, "jwt.revocation.checks", "Token revocation checks", checks);
+        bindCounter(registry, "jwt.revocation.recent.hits", "Checks answered by the recent revocations",
+                recentHits);
+        bindCounter(registry, "jwt.revocation.database.lookups", "Bloom filter hits confirmed in the database",
+                databaseLookups);
+        bindCounter(registry, "jwt.revocation.false.positives", "Bloom filter hits that were not revoked",
+                falsePositives);
+    }
+
+    private static void bindCounter(MeterRegistry registry, String name, String description, AtomicLong count) {
+        FunctionCounter.builder(name, count, AtomicLong::get)
+                .description(description)
+                .register(registry);
+    }
+
+    /**
+     * Returns counters of the checks made since startup.
+     *
+     * @return checks, recent revocation hits, database lookups and false
+     *         positives
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("checks", checks.get());
+        statistics.put("recentHits", recentHits.get());
+        statistics.put("databaseLookups", databaseLookups.get());
+        statistics.put("falsePositives", falsePositives.get());
+        return statistics;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
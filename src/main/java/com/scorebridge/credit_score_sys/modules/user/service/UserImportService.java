@@ -0,0 +1,340 @@
+package com.scorebridge.credit_score_sys.modules.user.service;
+
+import com.scorebridge.credit_score_sys.modules.user.config.BoundedPasswordEncoder;
+import com.scorebridge.credit_score_sys.modules.user.dto.RegisterRequest;
+import com.scorebridge.credit_score_sys.modules.user.dto.UserImportReport;
+import com.scorebridge.credit_score_sys.modules.user.dto.UserImportRow;
+import com.scorebridge.credit_score_sys.modules.user.exception.ValidationException;
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+import com.scorebridge.credit_score_sys.modules.user.validation.UserValidation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Service for importing users in bulk from a CSV stream.
+ * <p>
+ * The file needs a header row naming the columns firstName, lastName, email,
+ * phoneNumber (optional) and password, in any order. Rows are read as a stream
+ * and processed in chunks: each row is validated with {@link UserValidation},
+ * emails repeated in the file are rejected, the chunk's emails are checked
+ * against the users table in one query, the remaining passwords are hashed in
+ * parallel on a pool of its own, and the chunk is inserted with one JDBC batch
+ * in its own transaction. The report holds the row counts and only the rows
+ * that were not imported.
+ *
+ * @author ScoreBridge Team
+ * @version 1.0
+ * @since 2025-10-18
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService {
+
+    private static final String INSERT_USER = "INSERT INTO users "
+            + "(first_name, last_name, email, phone_number, hashed_password, security_stamp, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final UserValidation userValidation;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RegisteredEmailFilter registeredEmailFilter;
+
+    /**
+     * Number of rows validated, hashed and inserted together.
+     */
+    @Value("${user-import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Number of hashing threads; 0 uses half of the CPUs, leaving the rest to
+     * interactive logins.
+     */
+    @Value("${user-import.hashing-threads:0}")
+    private int hashingThreads;
+
+    /**
+     * Maximum number of rows not imported that are listed in the report; the
+     * counts cover all rows.
+     */
+    @Value("${user-import.max-reported-failures:1000}")
+    private int maxReportedFailures;
+
+    /**
+     * Imports users from a CSV stream.
+     *
+     * @param input the CSV stream, UTF-8 encoded
+     * @return the row counts and the rows not imported, by line number
+     * @throws ValidationException if the header is missing required columns
+     * @throws IOException         if the stream cannot be read
+     */
+    public UserImportReport importUsers(InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new ValidationException("Import file is empty");
+        }
+        Map<String, Integer> columns = parseHeader(headerLine);
+
+        int threads = hashingThreads > 0 ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ExecutorService hashingPool = Executors.newFixedThreadPool(threads);
+
+        ImportProgress progress = new ImportProgress(maxReportedFailures);
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingUser> chunk = new ArrayList<>(batchSize);
+        long lineNumber = 1;
+        long totalRows = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                totalRows++;
+                UserImportRow row = UserImportRow.builder().lineNumber(lineNumber).build();
+
+                RegisterRequest request;
+                try {
+                    request = toRequest(parseLine(line), columns);
+                    row.setEmail(request.getEmail());
+                    userValidation.validateRegisterRequest(request);
+                } catch (ValidationException e) {
+                    progress.reject(row, "INVALID", e.getMessage());
+                    continue;
+                }
+
+                String email = request.getEmail().trim().toLowerCase(Locale.ROOT);
+                row.setEmail(email);
+                if (!seenEmails.add(email)) {
+                    progress.reject(row, "DUPLICATE", "Email appears more than once in the file");
+                    continue;
+                }
+
+                chunk.add(new PendingUser(row, request, email));
+                if (chunk.size() >= batchSize) {
+                    importChunk(chunk, hashingPool, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, hashingPool, progress);
+            }
+        } finally {
+            hashingPool.shutdownNow();
+        }
+
+        progress.failures.sort(Comparator.comparingLong(UserImportRow::getLineNumber));
+        log.info("User import finished: {} of {} rows imported", progress.imported, totalRows);
+        return UserImportReport.builder()
+                .totalRows(totalRows)
+                .importedCount(progress.imported)
+                .failedCount(totalRows - progress.imported)
+                .failedRows(progress.failures)
+                .build();
+    }
+
+    /**
+     * Imports one chunk of validated rows with distinct emails.
+     */
+    private void importChunk(List<PendingUser> chunk, ExecutorService hashingPool, ImportProgress progress) {
+        List<String> emails = new ArrayList<>(chunk.size());
+        for (PendingUser user : chunk) {
+            emails.add(user.email());
+        }
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(emails));
+
+        List<PendingUser> toInsert = new ArrayList<>(chunk.size());
+        for (PendingUser user : chunk) {
+            if (existing.contains(user.email())) {
+                progress.reject(user.row(), "EXISTS", "Email is already registered");
+            } else {
+                toInsert.add(user);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch;
+        try {
+            batch = hashAll(toInsert, hashingPool);
+        } catch (RuntimeException e) {
+            log.error("Password hashing failed during user import", e);
+            toInsert.forEach(user -> progress.reject(user.row(), "FAILED", "Password hashing failed"));
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER, batch));
+            toInsert.forEach(user -> registeredEmailFilter.add(user.email()));
+            progress.imported += toInsert.size();
+        } catch (DataIntegrityViolationException e) {
+            // An email was registered concurrently; insert the chunk row by row
+            for (int i = 0; i < toInsert.size(); i++) {
+                PendingUser user = toInsert.get(i);
+                Object[] values = batch.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_USER, values));
+                    registeredEmailFilter.add(user.email());
+                    progress.imported++;
+                } catch (DataIntegrityViolationException duplicate) {
+                    progress.reject(user.row(), "EXISTS", "Email is already registered");
+                }
+            }
+        }
+    }
+
+    /**
+     * Hashes the passwords of a chunk in parallel and returns the insert
+     * parameters in chunk order.
+     */
+    private List<Object[]> hashAll(List<PendingUser> users, ExecutorService hashingPool) {
+        PasswordEncoder encoder = passwordEncoder.getDelegate();
+        List<Callable<String>> tasks = new ArrayList<>(users.size());
+        for (PendingUser user : users) {
+            tasks.add(() -> encoder.encode(user.request().getPassword()));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(users.size());
+        try {
+            List<Future<String>> hashes = hashingPool.invokeAll(tasks);
+            for (int i = 0; i < users.size(); i++) {
+                RegisterRequest request = users.get(i).request();
+                String phoneNumber = request.getPhoneNumber() != null && !request.getPhoneNumber().isBlank()
+                        ? request.getPhoneNumber().trim()
+                        : null;
+                batch.add(new Object[] { request.getFirstName().trim(), request.getLastName().trim(),
+                        users.get(i).email(), phoneNumber, hashes.get(i).get(), now, now });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return batch;
+    }
+
+    private static Map<String, Integer> parseHeader(String headerLine) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = parseLine(headerLine);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("firstname", "lastname", "email", "password")) {
+            if (!columns.containsKey(required)) {
+                throw new ValidationException("Import file header is missing the column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private static RegisterRequest toRequest(List<String> values, Map<String, Integer> columns) {
+        RegisterRequest request = new RegisterRequest();
+        request.setFirstName(value(values, columns.get("firstname")));
+        request.setLastName(value(values, columns.get("lastname")));
+        request.setEmail(value(values, columns.get("email")));
+        request.setPhoneNumber(value(values, columns.get("phonenumber")));
+        request.setPassword(value(values, columns.get("password")));
+        return request;
+    }
+
+    private static String value(List<String> values, Integer index) {
+        return index != null && index < values.size() ? values.get(index) : null;
+    }
+
+    /**
+     * Splits a CSV line into fields. Fields may be quoted with double quotes;
+     * a doubled quote inside a quoted field is a literal quote.
+     */
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new ValidationException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Counts of one import and the rows not imported, up to a limit.
+     */
+    private static final class ImportProgress {
+
+        private final int maxFailures;
+        private final List<UserImportRow> failures = new ArrayList<>();
+        private long imported;
+
+        ImportProgress(int maxFailures) {
+            this.maxFailures = maxFailures;
+        }
+
+        void reject(UserImportRow row, String status, String message) {
+            if (failures.size() < maxFailures) {
+                row.setStatus(status);
+                row.setMessage(message);
+                failures.add(row);
+            }
+        }
+    }
+
+    /**
+     * A validated row waiting to be inserted.
+     */
+    private record PendingUser(UserImportRow row, RegisterRequest request, String email) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionType;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.JobLockService;
+import com.scorebridge.credit_score_sys.modules.user.model.User;
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+
+/**
+ * Measures {@link TransactionEncodingMigration} on a table of 10,000,000
+ * transactions still stored with the legacy string columns: the migration
+ * time, the size of the table before and after the string columns are
+ * dropped, and the time of a spending-by-category aggregate on the string
+ * columns and on the codes. The database is a file-backed H2 database.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=TransactionEncodingMigrationBenchmark};
+ * pass {@code -Dbenchmark.rows=N} for a smaller table.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/benchmark/encoding;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "logging.level.com.scorebridge=INFO"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JobLockService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+class TransactionEncodingMigrationBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000_000);
+    private static final int ACCOUNTS = 1_000;
+    private static final int INSERT_BATCH = 10_000;
+    private static final int ITERATIONS = 3;
+
+    private static final String[] CATEGORIES = { "Salary", "Rent", "Groceries", "Utilities", "Dining",
+            "Transportation", "Entertainment", "Shopping", "Healthcare", "Insurance", "Education", "Travel" };
+
+    private static final String STRING_AGGREGATE = "SELECT category, SUM(amount) FROM financial_transactions "
+            + "WHERE transaction_type = 'EXPENSE' AND amount > ? GROUP BY category";
+    private static final String CODE_AGGREGATE = "SELECT category_id, SUM(amount) FROM financial_transactions "
+            + "WHERE type_code = " + TransactionType.EXPENSE.getCode() + " AND amount > ? GROUP BY category_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JobLockService jobLockService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FinancialAccountRepository accountRepository;
+
+    @Test
+    void encodingMigrationAtTenMillionTransactions() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.execute("ALTER TABLE financial_transactions ADD COLUMN transaction_type VARCHAR(20) NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE financial_transactions ADD COLUMN category VARCHAR(100) NOT NULL");
+        List<Long> accountIds = persistAccounts(transactionTemplate);
+
+        long start = System.nanoTime();
+        insertLegacyTransactions(transactionTemplate, accountIds);
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+        Long legacyBytes = diskSpaceUsed();
+        Double legacyValueBytes = jdbcTemplate.queryForObject("SELECT AVG(OCTET_LENGTH(transaction_type) "
+                + "+ OCTET_LENGTH(category)) FROM financial_transactions", Double.class);
+        long stringQueryNanos = median(STRING_AGGREGATE);
+
+        DataIngestionConfig config = new DataIngestionConfig();
+        config.getMigration().setDropLegacyColumns(true);
+        TransactionEncodingMigration migration = new TransactionEncodingMigration(jdbcTemplate,
+                transactionTemplate, jobLockService, config);
+        start = System.nanoTime();
+        migration.migrate();
+        long migrationMillis = (System.nanoTime() - start) / 1_000_000;
+        Long encodedBytes = diskSpaceUsed();
+        long codeQueryNanos = median(CODE_AGGREGATE);
+
+        System.out.printf("Loaded %,d legacy transactions in %,d ms; encoded them and dropped the string "
+                + "columns in %,d ms%n", ROWS, loadMillis, migrationMillis);
+        System.out.printf("Type and category: %.1f bytes of string data per row before, 4 bytes of codes "
+                + "after; table %,d MB before, %,d MB after%n", legacyValueBytes, legacyBytes >> 20,
+                encodedBytes >> 20);
+        System.out.printf("Spending by category: %.0f ms on the strings, %.0f ms on the codes%n",
+                stringQueryNanos / 1e6, codeQueryNanos / 1e6);
+
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM financial_transactions "
+                + "WHERE type_code IS NULL OR category_id IS NULL", Long.class));
+        List<Map<String, Object>> legacyColumns = jdbcTemplate.queryForList("SELECT column_name FROM "
+                + "information_schema.columns WHERE table_name = 'FINANCIAL_TRANSACTIONS' "
+                + "AND column_name IN ('TRANSACTION_TYPE', 'CATEGORY')");
+        assertEquals(List.of(), legacyColumns);
+        assertFalse(jdbcTemplate.queryForList(CODE_AGGREGATE, 0.0).isEmpty());
+    }
+
+    private List<Long> persistAccounts(TransactionTemplate transactionTemplate) {
+        List<Long> accountIds = new ArrayList<>(ACCOUNTS);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = new User();
+            user.setFirstName("Encoding");
+            user.setLastName("User");
+            user.setEmail("encoding-benchmark@example.com");
+            user.setHashedPassword("hash");
+            user = userRepository.save(user);
+            for (int a = 0; a < ACCOUNTS; a++) {
+                FinancialAccount account = new FinancialAccount();
+                account.setUser(user);
+                account.setInstitutionName("Bank " + a);
+                account.setAccountType("checking");
+                account.setCurrentBalance(1000.0);
+                accountIds.add(accountRepository.save(account).getId());
+            }
+        });
+        return accountIds;
+    }
+
+    /**
+     * Inserts rows the way a previous version stored them: with the string
+     * columns set and the code columns empty.
+     */
+    private void insertLegacyTransactions(TransactionTemplate transactionTemplate, List<Long> accountIds) {
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < ROWS; from += INSERT_BATCH) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+            for (int t = from; t < Math.min(ROWS, from + INSERT_BATCH); t++) {
+                boolean income = t % 20 == 0;
+                batch.add(new Object[] { accountIds.get(t % ACCOUNTS), income ? 2500.0 : 5.0 + t % 200,
+                        income ? "INCOME" : "EXPENSE",
+                        income ? CATEGORIES[0] : CATEGORIES[1 + t % (CATEGORIES.length - 1)],
+                        "POS " + (t % 1000), Date.valueOf(today.minusDays(t % 730)), now, now });
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO financial_transactions (account_id, amount, transaction_type, category, "
+                            + "description, transaction_date, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    batch));
+        }
+    }
+
+    private Long diskSpaceUsed() {
+        jdbcTemplate.execute("CHECKPOINT SYNC");
+        return jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED('FINANCIAL_TRANSACTIONS')", Long.class);
+    }
+
+    /**
+     * Times an aggregate with a different bound on every run, so H2 cannot
+     * return the previous result.
+     */
+    private long median(String aggregate) {
+        jdbcTemplate.queryForList(aggregate, -1.0);
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            jdbcTemplate.queryForList(aggregate, -2.0 - i);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[ITERATIONS / 2];
+    }
+}
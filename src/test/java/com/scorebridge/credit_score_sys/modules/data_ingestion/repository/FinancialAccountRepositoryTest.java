@@ -0,0 +1,106 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialAccountResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.service.TransactionCategoryRegistry;
+import com.scorebridge.credit_score_sys.modules.user.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Query-count tests for the account read models of
+ * {@link FinancialAccountRepository}.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TransactionCategoryRegistry.class)
+class FinancialAccountRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private FinancialAccountRepository accountRepository;
+
+    @Autowired
+    private TransactionCategoryRegistry categoryRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        categoryRegistry.registerAll(List.of("Salary", "Groceries"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findSummariesByUserIdRunsOneStatementRegardlessOfAccountCount() {
+        User small = persistUser("small@example.com", 1, 2);
+        User large = persistUser("large@example.com", 8, 25);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        List<FinancialAccountResponse> smallSummaries = accountRepository.findSummariesByUserId(small.getId());
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<FinancialAccountResponse> largeSummaries = accountRepository.findSummariesByUserId(large.getId());
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(1, smallSummaries.size());
+        assertEquals(8, largeSummaries.size());
+        assertEquals(1, smallStatements);
+        assertEquals(smallStatements, largeStatements);
+        assertEquals(25L, largeSummaries.get(0).getTransactionCount());
+    }
+
+    private User persistUser(String email, int accounts, int transactionsPerAccount) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail(email);
+        user.setHashedPassword("hash");
+        entityManager.persist(user);
+
+        for (int a = 0; a < accounts; a++) {
+            FinancialAccount account = new FinancialAccount();
+            account.setUser(user);
+            account.setInstitutionName("Bank " + a);
+            account.setAccountType("checking");
+            account.setAccountNumberLast4("000" + a);
+            account.setCurrentBalance(1000.0);
+            entityManager.persist(account);
+
+            for (int t = 0; t < transactionsPerAccount; t++) {
+                boolean income = t % 5 == 0;
+                FinancialTransactions transaction = new FinancialTransactions();
+                transaction.setAccount(account);
+                transaction.setAmount(income ? 2500.0 : 40.0);
+                transaction.setTransactionType(income ? "INCOME" : "EXPENSE");
+                transaction.setCategory(income ? "Salary" : "Groceries");
+                transaction.setDescription(income ? "PAYROLL" : "GROCERY STORE");
+                transaction.setTransactionDate(LocalDate.of(2025, 1, 1).plusDays(t));
+                entityManager.persist(transaction);
+            }
+        }
+        return user;
+    }
+}
@@ -0,0 +1,57 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.BalanceSnapshot;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.BalanceSnapshotRepository;
+
+/**
+ * Downsampling tests for {@link BalanceHistoryService}.
+ */
+@DataJpaTest
+@Import({ BalanceHistoryService.class, DataIngestionConfig.class })
+class BalanceHistoryServiceTest {
+
+    @Autowired
+    private BalanceHistoryService balanceHistoryService;
+
+    @Autowired
+    private BalanceSnapshotRepository snapshotRepository;
+
+    @Test
+    void downsamplesEveryDayOlderThanTheRawRetentionWindow() {
+        LocalDate today = LocalDate.now();
+        // Well before the cutoff, as left behind by missed runs
+        saveSnapshots(1L, today.minusDays(400), 3);
+        saveSnapshots(1L, today.minusDays(45), 2);
+        saveSnapshots(2L, today.minusDays(45), 2);
+        saveSnapshots(2L, today.minusDays(90), 1);
+        // Inside the raw retention window
+        saveSnapshots(1L, today.minusDays(5), 4);
+
+        assertEquals(4, balanceHistoryService.downsample());
+        assertEquals(8, snapshotRepository.count());
+        assertEquals(0, balanceHistoryService.downsample());
+    }
+
+    private void saveSnapshots(Long accountId, LocalDate day, int count) {
+        for (int i = 0; i < count; i++) {
+            snapshotRepository.save(BalanceSnapshot.builder()
+                    .accountId(accountId)
+                    .userId(1L)
+                    .balance(100.0 + i)
+                    .snapshotDate(day)
+                    .recordedAt(day.atStartOfDay().plusHours(i))
+                    .source(BalanceHistoryService.SOURCE_INGEST)
+                    .build());
+        }
+    }
+}
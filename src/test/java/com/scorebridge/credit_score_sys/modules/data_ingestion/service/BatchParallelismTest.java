@@ -0,0 +1,46 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Unit tests for {@link BatchParallelism}.
+ */
+class BatchParallelismTest {
+
+    private final DataIngestionConfig config = new DataIngestionConfig();
+
+    @Test
+    void capsParallelismBelowThePoolSize() {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(10);
+            BatchParallelism parallelism = new BatchParallelism(dataSource, config);
+
+            assertEquals(8, parallelism.cap(64));
+            assertEquals(3, parallelism.cap(3));
+        }
+    }
+
+    @Test
+    void neverReturnsLessThanOneWorker() {
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(2);
+            BatchParallelism parallelism = new BatchParallelism(dataSource, config);
+
+            assertEquals(1, parallelism.cap(16));
+            assertEquals(1, parallelism.cap(0));
+        }
+    }
+
+    @Test
+    void keepsConfiguredParallelismWithoutAPool() {
+        BatchParallelism parallelism = new BatchParallelism(new DriverManagerDataSource(), config);
+
+        assertEquals(16, parallelism.cap(16));
+    }
+}
@@ -0,0 +1,69 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+
+/**
+ * Unit tests for {@link CashFlowForecaster}.
+ */
+class CashFlowForecasterTest {
+
+    private final CashFlowForecaster forecaster = new CashFlowForecaster(new DataIngestionConfig());
+
+    @Test
+    void emptyHistoryForecastsZero() {
+        CashFlowForecaster.Forecast forecast = forecaster.forecast(new double[0], 3);
+        assertEquals("NONE", forecast.method());
+        assertArrayEquals(new double[3], forecast.values(), 0.0);
+    }
+
+    @Test
+    void shortHistoryForecastsTheMean() {
+        CashFlowForecaster.Forecast forecast = forecaster.forecast(new double[] { 100, 300 }, 2);
+        assertEquals("AVERAGE", forecast.method());
+        assertArrayEquals(new double[] { 200, 200 }, forecast.values(), 1e-9);
+    }
+
+    @Test
+    void flatHistoryForecastsTheSameLevel() {
+        double[] series = new double[10];
+        Arrays.fill(series, 500);
+        CashFlowForecaster.Forecast forecast = forecaster.forecast(series, 6);
+        assertEquals("TREND", forecast.method());
+        assertArrayEquals(new double[] { 500, 500, 500, 500, 500, 500 }, forecast.values(), 1e-9);
+    }
+
+    @Test
+    void risingHistoryForecastsADampedRise() {
+        double[] series = new double[12];
+        for (int i = 0; i < series.length; i++) {
+            series[i] = 100 + 50 * i;
+        }
+        double[] values = forecaster.forecast(series, 12).values();
+        for (int h = 1; h < values.length; h++) {
+            double step = values[h] - values[h - 1];
+            assertTrue(step > 0, "forecast keeps rising");
+            assertTrue(step < 50, "trend is damped");
+        }
+    }
+
+    @Test
+    void seasonalHistoryRepeatsTheSeason() {
+        double[] season = { 900, 400, 400, 500, 400, 400, 600, 400, 400, 500, 400, -800 };
+        double[] series = new double[3 * CashFlowForecaster.SEASON];
+        for (int i = 0; i < series.length; i++) {
+            series[i] = season[i % CashFlowForecaster.SEASON];
+        }
+
+        CashFlowForecaster.Forecast forecast = forecaster.forecast(series, CashFlowForecaster.SEASON);
+        assertEquals("SEASONAL", forecast.method());
+        assertArrayEquals(season, forecast.values(), 1e-6);
+    }
+}
@@ -0,0 +1,103 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransferLink;
+
+/**
+ * Unit tests for {@link InternalTransferMatcher}.
+ */
+class InternalTransferMatcherTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    private final InternalTransferMatcher matcher = new InternalTransferMatcher();
+
+    @Test
+    void linksExpenseToIncomeOfSameAmountOnAnotherAccount() {
+        List<TransferLink> links = matcher.match(7L, List.of(
+                transaction(1L, 10L, 250.0, "EXPENSE", DAY),
+                transaction(2L, 20L, 250.0, "INCOME", DAY.plusDays(1)),
+                transaction(3L, 20L, 99.0, "INCOME", DAY)), Set.of(), 3);
+
+        assertEquals(1, links.size());
+        TransferLink link = links.get(0);
+        assertEquals(7L, link.getUserId());
+        assertEquals(1L, link.getOutgoingTransactionId());
+        assertEquals(10L, link.getOutgoingAccountId());
+        assertEquals(2L, link.getIncomingTransactionId());
+        assertEquals(20L, link.getIncomingAccountId());
+        assertEquals(250.0, link.getAmount());
+    }
+
+    @Test
+    void ignoresIncomeOnTheSameAccount() {
+        assertTrue(matcher.match(7L, List.of(
+                transaction(1L, 10L, 250.0, "EXPENSE", DAY),
+                transaction(2L, 10L, 250.0, "INCOME", DAY)), Set.of(), 3).isEmpty());
+    }
+
+    @Test
+    void ignoresIncomeOutsideTheTolerance() {
+        assertTrue(matcher.match(7L, List.of(
+                transaction(1L, 10L, 250.0, "EXPENSE", DAY),
+                transaction(2L, 20L, 250.0, "INCOME", DAY.plusDays(4)),
+                transaction(3L, 20L, 250.0, "INCOME", DAY.minusDays(4))), Set.of(), 3).isEmpty());
+    }
+
+    @Test
+    void picksTheClosestIncomeAndUsesEachIncomeOnce() {
+        List<TransferLink> links = matcher.match(7L, List.of(
+                transaction(1L, 10L, 80.0, "EXPENSE", DAY),
+                transaction(2L, 10L, 80.0, "EXPENSE", DAY.plusDays(2)),
+                transaction(3L, 20L, 80.0, "INCOME", DAY.plusDays(3)),
+                transaction(4L, 20L, 80.0, "INCOME", DAY)), Set.of(), 3);
+
+        assertEquals(2, links.size());
+        assertEquals(1L, links.get(0).getOutgoingTransactionId());
+        assertEquals(4L, links.get(0).getIncomingTransactionId());
+        assertEquals(2L, links.get(1).getOutgoingTransactionId());
+        assertEquals(3L, links.get(1).getIncomingTransactionId());
+    }
+
+    @Test
+    void skipsTransactionsThatAreAlreadyLinked() {
+        List<TransferLink> links = matcher.match(7L, List.of(
+                transaction(1L, 10L, 40.0, "EXPENSE", DAY),
+                transaction(2L, 20L, 40.0, "INCOME", DAY),
+                transaction(3L, 30L, 40.0, "INCOME", DAY.plusDays(1))), Set.of(2L), 3);
+
+        assertEquals(1, links.size());
+        assertEquals(3L, links.get(0).getIncomingTransactionId());
+    }
+
+    @Test
+    void matchesAmountsToTheCent() {
+        assertTrue(matcher.match(7L, List.of(
+                transaction(1L, 10L, 100.00, "EXPENSE", DAY),
+                transaction(2L, 20L, 100.01, "INCOME", DAY)), Set.of(), 3).isEmpty());
+        assertEquals(1, matcher.match(7L, List.of(
+                transaction(1L, 10L, 0.1 + 0.2, "EXPENSE", DAY),
+                transaction(2L, 20L, 0.3, "INCOME", DAY)), Set.of(), 3).size());
+    }
+
+    private static TransactionResponse transaction(Long id, Long accountId, double amount, String type,
+            LocalDate date) {
+        return TransactionResponse.builder()
+                .id(id)
+                .accountId(accountId)
+                .amount(amount)
+                .transactionType(type)
+                .category("Transfer")
+                .transactionDate(date)
+                .build();
+    }
+}
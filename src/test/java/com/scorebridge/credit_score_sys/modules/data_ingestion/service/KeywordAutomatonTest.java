@@ -0,0 +1,66 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KeywordAutomaton}.
+ */
+class KeywordAutomatonTest {
+
+    private final KeywordAutomaton automaton = KeywordAutomaton.builder()
+            .add("dental", "Healthcare")
+            .add("uber", "Transportation")
+            .add("uber eats", "Dining")
+            .add("target", "Shopping")
+            .add("transit", "Transportation")
+            .add("kfc", "Dining")
+            .add("amzn", "Shopping")
+            .add("cafe", "Dining")
+            .add("7-eleven", "Groceries")
+            .build();
+
+    @Test
+    void matchesWholeWordsIgnoringCaseAndPunctuation() {
+        assertEquals("Healthcare", automaton.findBest("SMILE DENTAL CARE"));
+        assertEquals("Shopping", automaton.findBest("TARGET #1234"));
+        assertEquals("Shopping", automaton.findBest("AMZN*Mktp US"));
+        assertEquals("Transportation", automaton.findBest("uber"));
+        assertEquals("Groceries", automaton.findBest("7 ELEVEN 0042"));
+        assertEquals("Dining", automaton.findBest("corner-cafe"));
+    }
+
+    @Test
+    void doesNotMatchInsideWords() {
+        assertNull(automaton.findBest("accidental damage"));
+        assertNull(automaton.findBest("incidental fee"));
+        assertNull(automaton.findBest("tuber farm"));
+        assertNull(automaton.findBest("targeted ad credit"));
+        assertNull(automaton.findBest("transition fee"));
+        assertNull(automaton.findBest("skfcx"));
+        assertNull(automaton.findBest("amznx"));
+        assertNull(automaton.findBest("cafeteria"));
+    }
+
+    @Test
+    void prefersTheLongestKeyword() {
+        assertEquals("Dining", automaton.findBest("UBER   EATS order"));
+        assertEquals("Transportation", automaton.findBest("UBER TRIP"));
+    }
+
+    @Test
+    void returnsNullWithoutMatch() {
+        assertNull(automaton.findBest(null));
+        assertNull(automaton.findBest(""));
+        assertNull(automaton.findBest("---"));
+        assertNull(KeywordAutomaton.builder().build().findBest("uber"));
+    }
+
+    @Test
+    void ignoresKeywordsWithoutLettersOrDigits() {
+        KeywordAutomaton empty = KeywordAutomaton.builder().add(" - ", "Other Expense").build();
+        assertNull(empty.findBest("a - b"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MerchantClusterer}.
+ */
+class MerchantClustererTest {
+
+    private final MerchantClusterer clusterer = new MerchantClusterer();
+
+    @Test
+    void normalizeDropsNumbersNoiseAndPunctuation() {
+        assertEquals("amzn mktp us", MerchantClusterer.normalize("AMZN Mktp US*2K3"));
+        assertEquals("starbucks", MerchantClusterer.normalize("POS PURCHASE STARBUCKS #1234"));
+        assertEquals("netflix", MerchantClusterer.normalize("www.netflix.com"));
+        assertEquals("", MerchantClusterer.normalize("12345 ***"));
+        assertEquals("", MerchantClusterer.normalize(null));
+    }
+
+    @Test
+    void normalizeKeepsAtMostFourTokens() {
+        assertEquals("one two three four", MerchantClusterer.normalize("one two three four five six"));
+    }
+
+    @Test
+    void mergesNearDuplicatesUnderTheMostFrequentDescription() {
+        List<String> keys = List.of("starbucks coffee", "starbucks coffe", "walmart supercenter", "starbuck coffee");
+        int[] canonical = clusterer.cluster(keys, new long[] { 5, 40, 7, 2 }, 0.6);
+
+        assertEquals(1, canonical[0]);
+        assertEquals(1, canonical[1]);
+        assertEquals(1, canonical[3]);
+        assertEquals(2, canonical[2]);
+    }
+
+    @Test
+    void keepsDissimilarDescriptionsApart() {
+        List<String> keys = List.of("shell oil", "shell gas station", "target", "tarjeta");
+        int[] canonical = clusterer.cluster(keys, new long[] { 1, 1, 1, 1 }, 0.6);
+
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, canonical);
+    }
+
+    @Test
+    void handlesTinyInputs() {
+        assertArrayEquals(new int[0], clusterer.cluster(List.of(), new long[0], 0.6));
+        assertArrayEquals(new int[] { 0 }, clusterer.cluster(List.of("uber"), new long[] { 3 }, 0.6));
+    }
+
+    @Test
+    void jaccardOfTrigramSets() {
+        int[] a = MerchantClusterer.shingles("uber");
+        assertEquals(1.0, MerchantClusterer.jaccard(a, MerchantClusterer.shingles("uber")), 1e-9);
+        assertNotEquals(1.0, MerchantClusterer.jaccard(a, MerchantClusterer.shingles("uber eats")));
+        assertEquals(0.0, MerchantClusterer.jaccard(a, MerchantClusterer.shingles("lyft")), 1e-9);
+    }
+}
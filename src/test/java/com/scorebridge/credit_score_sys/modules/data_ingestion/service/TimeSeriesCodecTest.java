@@ -0,0 +1,93 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeSeriesCodec}.
+ */
+class TimeSeriesCodecTest {
+
+    @Test
+    void roundTripsIrregularTimestampsAndValues() {
+        long[] timestamps = { 20_000, 20_001, 20_002, 20_002, 20_040, 20_300, 22_000, 1_000_000, 999_000, 1_000_001 };
+        double[] values = { 0.0, 0.0, -0.0, 12.5, -4300.75, Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN,
+                1e-300, 12.5 };
+
+        TimeSeriesCodec.Encoder encoder = new TimeSeriesCodec.Encoder();
+        for (int i = 0; i < timestamps.length; i++) {
+            encoder.add(timestamps[i], values[i]);
+        }
+        assertEquals(timestamps.length, encoder.count());
+
+        TimeSeriesCodec.Decoder decoder = new TimeSeriesCodec.Decoder(ByteBuffer.wrap(encoder.toByteArray()),
+                encoder.count());
+        for (int i = 0; i < timestamps.length; i++) {
+            assertTrue(decoder.next());
+            assertEquals(timestamps[i], decoder.timestamp());
+            assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(decoder.value()));
+        }
+        assertFalse(decoder.next());
+    }
+
+    @Test
+    void regularSeriesCostsAboutTwoBitsPerPoint() {
+        TimeSeriesCodec.Encoder encoder = new TimeSeriesCodec.Encoder();
+        for (int day = 0; day < 1000; day++) {
+            encoder.add(20_000 + day, 1250.0);
+        }
+        byte[] bytes = encoder.toByteArray();
+        // 128 bits for the first point, 9 + 1 for the first delta, then one
+        // bit each for timestamp and value
+        assertEquals((128 + 10 + 998 * 2 + 7) / 8, bytes.length);
+    }
+
+    @Test
+    void decodesFromTheBufferPosition() {
+        TimeSeriesCodec.Encoder encoder = new TimeSeriesCodec.Encoder();
+        encoder.add(100, 1.5);
+        encoder.add(101, 2.5);
+        byte[] series = encoder.toByteArray();
+
+        ByteBuffer buffer = ByteBuffer.allocate(series.length + 3);
+        buffer.put(new byte[] { 7, 7, 7 }).put(series).position(3);
+        TimeSeriesCodec.Decoder decoder = new TimeSeriesCodec.Decoder(buffer, 2);
+
+        assertTrue(decoder.next());
+        assertEquals(100L, decoder.timestamp());
+        assertTrue(decoder.next());
+        assertEquals(101L, decoder.timestamp());
+        assertEquals(2.5, decoder.value());
+        assertEquals(series.length, decoder.bytesRead());
+    }
+
+    @Test
+    void varLongsRoundTrip() throws IOException {
+        long[] values = { 0, 1, -1, 63, -64, 64, 300, -300, Long.MAX_VALUE, Long.MIN_VALUE };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (long value : values) {
+            TimeSeriesCodec.writeVarLong(out, value);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        for (long value : values) {
+            assertEquals(value, TimeSeriesCodec.readVarLong(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void smallVarLongsTakeOneByte() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TimeSeriesCodec.writeVarLong(out, -64);
+        TimeSeriesCodec.writeVarLong(out, 63);
+        assertEquals(2, out.size());
+    }
+}
@@ -0,0 +1,133 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.CategorySpendStats;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.CategorySpendStatsRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.user.model.User;
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+
+/**
+ * Concurrency tests for {@link TransactionAnomalyService}. Uploads run in
+ * transactions of their own, so nothing is rolled back automatically.
+ */
+@DataJpaTest
+@Import({ TransactionAnomalyService.class, DataIngestionConfig.class, TransactionCategoryRegistry.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionAnomalyServiceTest {
+
+    private static final List<String> CATEGORIES = List.of("Groceries", "Dining", "Travel");
+    private static final int UPLOADS = 8;
+    private static final int EXPENSES_PER_CATEGORY = 5;
+
+    @Autowired
+    private TransactionAnomalyService anomalyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FinancialAccountRepository accountRepository;
+
+    @Autowired
+    private CategorySpendStatsRepository statsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @AfterEach
+    void tearDown() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            statsRepository.deleteByUserId(user.getId());
+            accountRepository.deleteAll(accountRepository.findByUserId(user.getId()));
+            userRepository.delete(user);
+        });
+    }
+
+    @Test
+    void concurrentFirstUploadsOfACategoryAreAllApplied() throws Exception {
+        user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail("anomaly@example.com");
+        user.setHashedPassword("hash");
+        user = userRepository.save(user);
+
+        FinancialAccount account = new FinancialAccount();
+        account.setUser(user);
+        account.setInstitutionName("Bank");
+        account.setAccountType("checking");
+        account.setCurrentBalance(1000.0);
+        FinancialAccount savedAccount = accountRepository.save(account);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(UPLOADS);
+        try {
+            List<Future<Integer>> uploads = new ArrayList<>();
+            for (int i = 0; i < UPLOADS; i++) {
+                Callable<Integer> upload = () -> {
+                    start.await();
+                    return transactionTemplate.execute(
+                            status -> anomalyService.scoreTransactions(savedAccount, expenses()));
+                };
+                uploads.add(executor.submit(upload));
+            }
+            start.countDown();
+            for (Future<Integer> upload : uploads) {
+                assertEquals(0, upload.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<CategorySpendStats> stats = transactionTemplate
+                .execute(status -> statsRepository.findByUserIdForUpdate(user.getId()));
+        assertEquals(CATEGORIES.size(), stats.size());
+        for (CategorySpendStats categoryStats : stats) {
+            assertEquals((long) UPLOADS * EXPENSES_PER_CATEGORY, categoryStats.getObservationCount());
+        }
+    }
+
+    private static List<FinancialTransactions> expenses() {
+        List<FinancialTransactions> expenses = new ArrayList<>();
+        for (String category : CATEGORIES) {
+            for (int i = 0; i < EXPENSES_PER_CATEGORY; i++) {
+                FinancialTransactions transaction = new FinancialTransactions();
+                transaction.setAmount(40.0 + i);
+                transaction.setTransactionType("EXPENSE");
+                transaction.setCategory(category);
+                transaction.setTransactionDate(LocalDate.of(2025, 1, 1).plusDays(i));
+                expenses.add(transaction);
+            }
+        }
+        return expenses;
+    }
+}
@@ -0,0 +1,169 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.SpendingSummary;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialTransactionRepository;
+import com.scorebridge.credit_score_sys.modules.user.model.User;
+
+/**
+ * Compares the spending summary of a 100k-transaction user computed from the
+ * columnar cache with the same summary computed from JPA entities.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=TransactionColumnCacheBenchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({ TransactionColumnCache.class, SpendingAnalysisService.class, DataIngestionConfig.class,
+        TransactionCategoryRegistry.class })
+class TransactionColumnCacheBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int ACCOUNTS = 4;
+    private static final int MONTHS = 12;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 15;
+    private static final String[] EXPENSE_CATEGORIES = { "Rent", "Groceries", "Utilities", "Dining", "Travel" };
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionColumnCache columnCache;
+
+    @Autowired
+    private SpendingAnalysisService spendingAnalysisService;
+
+    @Autowired
+    private FinancialAccountRepository accountRepository;
+
+    @Autowired
+    private FinancialTransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionCategoryRegistry categoryRegistry;
+
+    @Test
+    void columnarSummaryIsFasterThanTheJpaPath() {
+        categoryRegistry.registerAll(List.of("Salary", "Rent", "Groceries", "Utilities", "Dining", "Travel"));
+        Long userId = persistUser();
+        List<Long> accountIds = accountRepository.findIdsByUserId(userId);
+
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusMonths(MONTHS);
+
+        long jpaNanos = median(() -> {
+            Map<String, Double> summary = jpaSummary(accountIds, from, today);
+            entityManager.clear();
+            return summary;
+        });
+        long coldNanos = median(() -> {
+            columnCache.evictAll();
+            return spendingAnalysisService.getSummary(userId, MONTHS);
+        });
+        long warmNanos = median(() -> spendingAnalysisService.getSummary(userId, MONTHS));
+
+        System.out.printf("Spending summary over %,d transactions: JPA entities %.1f ms, "
+                + "columnar cold %.1f ms, columnar warm %.3f ms%n",
+                ROWS, jpaNanos / 1e6, coldNanos / 1e6, warmNanos / 1e6);
+
+        Map<String, Double> expected = jpaSummary(accountIds, from, today);
+        SpendingSummary summary = spendingAnalysisService.getSummary(userId, MONTHS);
+        assertEquals(expected.get("INCOME"), summary.getTotalIncome(), 0.01);
+        assertEquals(expected.get("EXPENSE"), summary.getTotalExpenses(), 0.01);
+        for (String category : EXPENSE_CATEGORIES) {
+            assertEquals(expected.get(category), summary.getExpensesByCategory().get(category), 0.01);
+        }
+        assertTrue(warmNanos < jpaNanos, "columnar cache is faster than loading entities");
+    }
+
+    /**
+     * Computes the summary the way it was computed before the columnar cache:
+     * from the entities of every account.
+     */
+    private Map<String, Double> jpaSummary(List<Long> accountIds, LocalDate from, LocalDate to) {
+        Map<String, Double> totals = new HashMap<>();
+        for (Long accountId : accountIds) {
+            for (FinancialTransactions transaction : transactionRepository.findByAccountIdAndDateRange(accountId,
+                    from, to)) {
+                totals.merge(transaction.getTransactionType(), transaction.getAmount(), Double::sum);
+                if ("EXPENSE".equals(transaction.getTransactionType())) {
+                    totals.merge(transaction.getCategory(), transaction.getAmount(), Double::sum);
+                }
+            }
+        }
+        return totals;
+    }
+
+    private Long persistUser() {
+        User user = new User();
+        user.setFirstName("Bench");
+        user.setLastName("User");
+        user.setEmail("columnar-benchmark@example.com");
+        user.setHashedPassword("hash");
+        entityManager.persist(user);
+
+        LocalDate today = LocalDate.now();
+        for (int a = 0; a < ACCOUNTS; a++) {
+            FinancialAccount account = new FinancialAccount();
+            account.setUser(user);
+            account.setInstitutionName("Bank " + a);
+            account.setAccountType("checking");
+            account.setCurrentBalance(1000.0);
+            entityManager.persist(account);
+
+            for (int t = 0; t < ROWS / ACCOUNTS; t++) {
+                boolean income = t % 20 == 0;
+                FinancialTransactions transaction = new FinancialTransactions();
+                transaction.setAccount(account);
+                transaction.setAmount(income ? 2500.0 : 5.0 + t % 200);
+                transaction.setTransactionType(income ? "INCOME" : "EXPENSE");
+                transaction.setCategory(income ? "Salary" : EXPENSE_CATEGORIES[t % EXPENSE_CATEGORIES.length]);
+                transaction.setDescription("POS " + (t % 1000));
+                transaction.setTransactionDate(today.minusDays(t % 365));
+                entityManager.persist(transaction);
+                if (t % 5_000 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    account = entityManager.find(FinancialAccount.class, account.getId());
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return user.getId();
+    }
+
+    private static long median(Supplier<?> action) {
+        for (int i = 0; i < WARMUP; i++) {
+            action.get();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            action.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[ITERATIONS / 2];
+    }
+}
@@ -0,0 +1,105 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.config.DataIngestionConfig;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.CacheEpoch;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialTransactions;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.CacheEpochRepository;
+import com.scorebridge.credit_score_sys.modules.user.model.User;
+
+/**
+ * Invalidation tests for {@link TransactionColumnCache}.
+ */
+@DataJpaTest
+@Import({ TransactionColumnCache.class, DataIngestionConfig.class, TransactionCategoryRegistry.class })
+class TransactionColumnCacheTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionColumnCache columnCache;
+
+    @Autowired
+    private CacheEpochRepository epochRepository;
+
+    @Autowired
+    private TransactionCategoryRegistry categoryRegistry;
+
+    private User user;
+    private FinancialAccount account;
+
+    @BeforeEach
+    void setUp() {
+        categoryRegistry.registerAll(List.of("Groceries"));
+        user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setEmail("columns@example.com");
+        user.setHashedPassword("hash");
+        entityManager.persist(user);
+
+        account = new FinancialAccount();
+        account.setUser(user);
+        account.setInstitutionName("Bank");
+        account.setAccountType("checking");
+        account.setCurrentBalance(1000.0);
+        entityManager.persist(account);
+        persistExpense();
+    }
+
+    @Test
+    void cachedColumnsAreReusedWhileNothingChanged() {
+        UserTransactionColumns first = columnCache.get(user.getId());
+        assertSame(first, columnCache.get(user.getId()));
+    }
+
+    @Test
+    void incrementingTheGlobalEpochReloadsEveryUser() {
+        assertEquals(1, columnCache.get(user.getId()).size());
+
+        // A row written without going through the cache is only seen after
+        // another instance bumps the epoch
+        persistExpense();
+        assertEquals(1, columnCache.get(user.getId()).size());
+
+        epochRepository.saveAndFlush(CacheEpoch.builder()
+                .name(TransactionColumnCache.EPOCH_NAME)
+                .epoch(epochRepository.findEpoch(TransactionColumnCache.EPOCH_NAME).orElse(0L) + 1)
+                .build());
+        assertEquals(2, columnCache.get(user.getId()).size());
+    }
+
+    @Test
+    void evictAllIncrementsTheGlobalEpoch() {
+        long before = epochRepository.findEpoch(TransactionColumnCache.EPOCH_NAME).orElse(0L);
+        columnCache.evictAll();
+        columnCache.evictAll();
+        assertEquals(before + 2, epochRepository.findEpoch(TransactionColumnCache.EPOCH_NAME).orElse(0L));
+    }
+
+    private void persistExpense() {
+        FinancialTransactions transaction = new FinancialTransactions();
+        transaction.setAccount(account);
+        transaction.setAmount(25.0);
+        transaction.setTransactionType("EXPENSE");
+        transaction.setCategory("Groceries");
+        transaction.setDescription("GROCERY STORE");
+        transaction.setTransactionDate(LocalDate.of(2025, 1, 1));
+        entityManager.persist(transaction);
+        entityManager.flush();
+    }
+}
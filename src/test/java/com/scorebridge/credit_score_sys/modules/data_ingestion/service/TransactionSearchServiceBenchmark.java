@@ -0,0 +1,205 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionSearchResponse;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.FinancialAccount;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.model.TransactionType;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.repository.FinancialAccountRepository;
+import com.scorebridge.credit_score_sys.modules.user.model.User;
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+
+/**
+ * Measures search latency over 1,000,000 indexed transactions: 900 users with
+ * 1,000 transactions each and one user with 100,000. The database is a
+ * file-backed H2 database, so the postings do not have to fit in the heap.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=TransactionSearchServiceBenchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./target/benchmark/search;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "logging.level.com.scorebridge=INFO"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TransactionSearchService.class, TransactionCategoryRegistry.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+class TransactionSearchServiceBenchmark {
+
+    private static final int USERS = 900;
+    private static final int ROWS_PER_USER = 1_000;
+    private static final int HEAVY_USER_ROWS = 100_000;
+    private static final int INSERT_BATCH = 10_000;
+    private static final int SAMPLED_USERS = 200;
+    private static final int HEAVY_ITERATIONS = 20;
+
+    private static final String[] MERCHANTS = { "Coffee Corner", "Fresh Grocery", "City Fuel", "Pizza Palace",
+            "Book Nook", "Metro Transit", "Green Grocer", "Cinema World", "Pharmacy Plus", "Hardware Hub",
+            "Sushi Bar", "Pet Supplies", "Gym Central", "Electric Utility", "Water Works", "Bakery Bliss",
+            "Taxi Express", "Burger Barn", "Music Store", "Garden Center" };
+    private static final String[] CITIES = { "Springfield", "Riverside", "Lakeside", "Hillview", "Downtown",
+            "Harbor", "Westfield", "Northgate", "Eastwood", "Southport" };
+    private static final String[] CATEGORIES = { "Groceries", "Dining", "Transportation", "Entertainment",
+            "Shopping", "Utilities" };
+
+    @Autowired
+    private TransactionSearchService searchService;
+
+    @Autowired
+    private TransactionCategoryRegistry categoryRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FinancialAccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void searchLatencyAtOneMillionTransactions() {
+        categoryRegistry.registerAll(List.of(CATEGORIES));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        List<Long> userIds = new ArrayList<>();
+        List<Long> accountIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int u = 0; u <= USERS; u++) {
+                User user = new User();
+                user.setFirstName("Search");
+                user.setLastName("User " + u);
+                user.setEmail("search-" + u + "@example.com");
+                user.setHashedPassword("hash");
+                user = userRepository.save(user);
+
+                FinancialAccount account = new FinancialAccount();
+                account.setUser(user);
+                account.setInstitutionName("Bank");
+                account.setAccountType("checking");
+                account.setCurrentBalance(1000.0);
+                userIds.add(user.getId());
+                accountIds.add(accountRepository.save(account).getId());
+            }
+        });
+
+        long start = System.nanoTime();
+        for (int u = 0; u < USERS; u++) {
+            insertTransactions(transactionTemplate, accountIds.get(u), ROWS_PER_USER);
+        }
+        Long heavyUser = userIds.get(USERS);
+        insertTransactions(transactionTemplate, accountIds.get(USERS), HEAVY_USER_ROWS);
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        long indexed = searchService.rebuildIndex();
+        long indexMillis = (System.nanoTime() - start) / 1_000_000;
+        long postings = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_search_terms", Long.class);
+        assertEquals((long) USERS * ROWS_PER_USER + HEAVY_USER_ROWS, indexed);
+        System.out.printf("Loaded %,d transactions in %,d ms, indexed %,d postings in %,d ms%n",
+                indexed, loadMillis, postings, indexMillis);
+
+        LocalDate today = LocalDate.now();
+        List<Query> queries = List.of(
+                new Query("exact term", "coffee", null),
+                new Query("prefix", "gro*", null),
+                new Query("two terms", "grocery downtown", null),
+                new Query("term, last 30 days", "coffee", today.minusDays(30)));
+
+        // Warm up the connection pool, query plans and JIT
+        Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            for (Query query : queries) {
+                query.run(searchService, userIds.get(random.nextInt(USERS)));
+            }
+        }
+
+        for (Query query : queries) {
+            long[] typical = new long[SAMPLED_USERS];
+            for (int i = 0; i < SAMPLED_USERS; i++) {
+                typical[i] = query.time(searchService, userIds.get(random.nextInt(USERS)));
+            }
+            long[] heavy = new long[HEAVY_ITERATIONS];
+            for (int i = 0; i < HEAVY_ITERATIONS; i++) {
+                heavy[i] = query.time(searchService, heavyUser);
+            }
+            System.out.printf("%-20s 1k-row users p50 %6.2f ms p95 %6.2f ms | 100k-row user p50 %7.2f ms "
+                    + "p95 %7.2f ms (%,d matches)%n", query.label(), percentile(typical, 50),
+                    percentile(typical, 95), percentile(heavy, 50), percentile(heavy, 95),
+                    query.run(searchService, heavyUser).getTotalResults());
+        }
+
+        // Every twentieth row of a user is at the coffee merchant
+        assertEquals(ROWS_PER_USER / MERCHANTS.length,
+                queries.get(0).run(searchService, userIds.get(0)).getTotalResults());
+        assertEquals(HEAVY_USER_ROWS / MERCHANTS.length,
+                queries.get(0).run(searchService, heavyUser).getTotalResults());
+    }
+
+    private void insertTransactions(TransactionTemplate transactionTemplate, Long accountId, int rows) {
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < rows; from += INSERT_BATCH) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+            for (int t = from; t < Math.min(rows, from + INSERT_BATCH); t++) {
+                String merchant = MERCHANTS[t % MERCHANTS.length];
+                String city = CITIES[(t / MERCHANTS.length) % CITIES.length];
+                String category = CATEGORIES[t % CATEGORIES.length];
+                batch.add(new Object[] { accountId, 5.0 + t % 200, TransactionType.EXPENSE.getCode(),
+                        categoryRegistry.encode(category), "POS " + merchant + " " + city, merchant,
+                        Date.valueOf(today.minusDays(t % 730)), now, now });
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO financial_transactions (account_id, amount, type_code, category_id, description, "
+                            + "merchant, transaction_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    batch));
+        }
+    }
+
+    private static double percentile(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private record Query(String label, String text, LocalDate startDate) {
+
+        TransactionSearchResponse run(TransactionSearchService searchService, Long userId) {
+            return searchService.search(userId, text, startDate, null, 0, 20);
+        }
+
+        long time(TransactionSearchService searchService, Long userId) {
+            long start = System.nanoTime();
+            run(searchService, userId);
+            return System.nanoTime() - start;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.scorebridge.credit_score_sys.modules.data_ingestion.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialAccountDto;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.FinancialProfileRequest;
+import com.scorebridge.credit_score_sys.modules.data_ingestion.dto.TransactionDto;
+
+/**
+ * JMH benchmark of {@link FinancialDataValidator#validateProfile} for valid
+ * profiles of 20 x 1,000 and 200 x 10,000 transactions.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=FinancialDataValidatorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FinancialDataValidatorBenchmark {
+
+    private static final String[] CATEGORIES = { "Salary", "Rent", "Groceries", "Utilities", "Dining" };
+
+    @Param({ "20x1000", "200x10000" })
+    public String shape;
+
+    private final FinancialDataValidator validator = new FinancialDataValidator();
+
+    private FinancialProfileRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] size = shape.split("x");
+        request = profile(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+    }
+
+    @Benchmark
+    public List<String> validateProfile() {
+        return validator.validateProfile(request);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(FinancialDataValidatorBenchmark.class.getName())
+                .build()).run();
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void largestProfileIsValid() {
+        assertTrue(validator.validateProfile(profile(200, 10_000)).isEmpty());
+    }
+
+    static FinancialProfileRequest profile(int accounts, int transactionsPerAccount) {
+        LocalDate today = LocalDate.now();
+        List<FinancialAccountDto> accountDtos = new ArrayList<>(accounts);
+        for (int a = 0; a < accounts; a++) {
+            List<TransactionDto> transactions = new ArrayList<>(transactionsPerAccount);
+            for (int t = 0; t < transactionsPerAccount; t++) {
+                boolean income = t % 10 == 0;
+                transactions.add(TransactionDto.builder()
+                        .amount(income ? 2500.0 : 10.0 + t % 300)
+                        .transactionType(income ? "INCOME" : "EXPENSE")
+                        .category(income ? "Salary" : CATEGORIES[1 + t % (CATEGORIES.length - 1)])
+                        .description("POS PURCHASE " + (t % 500))
+                        .transactionDate(today.minusDays(t % 365))
+                        .build());
+            }
+            accountDtos.add(FinancialAccountDto.builder()
+                    .institutionName("Bank " + a)
+                    .accountType("checking")
+                    .accountNumberLast4(String.format("%04d", a))
+                    .currentBalance(5000.0)
+                    .transactions(transactions)
+                    .build());
+        }
+        return FinancialProfileRequest.builder().userId(1L).accounts(accountDtos).build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.scorebridge.credit_score_sys.modules.user.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.scorebridge.credit_score_sys.modules.scoring.dto.MlModelResponse;
+import com.scorebridge.credit_score_sys.modules.scoring.service.MlModelClient;
+import com.scorebridge.credit_score_sys.modules.user.model.User;
+import com.scorebridge.credit_score_sys.modules.user.repository.UserRepository;
+
+/**
+ * Load test of {@link BoundedPasswordEncoder}: a login flood saturates the
+ * hashing pool while score calculations are timed. Logins beyond the pool and
+ * its queue must be rejected with 429, and scoring must keep answering 200
+ * within {@link #MAX_SCORING_P95_MS}. Login throttling is relaxed so that
+ * every login reaches the encoder, and the ML model is mocked.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=BoundedPasswordEncoderLoadTest}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=load-test-secret-load-test-secret-load-test-secret-0123456789",
+        "password-hashing.bcrypt-strength=12",
+        "password-hashing.threads=1",
+        "password-hashing.queue-capacity=2",
+        "password-hashing.max-wait-ms=2000",
+        "login-throttle.ip.capacity=1000000",
+        "login-throttle.ip.refill-per-minute=1000000",
+        "login-throttle.email.capacity=1000000",
+        "login-throttle.email.refill-per-minute=1000000",
+        "logging.level.com.scorebridge=WARN"
+})
+class BoundedPasswordEncoderLoadTest {
+
+    private static final String EMAIL = "load-test@example.com";
+    private static final String PASSWORD = "Load-Test-Passw0rd!";
+
+    private static final int LOGIN_CLIENTS = 8;
+    private static final int WARMUP = 20;
+    private static final int SCORING_REQUESTS = 100;
+    private static final long MAX_SCORING_P95_MS = 1_000;
+
+    private static final String SCORE_REQUEST = """
+            {"age": 30, "annualIncome": 60000.0, "monthlySalary": 4200.0, "monthlyBalance": 2500.0,
+             "numBankAccounts": 2, "numCreditCards": 2, "interestRate": 6.5, "numLoans": 1,
+             "delayFromDueDate": 2, "numDelayedPayments": 1, "numCreditInquiries": 2,
+             "creditUtilizationRatio": 25.0, "creditHistoryAgeMonths": 84, "totalEmiPerMonth": 300.0,
+             "amountInvestedMonthly": 200.0, "outstandingDebt": 5000.0}""";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @MockBean
+    private MlModelClient mlModelClient;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    void scoringIsUnaffectedBySaturatedPasswordHashing() throws Exception {
+        when(mlModelClient.predict(any())).thenReturn(MlModelResponse.builder()
+                .predictedScore(720).scoreCategory("GOOD")
+                .paymentConsistency(0.8).incomeReliability(0.7).transactionPatterns(0.75).savingsStability(0.6)
+                .alphaWeight(0.35).betaWeight(0.25).gammaWeight(0.2).deltaWeight(0.2)
+                .modelVersion("load-test").confidenceLevel(0.9)
+                .build());
+
+        User user = new User();
+        user.setFirstName("Load");
+        user.setLastName("Test");
+        user.setEmail(EMAIL);
+        user.setHashedPassword(passwordEncoder.getDelegate().encode(PASSWORD));
+        userRepository.save(user);
+
+        for (int i = 0; i < WARMUP; i++) {
+            calculateScore();
+        }
+        long[] baseline = timeScoring();
+
+        Map<Integer, AtomicInteger> loginStatuses = new ConcurrentHashMap<>();
+        AtomicBoolean flooding = new AtomicBoolean(true);
+        List<Thread> loginClients = new ArrayList<>();
+        String login = "{\"email\": \"" + EMAIL + "\", \"password\": \"" + PASSWORD + "\"}";
+        for (int c = 0; c < LOGIN_CLIENTS; c++) {
+            Thread loginClient = new Thread(() -> {
+                while (flooding.get()) {
+                    int status = post("/api/auth/login", login).statusCode();
+                    loginStatuses.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+                }
+            }, "login-flood-" + c);
+            loginClient.start();
+            loginClients.add(loginClient);
+        }
+
+        long[] loaded;
+        try {
+            // Let the flood fill the pool and its queue
+            Thread.sleep(2_000);
+            loaded = timeScoring();
+        } finally {
+            flooding.set(false);
+            for (Thread loginClient : loginClients) {
+                loginClient.join();
+            }
+        }
+
+        System.out.printf("Scoring without login flood: p50 %.1f ms, p95 %.1f ms; during flood: p50 %.1f ms, "
+                + "p95 %.1f ms%n", percentile(baseline, 50), percentile(baseline, 95), percentile(loaded, 50),
+                percentile(loaded, 95));
+        System.out.printf("Login responses during flood: %s; hashes rejected by the pool: %d%n", loginStatuses,
+                passwordEncoder.getRejectedCount());
+
+        assertTrue(loginStatuses.containsKey(429), "the login flood saturates the hashing pool");
+        assertTrue(percentile(loaded, 95) < MAX_SCORING_P95_MS,
+                "scoring p95 stays below " + MAX_SCORING_P95_MS + " ms during the login flood");
+    }
+
+    /**
+     * Times sequential score calculations, each of which must succeed.
+     *
+     * @return the latencies in nanoseconds
+     */
+    private long[] timeScoring() {
+        long[] nanos = new long[SCORING_REQUESTS];
+        for (int i = 0; i < SCORING_REQUESTS; i++) {
+            long start = System.nanoTime();
+            calculateScore();
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    private void calculateScore() {
+        HttpResponse<String> response = post("/api/score/calculate", SCORE_REQUEST);
+        assertEquals(200, response.statusCode(), response.body());
+    }
+
+    private HttpResponse<String> post(String path, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            throw new IllegalStateException("Request to " + path + " failed", e);
+        }
+    }
+
+    private static double percentile(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
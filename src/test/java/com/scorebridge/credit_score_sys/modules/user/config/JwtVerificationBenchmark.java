@@ -0,0 +1,86 @@
+package com.scorebridge.credit_score_sys.modules.user.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JMH benchmark of {@link JwtUtil#extractAllClaims} for a token carrying the
+ * principal claims, with the verified token cache enabled and with a cache
+ * that never stores a token, so every call verifies the signature.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=JwtVerificationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    @Param({ "true", "false" })
+    public boolean cached;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VerifiedTokenCache cache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", cached ? 10_000 : 0);
+        jwtUtil = new JwtUtil(cache);
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        jwtUtil.init();
+
+        token = jwtUtil.generateToken(
+                User.withUsername("benchmark@example.com").password("unused").roles("USER").build(),
+                Map.of(JwtUtil.CLAIM_USER_ID, 42L,
+                        JwtUtil.CLAIM_NAME, "Bench User",
+                        JwtUtil.CLAIM_ROLES, List.of("ROLE_USER"),
+                        JwtUtil.CLAIM_SECURITY_STAMP, "0b6f3c1e-2d4a-4f59-8a77-3c2e1d0f9b8a"));
+    }
+
+    @Benchmark
+    public Claims extractAllClaims() {
+        return jwtUtil.extractAllClaims(token);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getName())
+                .build()).run();
+        assertEquals(2, results.size());
+    }
+}
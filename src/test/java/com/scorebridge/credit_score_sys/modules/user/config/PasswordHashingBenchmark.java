@@ -0,0 +1,86 @@
+package com.scorebridge.credit_score_sys.modules.user.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * JMH benchmark of password hashing configurations. For each configuration it
+ * reports the latency of one verification on a single thread and the login
+ * throughput with one thread per CPU verifying passwords at once. Use it to
+ * choose password-hashing.algorithm and password-hashing.bcrypt-strength from
+ * data on the machine the application runs on.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=PasswordHashingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Benchmark-Passw0rd!";
+
+    /**
+     * Configuration to measure, as "bcrypt:cost" or "pbkdf2".
+     */
+    @Param({ "bcrypt:10", "bcrypt:11", "bcrypt:12", "bcrypt:13", "pbkdf2" })
+    public String configuration;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = configuration.split(":");
+        int strength = parts.length > 1 ? Integer.parseInt(parts[1]) : 12;
+        encoder = PasswordEncoderFactory.create(parts[0], strength);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public boolean verifyLatency() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(Threads.MAX)
+    public boolean verifyThroughput() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(PasswordHashingBenchmark.class.getName())
+                .build()).run();
+        assertFalse(results.isEmpty());
+    }
+}
@@ -0,0 +1,34 @@
+package com.scorebridge.credit_score_sys.modules.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.scorebridge.credit_score_sys.modules.user.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Metrics tests for {@link LoginThrottleService}.
+ */
+class LoginThrottleServiceTest {
+
+    @Test
+    void publishesAllowedAndRejectedAttemptsPerLimit() {
+        LoginThrottleService throttle = new LoginThrottleService(3, 1, 2, 1, 1_000);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        throttle.bindTo(registry);
+
+        throttle.checkAttempt("10.0.0.1", "a@example.com");
+        throttle.checkAttempt("10.0.0.1", "a@example.com");
+        assertThrows(TooManyRequestsException.class, () -> throttle.checkAttempt("10.0.0.1", "a@example.com"));
+        assertThrows(TooManyRequestsException.class, () -> throttle.checkAttempt("10.0.0.1", "b@example.com"));
+
+        assertEquals(2, registry.get("login.throttle.allowed").functionCounter().count());
+        assertEquals(1, registry.get("login.throttle.rejected").tag("limit", "email").functionCounter().count());
+        assertEquals(1, registry.get("login.throttle.rejected").tag("limit", "ip").functionCounter().count());
+        assertEquals(1, registry.get("login.throttle.tracked.keys").tag("limit", "ip").gauge().value());
+        assertEquals(1, registry.get("login.throttle.tracked.keys").tag("limit", "email").gauge().value());
+    }
+}
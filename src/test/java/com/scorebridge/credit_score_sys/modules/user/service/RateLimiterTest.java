@@ -0,0 +1,73 @@
+package com.scorebridge.credit_score_sys.modules.user.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RateLimiter}.
+ */
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        RateLimiter limiter = new RateLimiter(3, 60, 100);
+        assertTrue(limiter.tryAcquire("a", 0));
+        assertTrue(limiter.tryAcquire("a", 0));
+        assertTrue(limiter.tryAcquire("a", 0));
+        assertFalse(limiter.tryAcquire("a", 0));
+    }
+
+    @Test
+    void refillsOneAttemptPerInterval() {
+        RateLimiter limiter = new RateLimiter(2, 60, 100);
+        assertTrue(limiter.tryAcquire("a", 0));
+        assertTrue(limiter.tryAcquire("a", 0));
+        assertFalse(limiter.tryAcquire("a", SECOND / 2));
+        assertTrue(limiter.tryAcquire("a", SECOND));
+        assertFalse(limiter.tryAcquire("a", SECOND));
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        RateLimiter limiter = new RateLimiter(1, 1, 100);
+        assertTrue(limiter.tryAcquire("a", 0));
+        assertFalse(limiter.tryAcquire("a", 0));
+        assertTrue(limiter.tryAcquire("b", 0));
+    }
+
+    @Test
+    void evictsOnlyRefilledBuckets() {
+        RateLimiter limiter = new RateLimiter(2, 60, 100);
+        limiter.tryAcquire("a", 0);
+        limiter.tryAcquire("b", 0);
+        limiter.tryAcquire("b", 0);
+
+        assertEquals(1, limiter.evictIdle(SECOND));
+        assertEquals(1, limiter.size());
+        assertEquals(1, limiter.evictIdle(2 * SECOND));
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    void fullMapEvictsBucketsClosestToFullInsteadOfRejecting() {
+        RateLimiter limiter = new RateLimiter(10, 60, 10);
+        for (int i = 0; i < 10; i++) {
+            // Key i takes i + 1 attempts, so none is idle and key0 is closest to full
+            for (int attempt = 0; attempt <= i; attempt++) {
+                assertTrue(limiter.tryAcquire("key" + i, 0));
+            }
+        }
+
+        assertTrue(limiter.tryAcquire("new", 0));
+        assertEquals(10, limiter.size());
+
+        // The most throttled key kept its state
+        assertFalse(limiter.tryAcquire("key9", 0));
+        assertTrue(limiter.tryAcquire("key8", 0));
+    }
+}